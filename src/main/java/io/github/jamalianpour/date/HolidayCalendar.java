@@ -0,0 +1,395 @@
+package io.github.jamalianpour.date;
+
+import io.github.jamalianpour.date.JalaliDate.JalaliDateRange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable calendar of holidays assembled from pluggable sources.
+ * <p>
+ * Holidays come from recurring Jalali dates (such as Nowruz), one-off dates supplied as data
+ * (such as lunar holidays published each year, or bridge days), date ranges (such as company
+ * closures) and custom {@link Source} implementations. The sources are evaluated once per Jalali
+ * year into a 366-bit set, so {@link #isHoliday(long)} is a constant-time bit test afterwards.
+ * <p>
+ * Weekends are not part of a holiday calendar. When several sources name the same day, the name
+ * from the source added first is kept.
+ *
+ * <pre>{@code
+ * HolidayCalendar calendar = HolidayCalendar.builder()
+ *         .iranianHolidays()
+ *         .date(JalaliDate.of(1403, 4, 25), "Ashura")
+ *         .closure(JalaliDate.between(JalaliDate.of(1403, 1, 5), JalaliDate.of(1403, 1, 9)), "Office closed")
+ *         .build();
+ * }</pre>
+ */
+public final class HolidayCalendar {
+
+    private static final int DAYS_PER_YEAR_MAX = 366;
+
+    private static final HolidayCalendar IRAN = builder().iranianHolidays().build();
+
+    private static volatile HolidayCalendar defaultCalendar = IRAN;
+
+    private final List<Source> sources;
+    private final AtomicReferenceArray<YearHolidays> years = new AtomicReferenceArray<>(3179);
+
+    private HolidayCalendar(List<Source> sources) {
+        this.sources = sources;
+    }
+
+    /**
+     * Source of holidays for a Jalali year.
+     * Implementations must be thread-safe and return the same holidays every time they are asked.
+     */
+    @FunctionalInterface
+    public interface Source {
+        /**
+         * Reports the holidays of the specified year.
+         *
+         * @param year the Jalali year
+         * @param sink the sink receiving the holidays
+         */
+        void addHolidays(int year, Sink sink);
+    }
+
+    /**
+     * Receiver of holidays reported by a {@link Source}.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * Marks a day of the current year as a holiday.
+         *
+         * @param month the month (1-12)
+         * @param day   the day of month
+         * @param name  the holiday name, not null
+         * @throws IllegalArgumentException if the day does not exist in the current year
+         */
+        void add(int month, int day, String name);
+    }
+
+    /**
+     * Gets the calendar of official Iranian holidays with a fixed Jalali date.
+     *
+     * @return the Iranian holiday calendar
+     */
+    public static HolidayCalendar iran() {
+        return IRAN;
+    }
+
+    /**
+     * Gets the calendar used by {@link JalaliDate#isHoliday()} and related methods.
+     *
+     * @return the default calendar, {@link #iran()} unless replaced
+     */
+    public static HolidayCalendar getDefault() {
+        return defaultCalendar;
+    }
+
+    /**
+     * Replaces the calendar used by {@link JalaliDate#isHoliday()} and related methods.
+     *
+     * @param calendar the new default calendar, not null
+     */
+    public static void setDefault(HolidayCalendar calendar) {
+        defaultCalendar = Objects.requireNonNull(calendar, "calendar");
+    }
+
+    /**
+     * Creates a builder for a new holiday calendar.
+     *
+     * @return a new empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks if the epoch day is a holiday.
+     *
+     * @param epochDay the number of days from 1970-01-01
+     * @return true if the day is a holiday
+     * @throws IllegalArgumentException if the epoch day is outside the supported range
+     */
+    public boolean isHoliday(long epochDay) {
+        JalaliDate.checkEpochDay(epochDay);
+        int year = JalaliDate.yearOfEpochDay(epochDay);
+        return yearHolidays(year).contains((int) (epochDay - JalaliDate.firstEpochDayOfYear(year)));
+    }
+
+    /**
+     * Checks if the date is a holiday.
+     *
+     * @param date the date to check, not null
+     * @return true if the date is a holiday
+     */
+    public boolean isHoliday(JalaliDate date) {
+        return yearHolidays(date.getYear()).contains(JalaliDate.dayOfYear(date.getMonth(), date.getDay()) - 1);
+    }
+
+    /**
+     * Gets the name of the holiday on the epoch day.
+     *
+     * @param epochDay the number of days from 1970-01-01
+     * @return the holiday name, or null if the day is not a holiday
+     * @throws IllegalArgumentException if the epoch day is outside the supported range
+     */
+    public String getHolidayName(long epochDay) {
+        JalaliDate.checkEpochDay(epochDay);
+        int year = JalaliDate.yearOfEpochDay(epochDay);
+        return yearHolidays(year).names[(int) (epochDay - JalaliDate.firstEpochDayOfYear(year))];
+    }
+
+    /**
+     * Gets the name of the holiday on the date.
+     *
+     * @param date the date to check, not null
+     * @return the holiday name, or null if the date is not a holiday
+     */
+    public String getHolidayName(JalaliDate date) {
+        return yearHolidays(date.getYear()).names[JalaliDate.dayOfYear(date.getMonth(), date.getDay()) - 1];
+    }
+
+    /**
+     * Gets all holidays of the specified year.
+     *
+     * @param year the Jalali year, from 1 to 3178
+     * @return the holidays of the year, sorted by date
+     * @throws IllegalArgumentException if the year is out of range
+     */
+    public List<JalaliDate> getHolidays(int year) {
+        YearHolidays holidays = yearHolidays(year);
+        long first = JalaliDate.firstEpochDayOfYear(year);
+        List<JalaliDate> result = new ArrayList<>(holidays.count);
+        for (int i = holidays.next(0); i >= 0; i = holidays.next(i + 1)) {
+            result.add(JalaliDate.ofEpochDay(first + i));
+        }
+        return result;
+    }
+
+    /**
+     * Counts the holidays of the specified year.
+     *
+     * @param year the Jalali year, from 1 to 3178
+     * @return the number of holidays in the year
+     * @throws IllegalArgumentException if the year is out of range
+     */
+    public int countHolidays(int year) {
+        return yearHolidays(year).count;
+    }
+
+    /**
+     * Checks if a day, given as a 0-based index into the year, is a holiday.
+     */
+    boolean isHoliday(int year, int dayIndex) {
+        return yearHolidays(year).contains(dayIndex);
+    }
+
+    private YearHolidays yearHolidays(int year) {
+        if (year < 1 || year > 3178) {
+            throw new IllegalArgumentException("Year must be between 1 and 3178");
+        }
+        YearHolidays holidays = years.get(year);
+        if (holidays == null) {
+            holidays = compute(year);
+            // Computing twice is harmless; keep the first published set
+            YearHolidays existing = years.compareAndExchange(year, null, holidays);
+            if (existing != null) holidays = existing;
+        }
+        return holidays;
+    }
+
+    private YearHolidays compute(int year) {
+        YearHolidays holidays = new YearHolidays();
+        Sink sink = (month, day, name) -> {
+            JalaliDate.validate(year, month, day);
+            Objects.requireNonNull(name, "name");
+            holidays.add(JalaliDate.dayOfYear(month, day) - 1, name);
+        };
+        for (Source source : sources) {
+            source.addHolidays(year, sink);
+        }
+        return holidays;
+    }
+
+    /**
+     * Holidays of one year as a bit per day of year, with the name of each holiday.
+     */
+    private static final class YearHolidays {
+        final long[] bits = new long[(DAYS_PER_YEAR_MAX + 63) >>> 6];
+        final String[] names = new String[DAYS_PER_YEAR_MAX];
+        int count;
+
+        void add(int dayOfYear, String name) {
+            if (contains(dayOfYear)) return;
+            bits[dayOfYear >>> 6] |= 1L << dayOfYear;
+            names[dayOfYear] = name;
+            count++;
+        }
+
+        boolean contains(int dayOfYear) {
+            return (bits[dayOfYear >>> 6] & (1L << dayOfYear)) != 0;
+        }
+
+        int next(int from) {
+            int word = from >>> 6;
+            if (word >= bits.length) return -1;
+            long w = bits[word] & (-1L << from);
+            while (true) {
+                if (w != 0) return (word << 6) + Long.numberOfTrailingZeros(w);
+                if (++word == bits.length) return -1;
+                w = bits[word];
+            }
+        }
+    }
+
+    // ------------------------
+    // Builder
+    // ------------------------
+
+    /**
+     * Builder of {@link HolidayCalendar} instances. Sources are consulted in the order they are added.
+     */
+    public static class Builder {
+        private final List<Source> sources = new ArrayList<>();
+        private NavigableMap<Long, String> days;
+        private int daysIndex = -1;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds the official Iranian holidays with a fixed Jalali date.
+         *
+         * @return this, for method chaining
+         */
+        public Builder iranianHolidays() {
+            return fixed(1, 1, "Nowruz")
+                    .fixed(1, 2, "Nowruz Holiday")
+                    .fixed(1, 3, "Nowruz Holiday")
+                    .fixed(1, 4, "Nowruz Holiday")
+                    .fixed(1, 12, "Islamic Republic Day")
+                    .fixed(1, 13, "Sizdah Bedar")
+                    .fixed(3, 14, "Death of Imam Khomeini")
+                    .fixed(3, 15, "Revolt of Khordad 15")
+                    .fixed(11, 22, "Victory of Islamic Revolution")
+                    .fixed(12, 29, "Oil Nationalization Day");
+        }
+
+        /**
+         * Adds a holiday falling on the same Jalali month and day every year.
+         * A day that does not exist in a year, such as Esfand 30 of a common year, is skipped.
+         *
+         * @param month the month (1-12)
+         * @param day   the day of month (1-31)
+         * @param name  the holiday name, not null
+         * @return this, for method chaining
+         * @throws IllegalArgumentException if the month and day never exist
+         */
+        public Builder fixed(int month, int day, String name) {
+            if (month < 1 || month > 12 || day < 1 || day > (month <= 6 ? 31 : 30)) {
+                throw new IllegalArgumentException("Invalid holiday month and day: " + month + "-" + day);
+            }
+            Objects.requireNonNull(name, "name");
+            return source((year, sink) -> {
+                if (JalaliDate.isValid(year, month, day)) sink.add(month, day, name);
+            });
+        }
+
+        /**
+         * Adds a one-off holiday, such as a lunar holiday or a bridge day.
+         *
+         * @param date the holiday, not null
+         * @param name the holiday name, not null
+         * @return this, for method chaining
+         */
+        public Builder date(JalaliDate date, String name) {
+            Objects.requireNonNull(name, "name");
+            days().putIfAbsent(date.toEpochDay(), name);
+            return this;
+        }
+
+        /**
+         * Adds one-off holidays supplied as data, such as a published table of lunar holidays.
+         *
+         * @param dates the holidays mapped to their names, not null
+         * @return this, for method chaining
+         */
+        public Builder dates(Map<JalaliDate, String> dates) {
+            for (Map.Entry<JalaliDate, String> entry : dates.entrySet()) {
+                date(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        /**
+         * Adds every day of a range as a holiday, such as a company closure.
+         *
+         * @param range the closed days, not null
+         * @param name  the name of the closure, not null
+         * @return this, for method chaining
+         */
+        public Builder closure(JalaliDateRange range, String name) {
+            Objects.requireNonNull(name, "name");
+            NavigableMap<Long, String> map = days();
+            long end = range.getEnd().toEpochDay();
+            for (long day = range.getStart().toEpochDay(); day <= end; day++) {
+                map.putIfAbsent(day, name);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a custom source of holidays.
+         *
+         * @param source the source, not null
+         * @return this, for method chaining
+         */
+        public Builder source(Source source) {
+            sources.add(Objects.requireNonNull(source, "source"));
+            return this;
+        }
+
+        /**
+         * Builds the holiday calendar.
+         *
+         * @return a new holiday calendar
+         */
+        public HolidayCalendar build() {
+            List<Source> list = new ArrayList<>(sources);
+            if (daysIndex >= 0) {
+                list.set(daysIndex, daysSource(new TreeMap<>(days)));
+            }
+            return new HolidayCalendar(Collections.unmodifiableList(list));
+        }
+
+        private NavigableMap<Long, String> days() {
+            if (days == null) {
+                days = new TreeMap<>();
+                daysIndex = sources.size();
+                // Placeholder replaced by a snapshot of the one-off days in build()
+                sources.add((year, sink) -> { });
+            }
+            return days;
+        }
+
+        private static Source daysSource(NavigableMap<Long, String> days) {
+            return (year, sink) -> {
+                long first = JalaliDate.firstEpochDayOfYear(year);
+                long next = JalaliDate.firstEpochDayOfYear(year + 1);
+                for (Map.Entry<Long, String> entry : days.subMap(first, true, next, false).entrySet()) {
+                    int packed = JalaliDate.packedOfEpochDay(entry.getKey());
+                    sink.add(packed / 100 % 100, packed % 100, entry.getValue());
+                }
+            };
+        }
+    }
+}
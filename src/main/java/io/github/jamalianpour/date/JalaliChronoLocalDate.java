@@ -0,0 +1,367 @@
+package io.github.jamalianpour.date;
+
+import java.io.Serializable;
+import java.time.LocalTime;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+import java.util.Objects;
+
+/**
+ * A {@link JalaliDate} as a {@link ChronoLocalDate} of the {@link JalaliChronology}.
+ * <p>
+ * {@code JalaliDate} keeps its own API and ordering; this class is its view for the
+ * {@code java.time} framework, created with {@link JalaliDate#toChronoLocalDate()} and converted
+ * back with {@link #toJalaliDate()}. Field access reads the fields of the wrapped date, and day,
+ * month and year arithmetic works on epoch days and Jalali fields, never through a Gregorian date.
+ * <p>
+ * Note that {@link ChronoField#DAY_OF_WEEK} follows ISO numbering (1 = Monday to 7 = Sunday), as
+ * the {@code java.time} adjusters expect, while {@link JalaliDate#getDayOfWeek()} starts on Saturday.
+ * Instances are immutable and thread-safe.
+ */
+public final class JalaliChronoLocalDate implements ChronoLocalDate, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JalaliDate date;
+
+    private JalaliChronoLocalDate(JalaliDate date) {
+        this.date = date;
+    }
+
+    /**
+     * Gets the chronology date of a Jalali date.
+     *
+     * @param date the Jalali date, not null
+     * @return the chronology date
+     */
+    public static JalaliChronoLocalDate of(JalaliDate date) {
+        return new JalaliChronoLocalDate(Objects.requireNonNull(date, "date"));
+    }
+
+    /**
+     * Gets the chronology date of a Jalali year, month and day.
+     *
+     * @param year  the Jalali year, from 1 to 3178
+     * @param month the month (1-12)
+     * @param day   the day of month
+     * @return the chronology date
+     * @throws java.time.DateTimeException if the date is invalid
+     */
+    public static JalaliChronoLocalDate of(int year, int month, int day) {
+        return JalaliChronology.INSTANCE.date(year, month, day);
+    }
+
+    /**
+     * Gets the chronology date of a temporal object, such as a {@link java.time.LocalDate}.
+     *
+     * @param temporal the temporal object to convert, not null
+     * @return the chronology date
+     * @throws java.time.DateTimeException if the temporal has no epoch day or it is out of range
+     */
+    public static JalaliChronoLocalDate from(TemporalAccessor temporal) {
+        return JalaliChronology.INSTANCE.date(temporal);
+    }
+
+    /**
+     * Gets the Jalali date of this chronology date.
+     *
+     * @return the Jalali date
+     */
+    public JalaliDate toJalaliDate() {
+        return date;
+    }
+
+    @Override
+    public JalaliChronology getChronology() {
+        return JalaliChronology.INSTANCE;
+    }
+
+    @Override
+    public JalaliEra getEra() {
+        return JalaliEra.AP;
+    }
+
+    @Override
+    public boolean isLeapYear() {
+        return date.isLeapYear();
+    }
+
+    @Override
+    public int lengthOfMonth() {
+        return date.lengthOfMonth();
+    }
+
+    @Override
+    public int lengthOfYear() {
+        return date.lengthOfYear();
+    }
+
+    @Override
+    public long toEpochDay() {
+        return date.toEpochDay();
+    }
+
+    // ------------------------
+    // Field Access
+    // ------------------------
+
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField) {
+            if (!isSupported(field)) {
+                throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+            switch ((ChronoField) field) {
+                case DAY_OF_MONTH:
+                    return ValueRange.of(1, lengthOfMonth());
+                case DAY_OF_YEAR:
+                    return ValueRange.of(1, lengthOfYear());
+                default:
+                    return getChronology().range((ChronoField) field);
+            }
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    @Override
+    public long getLong(TemporalField field) {
+        if (field instanceof ChronoField) {
+            switch ((ChronoField) field) {
+                case DAY_OF_WEEK:
+                    return Math.floorMod(date.toEpochDay() + 3, 7L) + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                    return (date.getDay() - 1) % 7 + 1;
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                    return (dayOfYear() - 1) % 7 + 1;
+                case DAY_OF_MONTH:
+                    return date.getDay();
+                case DAY_OF_YEAR:
+                    return dayOfYear();
+                case EPOCH_DAY:
+                    return date.toEpochDay();
+                case ALIGNED_WEEK_OF_MONTH:
+                    return (date.getDay() - 1) / 7 + 1;
+                case ALIGNED_WEEK_OF_YEAR:
+                    return (dayOfYear() - 1) / 7 + 1;
+                case MONTH_OF_YEAR:
+                    return date.getMonth();
+                case PROLEPTIC_MONTH:
+                    return prolepticMonth();
+                case YEAR_OF_ERA:
+                case YEAR:
+                    return date.getYear();
+                case ERA:
+                    return JalaliEra.AP.getValue();
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+        }
+        return field.getFrom(this);
+    }
+
+    private int dayOfYear() {
+        return JalaliDate.dayOfYear(date.getMonth(), date.getDay());
+    }
+
+    private long prolepticMonth() {
+        return date.getYear() * 12L + date.getMonth() - 1;
+    }
+
+    // ------------------------
+    // Adjustment and Arithmetic
+    // ------------------------
+
+    @Override
+    public JalaliChronoLocalDate with(TemporalAdjuster adjuster) {
+        return (JalaliChronoLocalDate) ChronoLocalDate.super.with(adjuster);
+    }
+
+    @Override
+    public JalaliChronoLocalDate with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            ChronoField f = (ChronoField) field;
+            getChronology().range(f).checkValidValue(newValue, f);
+            int value = (int) newValue;
+            int year = date.getYear();
+            int month = date.getMonth();
+            switch (f) {
+                case DAY_OF_WEEK:
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                    return plusDays(newValue - getLong(f));
+                case ALIGNED_WEEK_OF_MONTH:
+                case ALIGNED_WEEK_OF_YEAR:
+                    return plusDays((newValue - getLong(f)) * 7);
+                case DAY_OF_MONTH:
+                    return value == date.getDay() ? this : getChronology().date(year, month, value);
+                case DAY_OF_YEAR:
+                    return getChronology().dateYearDay(year, value);
+                case EPOCH_DAY:
+                    return getChronology().dateEpochDay(newValue);
+                case MONTH_OF_YEAR:
+                    return resolvePreviousValid(year, value);
+                case PROLEPTIC_MONTH:
+                    return plusMonths(newValue - prolepticMonth());
+                case YEAR_OF_ERA:
+                case YEAR:
+                    return resolvePreviousValid(value, month);
+                case ERA:
+                    return this;
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+            }
+        }
+        return (JalaliChronoLocalDate) ChronoLocalDate.super.with(field, newValue);
+    }
+
+    @Override
+    public JalaliChronoLocalDate plus(TemporalAmount amount) {
+        return (JalaliChronoLocalDate) ChronoLocalDate.super.plus(amount);
+    }
+
+    @Override
+    public JalaliChronoLocalDate plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return plusDays(amountToAdd);
+                case WEEKS:
+                    return plusDays(Math.multiplyExact(amountToAdd, 7));
+                case MONTHS:
+                    return plusMonths(amountToAdd);
+                case YEARS:
+                    return plusMonths(Math.multiplyExact(amountToAdd, 12));
+                case DECADES:
+                    return plusMonths(Math.multiplyExact(amountToAdd, 120));
+                case CENTURIES:
+                    return plusMonths(Math.multiplyExact(amountToAdd, 1200));
+                case MILLENNIA:
+                    return plusMonths(Math.multiplyExact(amountToAdd, 12000));
+                case ERAS:
+                    return with(ChronoField.ERA, Math.addExact(getLong(ChronoField.ERA), amountToAdd));
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            }
+        }
+        return (JalaliChronoLocalDate) ChronoLocalDate.super.plus(amountToAdd, unit);
+    }
+
+    @Override
+    public JalaliChronoLocalDate minus(TemporalAmount amount) {
+        return (JalaliChronoLocalDate) ChronoLocalDate.super.minus(amount);
+    }
+
+    @Override
+    public JalaliChronoLocalDate minus(long amountToSubtract, TemporalUnit unit) {
+        return (JalaliChronoLocalDate) ChronoLocalDate.super.minus(amountToSubtract, unit);
+    }
+
+    private JalaliChronoLocalDate plusDays(long days) {
+        if (days == 0) return this;
+        return getChronology().dateEpochDay(Math.addExact(date.toEpochDay(), days));
+    }
+
+    private JalaliChronoLocalDate plusMonths(long months) {
+        if (months == 0) return this;
+        long target = Math.addExact(prolepticMonth(), months);
+        getChronology().range(ChronoField.PROLEPTIC_MONTH).checkValidValue(target, ChronoField.PROLEPTIC_MONTH);
+        return resolvePreviousValid((int) (target / 12), (int) (target % 12) + 1);
+    }
+
+    /**
+     * Moves this date to a year and month, clamping the day to the length of the month.
+     */
+    private JalaliChronoLocalDate resolvePreviousValid(int year, int month) {
+        if (year == date.getYear() && month == date.getMonth()) return this;
+        int day = Math.min(date.getDay(), JalaliDate.jalaaliMonthLength(year, month));
+        return of(JalaliDate.of(year, month, day));
+    }
+
+    // ------------------------
+    // Distances
+    // ------------------------
+
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        JalaliChronoLocalDate end = getChronology().date(endExclusive);
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case DAYS:
+                    return end.toEpochDay() - toEpochDay();
+                case WEEKS:
+                    return (end.toEpochDay() - toEpochDay()) / 7;
+                case MONTHS:
+                    return monthsUntil(end);
+                case YEARS:
+                    return monthsUntil(end) / 12;
+                case DECADES:
+                    return monthsUntil(end) / 120;
+                case CENTURIES:
+                    return monthsUntil(end) / 1200;
+                case MILLENNIA:
+                    return monthsUntil(end) / 12000;
+                case ERAS:
+                    return end.getLong(ChronoField.ERA) - getLong(ChronoField.ERA);
+                default:
+                    throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            }
+        }
+        return unit.between(this, end);
+    }
+
+    @Override
+    public ChronoPeriod until(ChronoLocalDate endDateExclusive) {
+        JalaliChronoLocalDate end = getChronology().date(endDateExclusive);
+        long totalMonths = end.prolepticMonth() - prolepticMonth();
+        int days = end.date.getDay() - date.getDay();
+        if (totalMonths > 0 && days < 0) {
+            totalMonths--;
+            days = (int) (end.toEpochDay() - plusMonths(totalMonths).toEpochDay());
+        } else if (totalMonths < 0 && days > 0) {
+            totalMonths++;
+            days -= end.lengthOfMonth();
+        }
+        return getChronology().period((int) (totalMonths / 12), (int) (totalMonths % 12), days);
+    }
+
+    private long monthsUntil(JalaliChronoLocalDate end) {
+        // Month and day packed so that a shorter last month is not counted
+        long start = prolepticMonth() * 32L + date.getDay();
+        long stop = end.prolepticMonth() * 32L + end.date.getDay();
+        return (stop - start) / 32;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoLocalDateTime<JalaliChronoLocalDate> atTime(LocalTime localTime) {
+        return (ChronoLocalDateTime<JalaliChronoLocalDate>) ChronoLocalDate.super.atTime(localTime);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof JalaliChronoLocalDate)) return false;
+        return date.equals(((JalaliChronoLocalDate) o).date);
+    }
+
+    @Override
+    public int hashCode() {
+        return getChronology().getId().hashCode() ^ date.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getChronology().getId() + " " + getEra() + " " + date;
+    }
+}
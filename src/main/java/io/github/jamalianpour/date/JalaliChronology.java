@@ -0,0 +1,251 @@
+package io.github.jamalianpour.date;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.chrono.AbstractChronology;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.chrono.Era;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.ValueRange;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The Jalali (Solar Hijri) calendar as a {@code java.time} {@link java.time.chrono.Chronology}.
+ * <p>
+ * This plugs {@link JalaliDate} into the {@code java.time} framework: dates of this chronology are
+ * {@link JalaliChronoLocalDate} instances, so {@link java.time.format.DateTimeFormatter},
+ * {@link java.time.temporal.ChronoUnit#between} and {@link java.time.temporal.TemporalAdjusters}
+ * work on Jalali fields directly. A formatter built with
+ * {@code withChronology(JalaliChronology.INSTANCE)} also formats and parses {@link LocalDate}
+ * values in the Jalali calendar.
+ * <p>
+ * Conversions use the table-driven epoch-day helpers of {@link JalaliDate}, with no Gregorian
+ * round trip. The chronology covers years 1 to 3178 in the single era {@link JalaliEra#AP}. Its ID
+ * is {@code Jalali} and its CLDR calendar type is {@code persian}, so it is also found by
+ * {@link java.time.chrono.Chronology#of(String)} and by locales such as {@code fa-IR-u-ca-persian}.
+ * <p>
+ * The JDK has no month names for the {@code persian} calendar type, so the text pattern letters
+ * {@code MMM} and {@code MMMM} print Gregorian names. Build formatters that need month names with
+ * {@link java.time.format.DateTimeFormatterBuilder#appendText(java.time.temporal.TemporalField, Map)}
+ * and {@link #monthNames(boolean)} instead.
+ */
+public final class JalaliChronology extends AbstractChronology implements Serializable {
+
+    /**
+     * The singleton instance of the chronology
+     */
+    public static final JalaliChronology INSTANCE = new JalaliChronology();
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ValueRange YEAR_RANGE = ValueRange.of(1, 3178);
+    private static final ValueRange PROLEPTIC_MONTH_RANGE = ValueRange.of(12, 3178 * 12L + 11);
+    private static final ValueRange EPOCH_DAY_RANGE = ValueRange.of(
+            JalaliDate.firstEpochDayOfYear(1), JalaliDate.firstEpochDayOfYear(3179) - 1);
+
+    private static final Map<Long, String> MONTH_NAMES_FA = monthNameMap(JalaliDate.MONTH_NAMES_FA);
+    private static final Map<Long, String> MONTH_NAMES_EN = monthNameMap(JalaliDate.MONTH_NAMES_EN);
+
+    /**
+     * Creates an instance for {@link java.util.ServiceLoader}, which needs a public constructor.
+     *
+     * @deprecated use {@link #INSTANCE}
+     */
+    @Deprecated
+    public JalaliChronology() {
+    }
+
+    /**
+     * Gets the ID of the chronology.
+     *
+     * @return {@code Jalali}
+     */
+    @Override
+    public String getId() {
+        return "Jalali";
+    }
+
+    /**
+     * Gets the CLDR calendar type of the chronology.
+     *
+     * @return {@code persian}
+     */
+    @Override
+    public String getCalendarType() {
+        return "persian";
+    }
+
+    // ------------------------
+    // Factory Methods
+    // ------------------------
+
+    @Override
+    public JalaliChronoLocalDate date(Era era, int yearOfEra, int month, int dayOfMonth) {
+        return date(prolepticYear(era, yearOfEra), month, dayOfMonth);
+    }
+
+    @Override
+    public JalaliChronoLocalDate date(int prolepticYear, int month, int dayOfMonth) {
+        YEAR_RANGE.checkValidValue(prolepticYear, ChronoField.YEAR);
+        ChronoField.MONTH_OF_YEAR.checkValidValue(month);
+        int length = JalaliDate.jalaaliMonthLength(prolepticYear, month);
+        if (dayOfMonth < 1 || dayOfMonth > length) {
+            throw new DateTimeException("Invalid Jalali date " + prolepticYear + "/" + month + "/" + dayOfMonth
+                    + ": the month has " + length + " days");
+        }
+        return JalaliChronoLocalDate.of(JalaliDate.of(prolepticYear, month, dayOfMonth));
+    }
+
+    @Override
+    public JalaliChronoLocalDate dateYearDay(Era era, int yearOfEra, int dayOfYear) {
+        return dateYearDay(prolepticYear(era, yearOfEra), dayOfYear);
+    }
+
+    @Override
+    public JalaliChronoLocalDate dateYearDay(int prolepticYear, int dayOfYear) {
+        YEAR_RANGE.checkValidValue(prolepticYear, ChronoField.YEAR);
+        int length = JalaliDate.isLeapJalaliYear(prolepticYear) ? 366 : 365;
+        if (dayOfYear < 1 || dayOfYear > length) {
+            throw new DateTimeException("Invalid day of year " + dayOfYear + ": year " + prolepticYear
+                    + " has " + length + " days");
+        }
+        return JalaliChronoLocalDate.of(JalaliDate.ofYearDay(prolepticYear, dayOfYear));
+    }
+
+    @Override
+    public JalaliChronoLocalDate dateEpochDay(long epochDay) {
+        EPOCH_DAY_RANGE.checkValidValue(epochDay, ChronoField.EPOCH_DAY);
+        return JalaliChronoLocalDate.of(JalaliDate.ofEpochDay(epochDay));
+    }
+
+    @Override
+    public JalaliChronoLocalDate dateNow() {
+        return dateNow(Clock.systemDefaultZone());
+    }
+
+    @Override
+    public JalaliChronoLocalDate dateNow(ZoneId zone) {
+        return dateNow(Clock.system(zone));
+    }
+
+    @Override
+    public JalaliChronoLocalDate dateNow(Clock clock) {
+        return dateEpochDay(LocalDate.now(clock).toEpochDay());
+    }
+
+    @Override
+    public JalaliChronoLocalDate date(TemporalAccessor temporal) {
+        if (temporal instanceof JalaliChronoLocalDate) {
+            return (JalaliChronoLocalDate) temporal;
+        }
+        return dateEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoLocalDateTime<JalaliChronoLocalDate> localDateTime(TemporalAccessor temporal) {
+        return (ChronoLocalDateTime<JalaliChronoLocalDate>) super.localDateTime(temporal);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoZonedDateTime<JalaliChronoLocalDate> zonedDateTime(TemporalAccessor temporal) {
+        return (ChronoZonedDateTime<JalaliChronoLocalDate>) super.zonedDateTime(temporal);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoZonedDateTime<JalaliChronoLocalDate> zonedDateTime(Instant instant, ZoneId zone) {
+        return (ChronoZonedDateTime<JalaliChronoLocalDate>) super.zonedDateTime(instant, zone);
+    }
+
+    // ------------------------
+    // Calendar Rules
+    // ------------------------
+
+    /**
+     * Checks if the year is a leap year in the Jalali calendar.
+     *
+     * @param prolepticYear the Jalali year
+     * @return true if the year is a leap year, false for years outside 1 to 3178
+     */
+    @Override
+    public boolean isLeapYear(long prolepticYear) {
+        return YEAR_RANGE.isValidValue(prolepticYear) && JalaliDate.isLeapJalaliYear((int) prolepticYear);
+    }
+
+    @Override
+    public int prolepticYear(Era era, int yearOfEra) {
+        if (!(era instanceof JalaliEra)) {
+            throw new ClassCastException("Era must be JalaliEra");
+        }
+        return yearOfEra;
+    }
+
+    @Override
+    public JalaliEra eraOf(int eraValue) {
+        return JalaliEra.of(eraValue);
+    }
+
+    @Override
+    public List<Era> eras() {
+        return List.of(JalaliEra.values());
+    }
+
+    @Override
+    public ValueRange range(ChronoField field) {
+        switch (field) {
+            case DAY_OF_MONTH:
+                return ValueRange.of(1, 29, 31);
+            case DAY_OF_YEAR:
+                return ValueRange.of(1, 365, 366);
+            case ALIGNED_WEEK_OF_MONTH:
+                return ValueRange.of(1, 5);
+            case ALIGNED_WEEK_OF_YEAR:
+                return ValueRange.of(1, 53);
+            case PROLEPTIC_MONTH:
+                return PROLEPTIC_MONTH_RANGE;
+            case YEAR_OF_ERA:
+            case YEAR:
+                return YEAR_RANGE;
+            case ERA:
+                return ValueRange.of(1, 1);
+            case EPOCH_DAY:
+                return EPOCH_DAY_RANGE;
+            default:
+                return field.range();
+        }
+    }
+
+    /**
+     * Gets the Jalali month names keyed by month value, for
+     * {@link java.time.format.DateTimeFormatterBuilder#appendText(java.time.temporal.TemporalField, Map)}
+     * with {@link ChronoField#MONTH_OF_YEAR}.
+     *
+     * @param persian true for Persian names, false for their English transliteration
+     * @return an unmodifiable map from month (1-12) to name
+     */
+    public static Map<Long, String> monthNames(boolean persian) {
+        return persian ? MONTH_NAMES_FA : MONTH_NAMES_EN;
+    }
+
+    private static Map<Long, String> monthNameMap(String[] names) {
+        Map<Long, String> map = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            map.put(i + 1L, names[i]);
+        }
+        return Map.copyOf(map);
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,296 @@
+package io.github.jamalianpour.date;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Source of the current Jalali date that caches today's date for a {@link Clock}.
+ * <p>
+ * The clock remembers the range of instants, in epoch milliseconds, over which the local date in
+ * its zone stays the same. {@link #today()} reads {@link Clock#millis()} and returns the cached
+ * date while the time is inside that range, so only the first call of each day resolves the zone
+ * offset and converts the date. The range also ends at offset transitions, so it is exact in zones
+ * with daylight saving time. Instances are thread-safe.
+ * <p>
+ * A clock serves one zone; {@link #withZone(ZoneId)} gives a clock for another zone over the same
+ * time source. {@link #virtual(Instant, ZoneId)} creates a clock whose time only moves through
+ * {@link #setInstant(Instant)} and {@link #advance(Duration)}, for tests.
+ */
+public final class JalaliClock {
+
+    // System clocks per zone; applications use few zones, so entries are never evicted
+    private static final ConcurrentMap<ZoneId, JalaliClock> SYSTEM = new ConcurrentHashMap<>();
+
+    private final Clock clock;
+    private final ZoneId zone;
+    private volatile Day day = new Day(null, 0, 0);
+
+    private JalaliClock(Clock clock) {
+        this.clock = clock;
+        this.zone = clock.getZone();
+    }
+
+    /**
+     * Gets a clock over the system clock in the default time-zone.
+     * The instance is shared while the default zone stays the same.
+     *
+     * @return the system clock in the default zone
+     */
+    public static JalaliClock systemDefaultZone() {
+        return system(ZoneId.systemDefault());
+    }
+
+    /**
+     * Gets a clock over the system clock in the specified time-zone.
+     * The instance is shared by all callers using the zone.
+     *
+     * @param zone the zone, not null
+     * @return the system clock in the zone
+     * @throws NullPointerException if zone is null
+     */
+    public static JalaliClock system(ZoneId zone) {
+        JalaliClock clock = SYSTEM.get(zone);
+        return clock != null ? clock : SYSTEM.computeIfAbsent(zone, id -> new JalaliClock(Clock.system(id)));
+    }
+
+    /**
+     * Creates a clock over the specified clock, in that clock's zone.
+     *
+     * @param clock the time source, not null
+     * @return a new Jalali clock
+     * @throws NullPointerException if clock is null
+     */
+    public static JalaliClock of(Clock clock) {
+        Objects.requireNonNull(clock, "clock");
+        return new JalaliClock(clock);
+    }
+
+    /**
+     * Creates a clock in virtual time for tests. Time stands still at the start instant and moves
+     * only through {@link #setInstant(Instant)} and {@link #advance(Duration)}.
+     *
+     * @param start the initial instant, not null
+     * @param zone  the zone, not null
+     * @return a new Jalali clock in virtual time
+     * @throws NullPointerException if start or zone is null
+     */
+    public static JalaliClock virtual(Instant start, ZoneId zone) {
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(zone, "zone");
+        return new JalaliClock(new VirtualClock(new AtomicReference<>(start), zone));
+    }
+
+    // ------------------------
+    // Current Date and Time
+    // ------------------------
+
+    /**
+     * Gets today's Jalali date in the zone of this clock.
+     *
+     * @return the current date
+     * @throws IllegalArgumentException if the date is outside the supported year range
+     */
+    public JalaliDate today() {
+        long millis = clock.millis();
+        Day current = day;
+        if (millis >= current.startMillis && millis < current.endMillis) return current.date;
+        return refresh(millis).date;
+    }
+
+    /**
+     * Gets today's date as an epoch day, for example to flag today in a {@link JalaliMonthGrid}.
+     *
+     * @return the number of days from 1970-01-01 to today
+     * @throws IllegalArgumentException if the date is outside the supported year range
+     */
+    public long todayEpochDay() {
+        return today().toEpochDay();
+    }
+
+    /**
+     * Gets the current Jalali date-time in the zone of this clock.
+     *
+     * @return the current date-time
+     * @throws IllegalArgumentException if the date is outside the supported year range
+     */
+    public JalaliDateTime now() {
+        return JalaliDateTime.ofInstant(clock.instant(), zone);
+    }
+
+    /**
+     * Gets the current Jalali date-time with the zone of this clock.
+     *
+     * @return the current zoned date-time
+     * @throws IllegalArgumentException if the date is outside the supported year range
+     */
+    public JalaliZonedDateTime nowZoned() {
+        return JalaliZonedDateTime.ofInstant(clock.instant(), zone);
+    }
+
+    /**
+     * Gets the current instant of the underlying clock in milliseconds.
+     *
+     * @return the milliseconds from 1970-01-01T00:00Z
+     */
+    public long millis() {
+        return clock.millis();
+    }
+
+    /**
+     * Computes the date at the instant and the range of instants sharing it: the local day,
+     * cut short by any offset transition inside it.
+     */
+    private Day refresh(long millis) {
+        Instant instant = Instant.ofEpochMilli(millis);
+        ZoneRules rules = zone.getRules();
+        ZoneOffset offset = rules.getOffset(instant);
+        long offsetMillis = offset.getTotalSeconds() * 1000L;
+        long epochDay = Math.floorDiv(millis + offsetMillis, 86_400_000L);
+        long start = epochDay * 86_400_000L - offsetMillis;
+        long end = start + 86_400_000L;
+        if (!rules.isFixedOffset()) {
+            // The latest transition at or before the instant, and the first one after it
+            ZoneOffsetTransition previous = rules.previousTransition(instant.plusMillis(1));
+            if (previous != null) start = Math.max(start, previous.toEpochSecond() * 1000);
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            if (next != null) end = Math.min(end, next.toEpochSecond() * 1000);
+        }
+        Day result = new Day(JalaliDate.ofEpochDay(epochDay), start, end);
+        day = result;
+        return result;
+    }
+
+    private static final class Day {
+        final JalaliDate date;
+        final long startMillis;
+        final long endMillis;
+
+        Day(JalaliDate date, long startMillis, long endMillis) {
+            this.date = date;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+    }
+
+    // ------------------------
+    // Zones and Time Source
+    // ------------------------
+
+    /**
+     * Gets the zone of this clock.
+     *
+     * @return the zone
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Gets the underlying clock.
+     *
+     * @return the time source
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns a clock for another zone over the same time source, with its own cached date.
+     * Clocks in virtual time keep sharing their time.
+     *
+     * @param zone the zone, not null
+     * @return a clock in the zone
+     * @throws NullPointerException if zone is null
+     */
+    public JalaliClock withZone(ZoneId zone) {
+        if (zone.equals(this.zone)) return this;
+        if (clock instanceof VirtualClock) return new JalaliClock(clock.withZone(zone));
+        if (clock.equals(Clock.system(this.zone))) return system(zone);
+        return new JalaliClock(clock.withZone(zone));
+    }
+
+    /**
+     * Checks if this clock runs in virtual time.
+     *
+     * @return true if created by {@link #virtual(Instant, ZoneId)} or derived from such a clock
+     */
+    public boolean isVirtual() {
+        return clock instanceof VirtualClock;
+    }
+
+    /**
+     * Moves virtual time to the specified instant, for this clock and all clocks sharing its time.
+     *
+     * @param instant the new instant, not null
+     * @throws UnsupportedOperationException if this clock is not in virtual time
+     */
+    public void setInstant(Instant instant) {
+        Objects.requireNonNull(instant, "instant");
+        virtualClock().time.set(instant);
+    }
+
+    /**
+     * Moves virtual time by the specified amount, for this clock and all clocks sharing its time.
+     *
+     * @param duration the amount to move, may be negative
+     * @throws UnsupportedOperationException if this clock is not in virtual time
+     */
+    public void advance(Duration duration) {
+        Objects.requireNonNull(duration, "duration");
+        virtualClock().time.updateAndGet(instant -> instant.plus(duration));
+    }
+
+    private VirtualClock virtualClock() {
+        if (!(clock instanceof VirtualClock)) {
+            throw new UnsupportedOperationException("Clock is not in virtual time: " + clock);
+        }
+        return (VirtualClock) clock;
+    }
+
+    @Override
+    public String toString() {
+        return "JalaliClock[" + clock + "]";
+    }
+
+    /**
+     * Clock whose instant is set by hand and shared with the clocks derived from it.
+     */
+    private static final class VirtualClock extends Clock {
+        final AtomicReference<Instant> time;
+        private final ZoneId zone;
+
+        VirtualClock(AtomicReference<Instant> time, ZoneId zone) {
+            this.time = time;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return zone.equals(this.zone) ? this : new VirtualClock(time, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return time.get();
+        }
+
+        @Override
+        public String toString() {
+            return "VirtualClock[" + time.get() + "," + zone + "]";
+        }
+    }
+}
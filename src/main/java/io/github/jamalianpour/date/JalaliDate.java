@@ -1,12 +1,26 @@
 package io.github.jamalianpour.date;
 
+import io.github.jamalianpour.number.PersianNumberConverter;
+
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
 import java.time.*;
-import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.WeekFields;
 import java.util.*;
-import java.util.regex.Pattern;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * JalaliDate - Full-featured Jalali (Persian/Shamsi) Date Utility
@@ -33,43 +47,55 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      */
     private final int day;
 
+    /**
+     * Days from 1970-01-01, derived from the fields above and restored by {@link #readResolve()}
+     */
+    private final transient long epochDay;
+
     // Persian month names
-    private static final String[] MONTH_NAMES_FA = {
+    static final String[] MONTH_NAMES_FA = {
             "فروردین", "اردیبهشت", "خرداد", "تیر", "مرداد", "شهریور",
             "مهر", "آبان", "آذر", "دی", "بهمن", "اسفند"
     };
 
-    private static final String[] MONTH_NAMES_EN = {
+    static final String[] MONTH_NAMES_EN = {
             "Farvardin", "Ordibehesht", "Khordad", "Tir", "Mordad", "Shahrivar",
             "Mehr", "Aban", "Azar", "Dey", "Bahman", "Esfand"
     };
 
     // Persian weekday names
-    private static final String[] WEEKDAY_NAMES_FA = {
+    static final String[] WEEKDAY_NAMES_FA = {
             "شنبه", "یکشنبه", "دوشنبه", "سه‌شنبه", "چهارشنبه", "پنج‌شنبه", "جمعه"
     };
 
-    private static final String[] WEEKDAY_NAMES_EN = {
+    static final String[] WEEKDAY_NAMES_EN = {
             "Shanbe", "Yekshanbe", "Doshanbe", "Seshanbe", "Chaharshanbe", "Panjshanbe", "Jomeh"
     };
 
-    // Patterns for parsing
-    private static final Pattern ISO_PATTERN = Pattern.compile("(\\d{4})[-/](\\d{1,2})[-/](\\d{1,2})");
-    private static final Pattern PERSIAN_PATTERN = Pattern.compile("(\\d{1,2})/(\\d{1,2})/(\\d{2,4})");
+    // Julian Day Number of 1970-01-01
+    private static final int EPOCH_JDN = 2440588;
+
+    // Minimum and maximum digit counts of the three fields, in text order
+    private static final int[] ISO_FIELD_DIGITS = {4, 4, 1, 2, 1, 2};
+    private static final int[] PERSIAN_FIELD_DIGITS = {1, 2, 1, 2, 2, 4};
 
     // ------------------------
     // Constructors and Factory Methods
     // ------------------------
 
-    private JalaliDate(int year, int month, int day) {
-        validate(year, month, day);
+    /**
+     * Creates an instance from fields already known to be valid, skipping validation.
+     */
+    private JalaliDate(int year, int month, int day, long epochDay) {
         this.year = year;
         this.month = month;
         this.day = day;
+        this.epochDay = epochDay;
     }
 
     /**
      * Creates a new JalaliDate instance with the specified year, month, and day.
+     * Dates inside the {@link JalaliDateCache} window return a shared instance.
      *
      * @param year  the year in Jalali calendar (e.g., 1400)
      * @param month the month of year (1-12), where 1 = Farvardin and 12 = Esfand
@@ -78,32 +104,36 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @throws IllegalArgumentException if any parameter is out of valid range
      */
     public static JalaliDate of(int year, int month, int day) {
-        return new JalaliDate(year, month, day);
+        validate(year, month, day);
+        long epochDay = j2d(year, month, day) - EPOCH_JDN;
+        JalaliDate cached = JalaliDateCache.get(epochDay);
+        if (cached != null) return cached;
+        return JalaliDateCache.put(new JalaliDate(year, month, day, epochDay));
     }
 
     /**
      * Creates a JalaliDate from a year and day-of-year.
+     * Month and day are read from a table, and dates inside the {@link JalaliDateCache}
+     * window return a shared instance.
      *
-     * @param year      the year in Jalali calendar
+     * @param year      the year in Jalali calendar, from 1 to 3178
      * @param dayOfYear the day-of-year (1-365 or 1-366 for leap years)
      * @return a new JalaliDate instance
-     * @throws IllegalArgumentException if dayOfYear is out of valid range for the year
+     * @throws IllegalArgumentException if the year or dayOfYear is out of valid range
      */
     public static JalaliDate ofYearDay(int year, int dayOfYear) {
-        if (dayOfYear < 1 || dayOfYear > (isLeapJalaliYear(year) ? 366 : 365)) {
+        if (year < YearTable.MIN_YEAR || year > YearTable.MAX_YEAR) {
+            throw new IllegalArgumentException("Year must be between 1 and 3178");
+        }
+        if (dayOfYear < 1 || dayOfYear > (YearTable.LEAP[year - YearTable.MIN_YEAR] ? 366 : 365)) {
             throw new IllegalArgumentException("Invalid day of year: " + dayOfYear);
         }
+        long epochDay = firstEpochDayOfYear(year) + dayOfYear - 1;
+        JalaliDate cached = JalaliDateCache.get(epochDay);
+        if (cached != null) return cached;
 
-        int month, day;
-        if (dayOfYear <= 186) {
-            month = (dayOfYear - 1) / 31 + 1;
-            day = (dayOfYear - 1) % 31 + 1;
-        } else {
-            dayOfYear -= 186;
-            month = (dayOfYear - 1) / 30 + 7;
-            day = (dayOfYear - 1) % 30 + 1;
-        }
-        return of(year, month, day);
+        int monthDay = MONTH_DAY_OF_YEAR[dayOfYear - 1];
+        return JalaliDateCache.put(new JalaliDate(year, monthDay / 100, monthDay % 100, epochDay));
     }
 
     // ------------------------
@@ -125,6 +155,8 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
     /**
      * Parses a Jalali date string using the specified format.
      * Supports both ISO format (1400-01-01) and Persian format (01/01/1400).
+     * Either format accepts '-' or '/' separators and ASCII, Persian or Arabic-Indic digits.
+     * With {@link DateFormat#AUTO}, text starting with more than two digits is read as ISO.
      *
      * @param text the date string to parse
      * @param format the format of the date string
@@ -132,23 +164,16 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @throws IllegalArgumentException if the text cannot be parsed
      */
     public static JalaliDate parse(String text, DateFormat format) {
-        if (text == null || text.trim().isEmpty()) {
+        if (text == null) {
             throw new IllegalArgumentException("Date string cannot be null or empty");
         }
-
-        text = text.trim();
-
-        switch (format) {
-            case ISO:
-                return parseIso(text);
-            case PERSIAN:
-                return parsePersian(text);
-            case AUTO:
-                if (text.contains("-")) return parseIso(text);
-                else return parsePersian(text);
-            default:
-                throw new IllegalArgumentException("Unsupported format: " + format);
+        int start = skipLeadingSpace(text, 0, text.length());
+        int end = skipTrailingSpace(text, start, text.length());
+        if (start == end) {
+            throw new IllegalArgumentException("Date string cannot be null or empty");
         }
+
+        return parseTrimmed(text, start, end, resolveParseFormat(text, start, end, format));
     }
 
     /**
@@ -159,12 +184,8 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @throws IllegalArgumentException if the date string is invalid
      */
     public static JalaliDate parseIso(String s) {
-        var m = ISO_PATTERN.matcher(s.trim());
-        if (!m.matches()) throw new IllegalArgumentException("Invalid ISO date format: " + s);
-        int y = Integer.parseInt(m.group(1));
-        int mo = Integer.parseInt(m.group(2));
-        int d = Integer.parseInt(m.group(3));
-        return of(y, mo, d);
+        int start = skipLeadingSpace(s, 0, s.length());
+        return parseTrimmed(s, start, skipTrailingSpace(s, start, s.length()), DateFormat.ISO);
     }
 
     /**
@@ -177,13 +198,181 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * <p>Example: "01/01/1400" parses to a JalaliDate representing the 1st of Farvardin, 1400.
      */
     public static JalaliDate parsePersian(String s) {
-        var m = PERSIAN_PATTERN.matcher(s.trim());
-        if (!m.matches()) throw new IllegalArgumentException("Invalid Persian date format: " + s);
-        int d = Integer.parseInt(m.group(1));
-        int mo = Integer.parseInt(m.group(2));
-        int y = Integer.parseInt(m.group(3));
-        if (y < 100) y += 1300; // Assume 13xx for 2-digit years
-        return of(y, mo, d);
+        int start = skipLeadingSpace(s, 0, s.length());
+        return parseTrimmed(s, start, skipTrailingSpace(s, start, s.length()), DateFormat.PERSIAN);
+    }
+
+    /**
+     * Parses a date from {@code text[start, end)} without throwing, using automatic format detection.
+     * Surrounding whitespace inside the bounds is ignored and no substring is created.
+     *
+     * @param text  the text containing the date, not null
+     * @param start the index of the first character to read
+     * @param end   the index after the last character to read
+     * @return the date packed as {@code yyyymmdd} (see {@link JalaliDates}),
+     *         or {@link JalaliDates#INVALID} if the text is not a valid date
+     * @throws IndexOutOfBoundsException if the bounds are outside the text
+     */
+    public static int tryParse(CharSequence text, int start, int end) {
+        return tryParse(text, start, end, DateFormat.AUTO);
+    }
+
+    /**
+     * Parses a date from {@code text[start, end)} in the specified format without throwing.
+     * Surrounding whitespace inside the bounds is ignored and no substring is created.
+     *
+     * @param text   the text containing the date, not null
+     * @param start  the index of the first character to read
+     * @param end    the index after the last character to read
+     * @param format {@link DateFormat#ISO}, {@link DateFormat#PERSIAN} or {@link DateFormat#AUTO}
+     * @return the date packed as {@code yyyymmdd} (see {@link JalaliDates}),
+     *         or {@link JalaliDates#INVALID} if the text is not a valid date
+     * @throws IndexOutOfBoundsException if the bounds are outside the text
+     */
+    public static int tryParse(CharSequence text, int start, int end, DateFormat format) {
+        Objects.checkFromToIndex(start, end, text.length());
+        start = skipLeadingSpace(text, start, end);
+        end = skipTrailingSpace(text, start, end);
+        if (start == end) return JalaliDates.INVALID;
+        long scanned = scanDate(text, start, end, resolveParseFormat(text, start, end, format));
+        if (scanned < 0 || (int) (scanned >>> 32) != end) return JalaliDates.INVALID;
+        int ymd = (int) scanned;
+        return isValid(ymd / 10000, (ymd / 100) % 100, ymd % 100) ? ymd : JalaliDates.INVALID;
+    }
+
+    /**
+     * Parses a date embedded in a larger text, starting at the index of the parse position.
+     * This follows {@link java.text.Format#parseObject(String, ParsePosition)}: on success the
+     * index is moved past the date, on failure the error index is set and null is returned.
+     * Nothing is thrown for invalid input.
+     *
+     * @param text     the text containing the date, not null
+     * @param position the position to start at, updated on return, not null
+     * @return the parsed date, or null if no valid date starts at the position
+     */
+    public static JalaliDate parse(CharSequence text, ParsePosition position) {
+        return parse(text, position, DateFormat.AUTO);
+    }
+
+    /**
+     * Parses a date embedded in a larger text in the specified format, starting at the index of the
+     * parse position. On success the index is moved past the date, on failure the error index is set
+     * and null is returned.
+     *
+     * @param text     the text containing the date, not null
+     * @param position the position to start at, updated on return, not null
+     * @param format   {@link DateFormat#ISO}, {@link DateFormat#PERSIAN} or {@link DateFormat#AUTO}
+     * @return the parsed date, or null if no valid date starts at the position
+     */
+    public static JalaliDate parse(CharSequence text, ParsePosition position, DateFormat format) {
+        int start = position.getIndex();
+        int end = text.length();
+        long scanned = start < 0 || start >= end
+                ? -1 : scanDate(text, start, end, resolveParseFormat(text, start, end, format));
+        if (scanned >= 0) {
+            int ymd = (int) scanned;
+            int y = ymd / 10000, m = (ymd / 100) % 100, d = ymd % 100;
+            if (isValid(y, m, d)) {
+                position.setIndex((int) (scanned >>> 32));
+                return of(y, m, d);
+            }
+        }
+        position.setErrorIndex(start);
+        return null;
+    }
+
+    private static DateFormat resolveParseFormat(CharSequence text, int start, int end, DateFormat format) {
+        switch (format) {
+            case ISO:
+            case PERSIAN:
+                return format;
+            case AUTO:
+                return detectFormat(text, start, end);
+            default:
+                throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+    }
+
+    private static JalaliDate parseTrimmed(String text, int start, int end, DateFormat format) {
+        long scanned = scanDate(text, start, end, format);
+        if (scanned < 0 || (int) (scanned >>> 32) != end) {
+            String style = format == DateFormat.ISO ? "ISO" : "Persian";
+            throw new IllegalArgumentException("Invalid " + style + " date format: " + text);
+        }
+        int ymd = (int) scanned;
+        return of(ymd / 10000, (ymd / 100) % 100, ymd % 100);
+    }
+
+    /**
+     * Scans the fields of a date from {@code text[pos, end)} in a single pass, without checking
+     * their ranges. ISO order is a 4-digit year, then 1-2 digit month and day; Persian order is
+     * 1-2 digit day and month, then a 2-4 digit year (years below 100 mean 13xx).
+     * Each separator may be '-' or '/', and digits may be ASCII, Persian or Arabic-Indic.
+     * The last field must not be followed directly by another digit.
+     *
+     * @param text   the text to scan
+     * @param pos    the index of the first character of the date
+     * @param end    the index after the last character that may be read
+     * @param format {@link DateFormat#ISO} or {@link DateFormat#PERSIAN}
+     * @return {@code (nextIndex << 32) | yyyymmdd} if the fields were read, or -1 if the text does not match
+     */
+    private static long scanDate(CharSequence text, int pos, int end, DateFormat format) {
+        boolean iso = format == DateFormat.ISO;
+        int[] limits = iso ? ISO_FIELD_DIGITS : PERSIAN_FIELD_DIGITS;
+        int first = 0, second = 0, third = 0;
+        int i = pos;
+        for (int field = 0; field < 3; field++) {
+            if (field > 0) {
+                if (i >= end) return -1;
+                char sep = text.charAt(i++);
+                if (sep != '-' && sep != '/') return -1;
+            }
+            int fieldStart = i;
+            int maxEnd = Math.min(end, i + limits[field * 2 + 1]);
+            int value = 0;
+            while (i < maxEnd) {
+                int digit = PersianNumberConverter.getDigitValue(text.charAt(i));
+                if (digit < 0) break;
+                value = value * 10 + digit;
+                i++;
+            }
+            if (i - fieldStart < limits[field * 2]) return -1;
+            if (field == 0) first = value;
+            else if (field == 1) second = value;
+            else third = value;
+        }
+        if (i < end && PersianNumberConverter.getDigitValue(text.charAt(i)) >= 0) return -1;
+
+        int year, month, day;
+        if (iso) {
+            year = first;
+            month = second;
+            day = third;
+        } else {
+            day = first;
+            month = second;
+            year = third < 100 ? third + 1300 : third;
+        }
+        return ((long) i << 32) | (year * 10000 + month * 100 + day);
+    }
+
+    /**
+     * Picks ISO when the text starts with more than two digits, Persian otherwise.
+     */
+    private static DateFormat detectFormat(CharSequence text, int pos, int end) {
+        int i = pos;
+        while (i < end && PersianNumberConverter.getDigitValue(text.charAt(i)) >= 0) i++;
+        return i - pos > 2 ? DateFormat.ISO : DateFormat.PERSIAN;
+    }
+
+    private static int skipLeadingSpace(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') start++;
+        return start;
+    }
+
+    private static int skipTrailingSpace(CharSequence text, int start, int end) {
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+        return end;
     }
 
     // ------------------------
@@ -192,15 +381,17 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
 
     /**
      * Gets the current Jalali date from the system clock in the default time-zone.
+     * The date is cached by {@link JalaliClock} and only recomputed when the day changes.
      *
      * @return the current Jalali date
      */
     public static JalaliDate now() {
-        return fromGregorian(LocalDate.now());
+        return JalaliClock.systemDefaultZone().today();
     }
 
     /**
      * Gets the current Jalali date from the system clock in the specified time-zone.
+     * The date is cached by {@link JalaliClock} and only recomputed when the day changes.
      *
      * @param zone the zone to use, not null
      * @return the current Jalali date
@@ -208,7 +399,7 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      */
     public static JalaliDate now(ZoneId zone) {
         Objects.requireNonNull(zone, "zone");
-        return fromGregorian(LocalDate.now(zone));
+        return JalaliClock.system(zone).today();
     }
 
     /**
@@ -264,8 +455,7 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      */
     public static JalaliDate fromGregorian(LocalDate date) {
         Objects.requireNonNull(date, "date");
-        int[] j = g2j(g2d(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
-        return new JalaliDate(j[0], j[1], j[2]);
+        return ofEpochDay(date.toEpochDay());
     }
 
     /**
@@ -286,9 +476,17 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @return the equivalent Gregorian LocalDate
      */
     public LocalDate toGregorian() {
-        int jdn = j2d(this.year, this.month, this.day);
-        int[] g = d2g(jdn);
-        return LocalDate.of(g[0], g[1], g[2]);
+        return LocalDate.ofEpochDay(toEpochDay());
+    }
+
+    /**
+     * Converts this JalaliDate to a date of the {@link JalaliChronology}, for use with
+     * {@code java.time} formatters, units and adjusters.
+     *
+     * @return the equivalent chronology date
+     */
+    public JalaliChronoLocalDate toChronoLocalDate() {
+        return JalaliChronoLocalDate.of(this);
     }
 
     /**
@@ -356,7 +554,7 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @return the number of days from the epoch to this date
      */
     public long toEpochDay() {
-        return toGregorian().toEpochDay();
+        return epochDay;
     }
 
     /**
@@ -364,9 +562,71 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      *
      * @param epochDay the number of days from the epoch (1970-01-01)
      * @return a JalaliDate representing the specified epoch day
+     * @throws IllegalArgumentException if the epoch day is outside the supported year range
      */
     public static JalaliDate ofEpochDay(long epochDay) {
-        return fromGregorian(LocalDate.ofEpochDay(epochDay));
+        checkEpochDay(epochDay);
+        JalaliDate cached = JalaliDateCache.get(epochDay);
+        if (cached != null) return cached;
+
+        int ymd = packedOfEpochDay(epochDay);
+        JalaliDate date = new JalaliDate(ymd / 10000, (ymd / 100) % 100, ymd % 100, epochDay);
+        return JalaliDateCache.put(date);
+    }
+
+    /**
+     * Converts a column of epoch days to Jalali dates packed as {@code yyyymmdd}, in the format
+     * used by {@link JalaliDates}.
+     * <p>
+     * The range of the whole column is checked once up front; the conversion loop itself is
+     * branch-free and table-driven and creates no objects per row.
+     *
+     * @param epochDays the source epoch days
+     * @param srcOffset the first index to read
+     * @param dst       the destination for packed dates
+     * @param dstOffset the first index to write
+     * @param length    the number of values to convert
+     * @throws IndexOutOfBoundsException if a range is outside its array
+     * @throws IllegalArgumentException  if an epoch day is outside the supported year range
+     */
+    public static void ofEpochDays(long[] epochDays, int srcOffset, int[] dst, int dstOffset, int length) {
+        Objects.checkFromIndexSize(srcOffset, length, epochDays.length);
+        Objects.checkFromIndexSize(dstOffset, length, dst.length);
+        if (length == 0) return;
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = srcOffset, end = srcOffset + length; i < end; i++) {
+            long epochDay = epochDays[i];
+            min = Math.min(min, epochDay);
+            max = Math.max(max, epochDay);
+        }
+        checkEpochDay(min);
+        checkEpochDay(max);
+
+        for (int i = 0; i < length; i++) {
+            dst[dstOffset + i] = packedOfEpochDay(epochDays[srcOffset + i]);
+        }
+    }
+
+    /**
+     * Converts a column of Jalali dates packed as {@code yyyymmdd} to epoch days.
+     * The packed values are assumed to be valid, see {@link JalaliDates#isValid(int)}.
+     *
+     * @param packed    the source packed dates
+     * @param srcOffset the first index to read
+     * @param dst       the destination for epoch days
+     * @param dstOffset the first index to write
+     * @param length    the number of values to convert
+     * @throws IndexOutOfBoundsException if a range is outside its array
+     */
+    public static void toEpochDays(int[] packed, int srcOffset, long[] dst, int dstOffset, int length) {
+        Objects.checkFromIndexSize(srcOffset, length, packed.length);
+        Objects.checkFromIndexSize(dstOffset, length, dst.length);
+        for (int i = 0; i < length; i++) {
+            int ymd = packed[srcOffset + i];
+            dst[dstOffset + i] = epochDayOf(ymd / 10000, (ymd / 100) % 100, ymd % 100);
+        }
     }
 
     /**
@@ -393,8 +653,7 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      */
     public JalaliDate plusDays(long days) {
         if (days == 0) return this;
-        LocalDate g = toGregorian().plusDays(days);
-        return fromGregorian(g);
+        return ofEpochDay(Math.addExact(epochDay, days));
     }
 
     /**
@@ -436,35 +695,32 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
 
     /**
      * Returns a copy of this date with the specified number of months added.
-     *
-     * The calculation for the resulting date is as follows:
-     * <ul>
-     * <li>The total months is calculated as the current year multiplied by 12, plus the current month minus 1, plus the months to add.</li>
-     * <li>The new year is calculated as the total months divided by 12.</li>
-     * <li>The new month is calculated as the total months modulo 12, plus 1.</li>
-     * <li>If the new month is less than 1, then the new month is set to 12 and the new year is decremented by 1.</li>
-     * <li>The new day is the minimum of the current day and the maximum day of the new month in the new year.</li>
-     * </ul>
+     * <p>
+     * The month is moved on the Jalali fields alone, and if the day does not exist in the
+     * resulting month it is clamped to the last day, so 1403/06/31 plus one month is 1403/07/30.
      *
      * @param months the months to add, may be negative
      * @return a JalaliDate based on this date with the months added, not null
+     * @throws IllegalArgumentException if the result is outside the supported year range
      */
     public JalaliDate plusMonths(long months) {
-        if (months == 0) return this;
-
-        long totalMonths = year * 12L + (month - 1) + months;
-        int newYear = (int) (totalMonths / 12);
-        int newMonth = (int) (totalMonths % 12) + 1;
-
-        if (newMonth <= 0) {
-            newMonth += 12;
-            newYear--;
-        }
-
-        int maxDay = jalaaliMonthLength(newYear, newMonth);
-        int newDay = Math.min(day, maxDay);
+        return plusMonths(months, DayOfMonthPolicy.CLAMP);
+    }
 
-        return of(newYear, newMonth, newDay);
+    /**
+     * Returns a copy of this date with the specified number of months added, resolving a day
+     * that does not exist in the resulting month with the specified policy.
+     *
+     * @param months the months to add, may be negative
+     * @param policy how to resolve a day past the end of the resulting month, not null
+     * @return a JalaliDate based on this date with the months added, not null
+     * @throws IllegalArgumentException if the result is outside the supported year range,
+     *                                  or the day does not exist under {@link DayOfMonthPolicy#STRICT}
+     */
+    public JalaliDate plusMonths(long months, DayOfMonthPolicy policy) {
+        Objects.requireNonNull(policy, "policy");
+        if (months == 0) return this;
+        return ofEpochDay(shiftMonths(year, month, day, months, policy));
     }
 
     /**
@@ -480,23 +736,31 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
     /**
      * Returns a copy of this JalaliDate with the year adjusted by the specified number of years.
      * <p>
-     * The adjustment is made in the order of years, months, and days.
-     * <p>
-     * For example, 2008-06-15 plus one year would result in 2009-06-15.
-     * <p>
-     * Note that it is possible for the result to be in a different calendar system than the input.
+     * For example, 1402-06-15 plus one year would result in 1403-06-15. Esfand 30 of a leap year
+     * is clamped to Esfand 29 in a common year.
      * <p>
      * This instance is immutable and unaffected by this method call.
      *
      * @param years the years to add, may be negative
      * @return a JalaliDate based on this date with the years added, not null
+     * @throws IllegalArgumentException if the result is outside the supported year range
      */
     public JalaliDate plusYears(long years) {
-        if (years == 0) return this;
-        int newYear = year + (int) years;
-        int maxDay = jalaaliMonthLength(newYear, month);
-        int newDay = Math.min(day, maxDay);
-        return of(newYear, month, newDay);
+        return plusYears(years, DayOfMonthPolicy.CLAMP);
+    }
+
+    /**
+     * Returns a copy of this JalaliDate with the specified number of years added, resolving
+     * Esfand 30 in a common year with the specified policy.
+     *
+     * @param years  the years to add, may be negative
+     * @param policy how to resolve a day past the end of the resulting month, not null
+     * @return a JalaliDate based on this date with the years added, not null
+     * @throws IllegalArgumentException if the result is outside the supported year range,
+     *                                  or the day does not exist under {@link DayOfMonthPolicy#STRICT}
+     */
+    public JalaliDate plusYears(long years, DayOfMonthPolicy policy) {
+        return plusMonths(Math.multiplyExact(years, 12), policy);
     }
 
     /**
@@ -517,18 +781,17 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
     /**
      * Returns a new JalaliDate with the specified adjuster applied.
      *
-     * <p>This returns a new JalaliDate, based on this one, with the adjustment made.
-     *
-     * <p>This is equivalent to:<br>
-     * {@code JalaliDate date = this.toGregorian().with(adjuster);
-     * return JalaliDate.fromGregorian(date);}
+     * <p>The adjuster receives this date as a {@link JalaliChronoLocalDate}, so calendar-aware
+     * adjusters such as {@link java.time.temporal.TemporalAdjusters#lastDayOfMonth()} work on
+     * Jalali months and years. The adjusted result may be any date-based temporal, including a
+     * {@link LocalDate}, and is converted back through its epoch day.
      *
      * @param adjuster the adjuster to apply
      * @return a new JalaliDate based on this date with the specified adjustment made, not null
      */
     public JalaliDate with(TemporalAdjuster adjuster) {
-        LocalDate adjusted = toGregorian().with(adjuster);
-        return fromGregorian(adjusted);
+        Temporal adjusted = adjuster.adjustInto(toChronoLocalDate());
+        return ofEpochDay(adjusted.getLong(ChronoField.EPOCH_DAY));
     }
 
     /**
@@ -557,9 +820,24 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @return a JalaliDate representing the given month, with the year and day remaining the same, not null
      */
     public JalaliDate withMonth(int month) {
-        if (this.month == month) return this;
-        int maxDay = jalaaliMonthLength(year, month);
-        return of(year, month, Math.min(day, maxDay));
+        return withMonth(month, DayOfMonthPolicy.CLAMP);
+    }
+
+    /**
+     * Returns a JalaliDate with the given month, resolving a day that does not exist in it with
+     * the specified policy.
+     *
+     * @param month  the month to set in the returned JalaliDate (1-12)
+     * @param policy how to resolve a day past the end of the month, not null
+     * @return a JalaliDate with the given month, not null
+     * @throws IllegalArgumentException if the month is invalid,
+     *                                  or the day does not exist under {@link DayOfMonthPolicy#STRICT}
+     */
+    public JalaliDate withMonth(int month, DayOfMonthPolicy policy) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12");
+        }
+        return plusMonths(month - this.month, policy);
     }
 
     /**
@@ -573,9 +851,21 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @return a JalaliDate representing the given year, with the month and day remaining the same, not null
      */
     public JalaliDate withYear(int year) {
-        if (this.year == year) return this;
-        int maxDay = jalaaliMonthLength(year, month);
-        return of(year, month, Math.min(day, maxDay));
+        return withYear(year, DayOfMonthPolicy.CLAMP);
+    }
+
+    /**
+     * Returns a JalaliDate with the given year, resolving Esfand 30 in a common year with the
+     * specified policy.
+     *
+     * @param year   the year to set in the returned JalaliDate, from 1 to 3178
+     * @param policy how to resolve a day past the end of the month, not null
+     * @return a JalaliDate with the given year, not null
+     * @throws IllegalArgumentException if the year is out of range,
+     *                                  or the day does not exist under {@link DayOfMonthPolicy#STRICT}
+     */
+    public JalaliDate withYear(int year, DayOfMonthPolicy policy) {
+        return plusMonths((year - (long) this.year) * 12, policy);
     }
 
     /**
@@ -604,6 +894,29 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
         return day == lastDay ? this : of(year, month, lastDay);
     }
 
+    /**
+     * Returns a JalaliDate representing the first day of the quarter.
+     * Quarters start with Farvardin, Tir, Mehr and Dey.
+     *
+     * @return a JalaliDate representing the first day of the quarter, not null
+     */
+    public JalaliDate firstDayOfQuarter() {
+        int firstMonth = month - (month - 1) % 3;
+        return (month == firstMonth && day == 1) ? this : of(year, firstMonth, 1);
+    }
+
+    /**
+     * Returns a JalaliDate representing the last day of the quarter.
+     * Quarters end with Khordad 31, Shahrivar 31, Azar 30 and Esfand 29 or 30.
+     *
+     * @return a JalaliDate representing the last day of the quarter, not null
+     */
+    public JalaliDate lastDayOfQuarter() {
+        int lastMonth = month - (month - 1) % 3 + 2;
+        int lastDay = jalaaliMonthLength(year, lastMonth);
+        return (month == lastMonth && day == lastDay) ? this : of(year, lastMonth, lastDay);
+    }
+
     /**
      * Returns a JalaliDate representing the first day of the year.
      *
@@ -662,11 +975,18 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @return a JalaliDate representing the next working day, not null
      */
     public JalaliDate nextWorkingDay() {
-        JalaliDate next = plusDays(1);
-        while (next.isWeekend() || next.isHoliday()) {
-            next = next.plusDays(1);
-        }
-        return next;
+        return plusWorkingDays(1);
+    }
+
+    /**
+     * Returns the first day after this date that is neither a weekend day under the specified policy
+     * nor a holiday.
+     *
+     * @param weekend the weekend policy, not null
+     * @return the next working day, not null
+     */
+    public JalaliDate nextWorkingDay(WeekendPolicy weekend) {
+        return plusWorkingDays(1, weekend);
     }
 
     /**
@@ -677,11 +997,79 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @return a JalaliDate representing the previous working day, not null
      */
     public JalaliDate previousWorkingDay() {
-        JalaliDate prev = minusDays(1);
-        while (prev.isWeekend() || prev.isHoliday()) {
-            prev = prev.minusDays(1);
-        }
-        return prev;
+        return plusWorkingDays(-1);
+    }
+
+    /**
+     * Returns the first day before this date that is neither a weekend day under the specified policy
+     * nor a holiday.
+     *
+     * @param weekend the weekend policy, not null
+     * @return the previous working day, not null
+     */
+    public JalaliDate previousWorkingDay(WeekendPolicy weekend) {
+        return plusWorkingDays(-1, weekend);
+    }
+
+    /**
+     * Returns the working day the specified number of working days after this date.
+     * Negative values move backwards; zero returns this date, even if it is not a working day.
+     * Working days are resolved with {@link WorkingDayCalendar#getDefault()}.
+     *
+     * @param workingDays the number of working days to add, may be negative
+     * @return the resulting working day, not null
+     * @throws IllegalArgumentException if the result is outside the supported range
+     */
+    public JalaliDate plusWorkingDays(long workingDays) {
+        return plusWorkingDays(workingDays, WeekendPolicy.getDefault());
+    }
+
+    /**
+     * Returns the working day the specified number of working days after this date, using the
+     * specified weekend policy and the default holiday calendar.
+     *
+     * @param workingDays the number of working days to add, may be negative
+     * @param weekend     the weekend policy, not null
+     * @return the resulting working day, not null
+     * @throws IllegalArgumentException if the result is outside the supported range
+     */
+    public JalaliDate plusWorkingDays(long workingDays, WeekendPolicy weekend) {
+        if (workingDays == 0) return this;
+        return ofEpochDay(WorkingDayCalendar.getDefault(weekend).plusWorkingDays(epochDay, workingDays));
+    }
+
+    /**
+     * Counts the working days from this date, inclusive, to the other date, exclusive.
+     * Working days are resolved with {@link WorkingDayCalendar#getDefault()}.
+     *
+     * @param other the end date, exclusive, not null
+     * @return the number of working days, negative if the other date is before this date
+     */
+    public long workingDaysUntil(JalaliDate other) {
+        return WorkingDayCalendar.getDefault().workingDaysBetween(epochDay, other.epochDay);
+    }
+
+    /**
+     * Checks if this date is a working day, that is neither a weekend day nor a holiday.
+     *
+     * @return true if this date is a working day
+     */
+    public boolean isWorkingDay() {
+        return WorkingDayCalendar.getDefault().isWorkingDay(epochDay);
+    }
+
+    /**
+     * Gets the n-th working day of a month.
+     * Working days are resolved with {@link WorkingDayCalendar#getDefault()}.
+     *
+     * @param year  the Jalali year
+     * @param month the month (1-12)
+     * @param n     the 1-based position of the working day within the month
+     * @return the working day, not null
+     * @throws IllegalArgumentException if the month is invalid or has fewer than {@code n} working days
+     */
+    public static JalaliDate nthWorkingDayOfMonth(int year, int month, int n) {
+        return ofEpochDay(WorkingDayCalendar.getDefault().nthWorkingDayOfMonth(year, month, n));
     }
 
     // ------------------------
@@ -724,7 +1112,8 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @return the day-of-week for this date
      */
     public DayOfWeek dayOfWeek() {
-        return toGregorian().getDayOfWeek();
+        // 1970-01-01 was a Thursday
+        return DayOfWeek.of((int) Math.floorMod(epochDay + 3, 7L) + 1);
     }
 
     /**
@@ -735,8 +1124,7 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      */
     public int getDayOfWeek() {
         // Returns 0=Saturday, 1=Sunday, ..., 6=Friday (Persian week)
-        DayOfWeek dow = dayOfWeek();
-        return (dow.getValue() + 1) % 7;
+        return (int) Math.floorMod(epochDay + 5, 7L);
     }
 
     /**
@@ -746,24 +1134,44 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @return the day-of-year (1-366)
      */
     public int getDayOfYear() {
-        int dayOfYear = 0;
-        for (int m = 1; m < month; m++) {
-            dayOfYear += jalaaliMonthLength(year, m);
-        }
-        return dayOfYear + day;
+        return dayOfYear(month, day);
     }
 
     /**
      * Gets the week-of-year field.
-     * This calculates the week number within the year.
+     * Weeks start on Saturday and week 1 is the week containing Farvardin 1.
      *
-     * @return the week-of-year
+     * @return the week-of-year, from 1 to 53
      */
     public int getWeekOfYear() {
-        JalaliDate firstDay = of(year, 1, 1);
-        int firstDayOfWeek = firstDay.getDayOfWeek();
-        int dayOfYear = getDayOfYear();
-        return (dayOfYear + firstDayOfWeek - 1) / 7 + 1;
+        return weekOfYear(getDayOfWeek(), getDayOfYear(), 0, 1);
+    }
+
+    /**
+     * Gets the week-of-year field with the specified week definition.
+     * <p>
+     * Week 1 is the first week of the year with at least {@code minimalDays} days, and days before
+     * it are in week 0, as with {@link java.time.temporal.WeekFields#weekOfYear()}. For example,
+     * {@code getWeekOfYear(DayOfWeek.SATURDAY, 1)} is the same as {@link #getWeekOfYear()}.
+     *
+     * @param firstDayOfWeek the first day of the week, not null
+     * @param minimalDays    the minimal number of days in the first week, from 1 to 7
+     * @return the week-of-year, from 0 to 53
+     * @throws IllegalArgumentException if minimalDays is out of range
+     */
+    public int getWeekOfYear(DayOfWeek firstDayOfWeek, int minimalDays) {
+        return weekOfYear(getDayOfWeek(), getDayOfYear(), firstDayIndex(firstDayOfWeek), checkMinimalDays(minimalDays));
+    }
+
+    /**
+     * Gets the week-of-year field with the first day of week and minimal days of the week fields.
+     *
+     * @param weekFields the week definition, not null
+     * @return the week-of-year, from 0 to 53
+     * @see #getWeekOfYear(DayOfWeek, int)
+     */
+    public int getWeekOfYear(WeekFields weekFields) {
+        return getWeekOfYear(weekFields.getFirstDayOfWeek(), weekFields.getMinimalDaysInFirstWeek());
     }
 
     /**
@@ -777,18 +1185,28 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
     }
 
     /**
-     * Checks if this date falls on a weekend (Thursday or Friday in Iran).
+     * Checks if this date falls on a weekend under {@link WeekendPolicy#getDefault()}
+     * (Thursday or Friday in Iran unless replaced).
      *
      * @return true if this date is a weekend
      */
     public boolean isWeekend() {
-        DayOfWeek dow = dayOfWeek();
-        return dow == DayOfWeek.FRIDAY || dow == DayOfWeek.THURSDAY;
+        return WeekendPolicy.getDefault().isWeekend(epochDay);
+    }
+
+    /**
+     * Checks if this date falls on a weekend under the specified policy.
+     *
+     * @param weekend the weekend policy, not null
+     * @return true if this date is a weekend
+     */
+    public boolean isWeekend(WeekendPolicy weekend) {
+        return weekend.isWeekend(epochDay);
     }
 
     /**
      * Checks if this date falls on a weekday (not weekend).
-     * A weekday is any day that is not Thursday or Friday in Iran.
+     * A weekday is any day that is not a weekend day under {@link WeekendPolicy#getDefault()}.
      *
      * @return true if this date is a weekday (not weekend)
      */
@@ -810,6 +1228,16 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
         return IranianHolidays.isHoliday(this);
     }
 
+    /**
+     * Checks if this date is a holiday or a weekend day under the specified policy.
+     *
+     * @param weekend the weekend policy, not null
+     * @return true if this date is a holiday
+     */
+    public boolean isHoliday(WeekendPolicy weekend) {
+        return IranianHolidays.isHoliday(this, weekend);
+    }
+
     /**
      * Gets the name of the holiday if this date is a holiday.
      *
@@ -819,17 +1247,91 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
         return IranianHolidays.getHolidayName(this);
     }
 
+    /**
+     * Gets the name of the holiday if this date is a holiday or a weekend day under the specified policy.
+     *
+     * @param weekend the weekend policy, not null
+     * @return the holiday name, or null if this date is not a holiday
+     */
+    public String getHolidayName(WeekendPolicy weekend) {
+        return IranianHolidays.getHolidayName(this, weekend);
+    }
+
+    /**
+     * Gets the 6x7 calendar grid of this date's month under the default weekend policy.
+     *
+     * @return the month grid, not null
+     */
+    public JalaliMonthGrid monthGrid() {
+        return JalaliMonthGrid.of(year, month);
+    }
+
     /**
      * Gets all holidays for the specified Jalali year.
-     * This includes both fixed holidays and all Fridays in the year.
+     * This includes both fixed holidays and all weekend days in the year.
      *
      * @param year the Jalali year
-     * @return a list of all holidays in the specified year, sorted by date
+     * @return an unmodifiable list of all holidays in the specified year, sorted by date
      */
     public static List<JalaliDate> getHolidaysInYear(int year) {
         return IranianHolidays.getHolidaysForYear(year);
     }
 
+    /**
+     * Gets all holidays and weekend days under the specified policy for a Jalali year.
+     *
+     * @param year    the Jalali year
+     * @param weekend the weekend policy, not null
+     * @return an unmodifiable list of all holidays in the specified year, sorted by date
+     */
+    public static List<JalaliDate> getHolidaysInYear(int year, WeekendPolicy weekend) {
+        return IranianHolidays.getHolidaysForYear(year, weekend);
+    }
+
+    /**
+     * Gets all holidays and weekend days for the specified Jalali month.
+     *
+     * @param year  the Jalali year
+     * @param month the month (1-12)
+     * @return an unmodifiable list of the holidays in the month, sorted by date
+     */
+    public static List<JalaliDate> getHolidaysInMonth(int year, int month) {
+        return IranianHolidays.getHolidaysForMonth(year, month);
+    }
+
+    /**
+     * Gets all holidays and weekend days under the specified policy for a Jalali month.
+     *
+     * @param year    the Jalali year
+     * @param month   the month (1-12)
+     * @param weekend the weekend policy, not null
+     * @return an unmodifiable list of the holidays in the month, sorted by date
+     */
+    public static List<JalaliDate> getHolidaysInMonth(int year, int month, WeekendPolicy weekend) {
+        return IranianHolidays.getHolidaysForMonth(year, month, weekend);
+    }
+
+    /**
+     * Gets the epoch days of all holidays and weekend days for the specified Jalali year.
+     *
+     * @param year the Jalali year
+     * @return a new array of epoch days in ascending order
+     */
+    public static int[] holidayEpochDays(int year) {
+        return IranianHolidays.holidayEpochDays(year);
+    }
+
+    /**
+     * Gets the epoch days of all holidays and weekend days under the specified policy for a Jalali year.
+     *
+     * @param year    the Jalali year
+     * @param weekend the weekend policy, not null
+     * @return a new array of epoch days in ascending order
+     */
+    public static int[] holidayEpochDays(int year, WeekendPolicy weekend) {
+        return IranianHolidays.holidayEpochDays(year, weekend);
+    }
+
     // ------------------------
     // Comparison and Interval Methods
     // ------------------------
@@ -888,7 +1390,7 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      */
     public long daysUntil(JalaliDate other) {
         Objects.requireNonNull(other, "other");
-        return ChronoUnit.DAYS.between(this.toGregorian(), other.toGregorian());
+        return other.epochDay - this.epochDay;
     }
 
     /**
@@ -946,12 +1448,8 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @throws NullPointerException if other is null
      */
     public Period periodUntil(JalaliDate other) {
-        long years = yearsUntil(other);
-        JalaliDate temp = plusYears(years);
-        long months = temp.monthsUntil(other);
-        temp = temp.plusMonths(months);
-        long days = temp.daysUntil(other);
-        return Period.of((int) years, (int) months, (int) days);
+        Objects.requireNonNull(other, "other");
+        return JalaliDates.periodBetween(JalaliDates.pack(this), JalaliDates.pack(other));
     }
 
     // ------------------------
@@ -986,6 +1484,7 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
     /**
      * Returns a sequential stream of dates from this date until the specified end date (exclusive)
      * with the specified step period.
+     * Steps made of days only are sized and split efficiently when the stream is made parallel.
      *
      * @param endExclusive the end date (exclusive), not null
      * @param step the step period between dates, must be positive
@@ -999,6 +1498,10 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
             throw new IllegalArgumentException("Step must be positive");
         }
 
+        if (step.getYears() == 0 && step.getMonths() == 0) {
+            return StreamSupport.stream(
+                    new EpochDaySpliterator(epochDay, Math.max(epochDay, endExclusive.epochDay), days), false);
+        }
         return Stream.iterate(this,
                 date -> date.isBefore(endExclusive),
                 date -> date.plus(step));
@@ -1006,16 +1509,41 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
 
     /**
      * Returns a copy of this date with the specified period added.
-     * The period is added in the order of years, months, then days.
+     * The period is added in the order of years, months, then days, clamping the day of month
+     * after each of the first two steps.
      *
      * @param period the period to add, not null
      * @return a JalaliDate based on this date with the period added, not null
      * @throws NullPointerException if period is null
      */
     public JalaliDate plus(Period period) {
-        return plusYears(period.getYears())
-                .plusMonths(period.getMonths())
-                .plusDays(period.getDays());
+        return plus(period, DayOfMonthPolicy.CLAMP);
+    }
+
+    /**
+     * Returns a copy of this date with the specified period added, resolving a day that does not
+     * exist after the years or the months step with the specified policy.
+     * The steps work on Jalali fields and epoch days, and only the result is created.
+     *
+     * @param period the period to add, not null
+     * @param policy how to resolve a day past the end of a month, not null
+     * @return a JalaliDate based on this date with the period added, not null
+     * @throws NullPointerException     if period or policy is null
+     * @throws IllegalArgumentException if the result is outside the supported year range,
+     *                                  or a day does not exist under {@link DayOfMonthPolicy#STRICT}
+     */
+    public JalaliDate plus(Period period, DayOfMonthPolicy policy) {
+        Objects.requireNonNull(policy, "policy");
+        if (period.isZero()) return this;
+        long result = epochDay;
+        if (period.getYears() != 0) {
+            result = shiftMonths(year, month, day, period.getYears() * 12L, policy);
+        }
+        if (period.getMonths() != 0) {
+            int ymd = period.getYears() != 0 ? packedOfEpochDay(result) : year * 10000 + month * 100 + day;
+            result = shiftMonths(ymd / 10000, (ymd / 100) % 100, ymd % 100, period.getMonths(), policy);
+        }
+        return ofEpochDay(Math.addExact(result, period.getDays()));
     }
 
     /**
@@ -1027,42 +1555,195 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @throws NullPointerException if period is null
      */
     public JalaliDate minus(Period period) {
-        return minusYears(period.getYears())
-                .minusMonths(period.getMonths())
-                .minusDays(period.getDays());
+        return plus(period.negated(), DayOfMonthPolicy.CLAMP);
     }
 
     // ------------------------
     // Formatting Methods
     // ------------------------
 
+    /**
+     * Outputs this date in ISO-8601 format (yyyy-MM-dd), such as {@code 1403-05-12}.
+     * Digits are always ASCII, whatever the default locale, so the text can be read back by
+     * {@link #parse(String)}. Use {@link #formatTo(Appendable, boolean)} for Persian digits.
+     *
+     * @return the ISO-8601 formatted date string
+     */
     @Override
     public String toString() {
-        return String.format("%04d-%02d-%02d", year, month, day);
+        byte[] buf = new byte[10];
+        writeIso(buf, 0);
+        return new String(buf, StandardCharsets.ISO_8859_1);
     }
 
     /**
-     * Returns this date formatted as an ISO-8601 string (yyyy-MM-dd).
-     * This is equivalent to calling {@link #toString()}.
+     * Appends this date in ISO-8601 format (yyyy-MM-dd) with ASCII digits.
      *
-     * @return the ISO-8601 formatted date string
+     * @param out the appendable to append to, not null
+     * @throws UncheckedIOException if the appendable throws an I/O error
      */
-    public String toIso() {
-        return toString();
+    public void formatTo(Appendable out) {
+        formatTo(out, false);
     }
 
     /**
-     * Formats this date using the specified format with Persian locale.
+     * Appends this date in ISO-8601 format (yyyy-MM-dd) with ASCII or Persian digits.
      *
-     * @param format the format to use
+     * @param out           the appendable to append to, not null
+     * @param persianDigits true for Persian digits (۱۴۰۳-۰۵-۱۲), false for ASCII digits
+     * @throws UncheckedIOException if the appendable throws an I/O error
+     */
+    public void formatTo(Appendable out, boolean persianDigits) {
+        if (out instanceof StringBuilder) {
+            StringBuilder sb = (StringBuilder) out;
+            char zero = persianDigits ? '۰' : '0';
+            appendDigits(sb, year, 1000, zero);
+            sb.append('-');
+            appendDigits(sb, month, 10, zero);
+            sb.append('-');
+            appendDigits(sb, day, 10, zero);
+            return;
+        }
+        char[] buf = new char[10];
+        writeIso(buf, 0, persianDigits);
+        try {
+            if (out instanceof Writer) {
+                ((Writer) out).write(buf, 0, buf.length);
+            } else {
+                for (char c : buf) {
+                    out.append(c);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes this date in ISO-8601 format (yyyy-MM-dd) as 10 ASCII bytes.
+     *
+     * @param dst the buffer to write to, not null
+     * @param off the index of the first byte to write
+     * @return the index after the last byte written, {@code off + 10}
+     * @throws IndexOutOfBoundsException if the buffer has fewer than 10 bytes from the offset
+     */
+    public int writeIso(byte[] dst, int off) {
+        Objects.checkFromIndexSize(off, 10, dst.length);
+        writeDigits(dst, off, year, 4);
+        dst[off + 4] = '-';
+        writeDigits(dst, off + 5, month, 2);
+        dst[off + 7] = '-';
+        writeDigits(dst, off + 8, day, 2);
+        return off + 10;
+    }
+
+    /**
+     * Writes this date in ISO-8601 format (yyyy-MM-dd) as UTF-8 bytes with ASCII or Persian digits.
+     * ASCII output takes 10 bytes; Persian digits take two bytes each, 18 bytes in total.
+     *
+     * @param dst           the buffer to write to, not null
+     * @param off           the index of the first byte to write
+     * @param persianDigits true for Persian digits, false for ASCII digits
+     * @return the index after the last byte written
+     * @throws IndexOutOfBoundsException if the buffer is too small from the offset
+     */
+    public int writeIso(byte[] dst, int off, boolean persianDigits) {
+        if (!persianDigits) return writeIso(dst, off);
+        Objects.checkFromIndexSize(off, 18, dst.length);
+        off = writePersianDigits(dst, off, year, 4);
+        dst[off++] = '-';
+        off = writePersianDigits(dst, off, month, 2);
+        dst[off++] = '-';
+        return writePersianDigits(dst, off, day, 2);
+    }
+
+    /**
+     * Writes this date in ISO-8601 format (yyyy-MM-dd) as 10 chars with ASCII or Persian digits.
+     *
+     * @param dst           the buffer to write to, not null
+     * @param off           the index of the first char to write
+     * @param persianDigits true for Persian digits, false for ASCII digits
+     * @return the index after the last char written, {@code off + 10}
+     * @throws IndexOutOfBoundsException if the buffer has fewer than 10 chars from the offset
+     */
+    public int writeIso(char[] dst, int off, boolean persianDigits) {
+        Objects.checkFromIndexSize(off, 10, dst.length);
+        char zero = persianDigits ? '۰' : '0';
+        writeDigits(dst, off, year, 4, zero);
+        dst[off + 4] = '-';
+        writeDigits(dst, off + 5, month, 2, zero);
+        dst[off + 7] = '-';
+        writeDigits(dst, off + 8, day, 2, zero);
+        return off + 10;
+    }
+
+    private static void writeDigits(byte[] dst, int off, int value, int width) {
+        for (int i = off + width - 1; i >= off; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static void writeDigits(char[] dst, int off, int value, int width, char zero) {
+        for (int i = off + width - 1; i >= off; i--) {
+            dst[i] = (char) (zero + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static void appendDigits(StringBuilder sb, int value, int divisor, char zero) {
+        for (; divisor > 0; divisor /= 10) {
+            sb.append((char) (zero + value / divisor % 10));
+        }
+    }
+
+    // Persian digits U+06F0..U+06F9 encode in UTF-8 as 0xDB 0xB0..0xB9
+    private static int writePersianDigits(byte[] dst, int off, int value, int width) {
+        for (int i = off + 2 * (width - 1); i >= off; i -= 2) {
+            dst[i] = (byte) 0xDB;
+            dst[i + 1] = (byte) (0xB0 + value % 10);
+            value /= 10;
+        }
+        return off + 2 * width;
+    }
+
+    /**
+     * Returns this date formatted as an ISO-8601 string (yyyy-MM-dd) with ASCII digits.
+     * This is equivalent to calling {@link #toString()}.
+     *
+     * @return the ISO-8601 formatted date string
+     */
+    public String toIso() {
+        return toString();
+    }
+
+    /**
+     * Formats this date using the specified format with Persian locale.
+     *
+     * @param format the format to use
      * @return the formatted date string
      */
     public String format(DateFormat format) {
         return format(format, Locale.forLanguageTag("fa"));
     }
 
+    /**
+     * Formats this date with a {@code java.time} formatter, whose date fields are read in the
+     * Jalali calendar through {@link JalaliChronoLocalDate}. Formatters with an override
+     * chronology, such as {@link DateTimeFormatter#ISO_LOCAL_DATE}, convert to that chronology first.
+     *
+     * @param formatter the formatter to use, not null
+     * @return the formatted date string
+     * @throws java.time.DateTimeException if the formatter needs fields a date does not have
+     */
+    public String format(DateTimeFormatter formatter) {
+        return formatter.format(toChronoLocalDate());
+    }
+
     /**
      * Formats this date using the specified format with the given locale.
+     * Numbers are printed with the digits of the default format locale, for example Persian
+     * digits when it is {@code fa}; {@link DateFormat#ISO} always uses ASCII digits.
      *
      * @param format the format to use, one of the following:
      * <ul>
@@ -1080,29 +1761,12 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
         boolean isPersian = locale.getLanguage().equals("fa");
 
         switch (format) {
-            case ISO:
-                return toIso();
             case FULL:
-                return String.format("%s %d %s %d",
-                        getWeekdayName(isPersian),
-                        day,
-                        getMonthName(isPersian),
-                        year);
             case LONG:
-                return String.format("%d %s %d",
-                        day,
-                        getMonthName(isPersian),
-                        year);
             case MEDIUM:
-                return String.format("%d %s %d",
-                        day,
-                        getMonthName(isPersian).substring(0, 3),
-                        year);
             case SHORT:
-                return String.format("%02d/%02d/%02d",
-                        day, month, year % 100);
             case PERSIAN:
-                return String.format("%02d/%02d/%04d", day, month, year);
+                return JalaliDateFormatter.ofStyle(format, isPersian).format(this);
             default:
                 return toIso();
         }
@@ -1197,27 +1861,36 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
         if (this == o) return true;
         if (!(o instanceof JalaliDate)) return false;
         JalaliDate other = (JalaliDate) o;
-        return year == other.year && month == other.month && day == other.day;
+        return epochDay == other.epochDay;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(year, month, day);
+        return Long.hashCode(epochDay);
     }
 
     @Override
     public int compareTo(JalaliDate o) {
         if (o == null) throw new NullPointerException();
-        if (this.year != o.year) return Integer.compare(this.year, o.year);
-        if (this.month != o.month) return Integer.compare(this.month, o.month);
-        return Integer.compare(this.day, o.day);
+        return Long.compare(this.epochDay, o.epochDay);
+    }
+
+    /**
+     * Re-validates the deserialized fields and restores the cached epoch day,
+     * returning the canonical instance from {@link JalaliDateCache} when there is one.
+     * The serialized form still consists of year, month and day only.
+     *
+     * @return a fully initialized equivalent instance
+     */
+    private Object readResolve() {
+        return of(year, month, day);
     }
 
     // ------------------------
     // Validation
     // ------------------------
 
-    private static void validate(int y, int m, int d) {
+    static void validate(int y, int m, int d) {
         if (y < 1 || y > 3178) {
             throw new IllegalArgumentException("Year must be between 1 and 3178");
         }
@@ -1241,12 +1914,8 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @return true if the date values are valid
      */
     public static boolean isValid(int year, int month, int day) {
-        try {
-            validate(year, month, day);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
-        }
+        return year >= 1 && year <= 3178 && month >= 1 && month <= 12
+                && day >= 1 && day <= jalaaliMonthLength(year, month);
     }
 
     // ------------------------
@@ -1343,6 +2012,8 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
     public static class JalaliDateRange {
         private final JalaliDate start;
         private final JalaliDate end;
+        private final long startEpochDay;
+        private final long endEpochDay;
 
         /**
          * Constructor for range of JalaliDate with start and end
@@ -1355,6 +2026,15 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
             if (start.isAfter(end)) {
                 throw new IllegalArgumentException("Start date must be before or equal to end date");
             }
+            this.startEpochDay = start.epochDay;
+            this.endEpochDay = end.epochDay;
+        }
+
+        private JalaliDateRange(long startEpochDay, long endEpochDay) {
+            this.start = ofEpochDay(startEpochDay);
+            this.end = ofEpochDay(endEpochDay);
+            this.startEpochDay = startEpochDay;
+            this.endEpochDay = endEpochDay;
         }
 
         /**
@@ -1367,7 +2047,90 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
          * @return true if the given JalaliDate is within the date range
          */
         public boolean contains(JalaliDate date) {
-            return !date.isBefore(start) && !date.isAfter(end);
+            return contains(date.epochDay);
+        }
+
+        /**
+         * Checks if the given epoch day is within the date range.
+         *
+         * @param epochDay the number of days from 1970-01-01 to check
+         * @return true if the day is on or after the start date and on or before the end date
+         */
+        public boolean contains(long epochDay) {
+            return epochDay >= startEpochDay && epochDay <= endEpochDay;
+        }
+
+        /**
+         * Checks if this range shares at least one day with the other range.
+         *
+         * @param other the other range, not null
+         * @return true if the ranges overlap
+         */
+        public boolean overlaps(JalaliDateRange other) {
+            return startEpochDay <= other.endEpochDay && other.startEpochDay <= endEpochDay;
+        }
+
+        /**
+         * Returns the days shared by this range and the other range.
+         *
+         * @param other the other range, not null
+         * @return the intersection, or null if the ranges do not overlap
+         */
+        public JalaliDateRange intersection(JalaliDateRange other) {
+            long s = Math.max(startEpochDay, other.startEpochDay);
+            long e = Math.min(endEpochDay, other.endEpochDay);
+            return s <= e ? new JalaliDateRange(s, e) : null;
+        }
+
+        /**
+         * Returns the range covering both this range and the other range.
+         *
+         * @param other the other range, not null
+         * @return the union of the two ranges
+         * @throws IllegalArgumentException if the ranges neither overlap nor touch
+         */
+        public JalaliDateRange union(JalaliDateRange other) {
+            if (startEpochDay > other.endEpochDay + 1 || other.startEpochDay > endEpochDay + 1) {
+                throw new IllegalArgumentException("Ranges are disjoint: " + this + " and " + other);
+            }
+            return new JalaliDateRange(Math.min(startEpochDay, other.startEpochDay),
+                    Math.max(endEpochDay, other.endEpochDay));
+        }
+
+        /**
+         * Splits this range into consecutive sub-ranges of the given period.
+         * The k-th sub-range starts at {@code start.plus(period * k)}, so month steps do not drift;
+         * the last sub-range is truncated at the end of this range, also when the next boundary
+         * would fall after the last supported year.
+         *
+         * @param period the length of each sub-range, must be positive
+         * @return the sub-ranges in order
+         * @throws IllegalArgumentException if the period is not positive
+         */
+        public List<JalaliDateRange> split(Period period) {
+            Objects.requireNonNull(period, "period");
+            if (period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("Period must be positive");
+            }
+            List<JalaliDateRange> parts = new ArrayList<>();
+            long totalMonths = period.toTotalMonths();
+            Period monthPart = period.withDays(0);
+            long startMonth = start.year * 12L + start.month - 1;
+            long from = startEpochDay;
+            for (int k = 1; from <= endEpochDay; k++) {
+                long next;
+                if (totalMonths == 0) {
+                    next = startEpochDay + (long) k * period.getDays();
+                } else if (startMonth + k * totalMonths >= (YearTable.MAX_YEAR + 1) * 12L) {
+                    // The boundary is past the last supported year, so past the end of this range
+                    next = endEpochDay + 1;
+                } else {
+                    next = start.plus(monthPart.multipliedBy(k)).epochDay + (long) k * period.getDays();
+                }
+                parts.add(new JalaliDateRange(from, Math.min(next - 1, endEpochDay)));
+                from = next;
+            }
+            return parts;
         }
 
         /**
@@ -1379,7 +2142,7 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
          * @return the number of days in the date range
          */
         public long getDays() {
-            return start.daysUntil(end) + 1;
+            return endEpochDay - startEpochDay + 1;
         }
 
         /**
@@ -1389,7 +2152,27 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
          * @return a stream of all dates in the range
          */
         public Stream<JalaliDate> stream() {
-            return start.datesUntil(end.plusDays(1));
+            return StreamSupport.stream(new EpochDaySpliterator(startEpochDay, endEpochDay + 1, 1), false);
+        }
+
+        /**
+         * Returns the epoch days of all dates in the range, inclusive of the start and end dates.
+         * The stream is sized and splits evenly when made parallel.
+         *
+         * @return a stream of epoch days in the range
+         */
+        public LongStream epochDays() {
+            return LongStream.rangeClosed(startEpochDay, endEpochDay);
+        }
+
+        /**
+         * Returns the epoch days of all dates in the range as ints, inclusive of the start and end dates.
+         * Every supported date has an epoch day that fits in an int.
+         *
+         * @return a stream of epoch days in the range
+         */
+        public IntStream epochDaysAsInt() {
+            return IntStream.rangeClosed((int) startEpochDay, (int) endEpochDay);
         }
 
         /**
@@ -1399,7 +2182,21 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
          * @return a list of all dates in the range
          */
         public List<JalaliDate> toList() {
-            return stream().collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+            return new ArrayList<>(Arrays.asList(toArray()));
+        }
+
+        /**
+         * Converts the JalaliDateRange to an array of dates.
+         * The array will contain all dates in the range, inclusive of the start and end dates.
+         *
+         * @return an array of all dates in the range
+         */
+        public JalaliDate[] toArray() {
+            JalaliDate[] dates = new JalaliDate[(int) getDays()];
+            for (int i = 0; i < dates.length; i++) {
+                dates[i] = ofEpochDay(startEpochDay + i);
+            }
+            return dates;
         }
 
         /**
@@ -1419,6 +2216,85 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
         public JalaliDate getEnd() {
             return end;
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof JalaliDateRange)) return false;
+            JalaliDateRange other = (JalaliDateRange) o;
+            return startEpochDay == other.startEpochDay && endEpochDay == other.endEpochDay;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(startEpochDay) * 31 + Long.hashCode(endEpochDay);
+        }
+
+        @Override
+        public String toString() {
+            return start + ".." + end;
+        }
+    }
+
+    /**
+     * Sized spliterator over dates whose epoch days form an arithmetic sequence.
+     * Splits in constant time by halving the number of remaining elements.
+     */
+    private static final class EpochDaySpliterator implements Spliterator<JalaliDate> {
+        private long next;
+        private final long endExclusive;
+        private final long step;
+
+        EpochDaySpliterator(long start, long endExclusive, long step) {
+            this.next = start;
+            this.endExclusive = endExclusive;
+            this.step = step;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JalaliDate> action) {
+            Objects.requireNonNull(action);
+            if (next >= endExclusive) return false;
+            long current = next;
+            next += step;
+            action.accept(ofEpochDay(current));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super JalaliDate> action) {
+            Objects.requireNonNull(action);
+            long current = next;
+            next = endExclusive;
+            for (; current < endExclusive; current += step) {
+                action.accept(ofEpochDay(current));
+            }
+        }
+
+        @Override
+        public Spliterator<JalaliDate> trySplit() {
+            long size = estimateSize();
+            if (size < 2) return null;
+            long mid = next + (size / 2) * step;
+            Spliterator<JalaliDate> prefix = new EpochDaySpliterator(next, mid, step);
+            next = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return next >= endExclusive ? 0 : (endExclusive - next + step - 1) / step;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | SORTED | DISTINCT | NONNULL | IMMUTABLE;
+        }
+
+        @Override
+        public Comparator<? super JalaliDate> getComparator() {
+            return null;
+        }
     }
 
     // ------------------------
@@ -1459,95 +2335,223 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
         AUTO      // Auto-detect
     }
 
+    /**
+     * Resolution of a day of month that does not exist after month or year arithmetic,
+     * such as Shahrivar 31 plus one month or Esfand 30 plus one year
+     */
+    public enum DayOfMonthPolicy {
+        /**
+         * Use the last day of the month: 1403/06/31 plus one month is 1403/07/30
+         */
+        CLAMP,
+        /**
+         * Carry the extra days into the next month: 1403/06/31 plus one month is 1403/08/01
+         */
+        OVERFLOW,
+        /**
+         * Reject the date with an {@link IllegalArgumentException}
+         */
+        STRICT
+    }
+
     // ------------------------
     // Holiday Support Class
     // ------------------------
 
     /**
-     * Iranian calendar holidays
+     * Iranian calendar holidays, backed by {@link HolidayCalendar#getDefault()} and, for weekends,
+     * {@link WeekendPolicy#getDefault()} unless a policy is passed
      */
     public static class IranianHolidays {
-        private static final Map<String, String> FIXED_HOLIDAYS = new HashMap<>();
-
-        static {
-            // Nowruz holidays
-            FIXED_HOLIDAYS.put("1-1", "Nowruz");
-            FIXED_HOLIDAYS.put("1-2", "Nowruz Holiday");
-            FIXED_HOLIDAYS.put("1-3", "Nowruz Holiday");
-            FIXED_HOLIDAYS.put("1-4", "Nowruz Holiday");
-            FIXED_HOLIDAYS.put("1-12", "Islamic Republic Day");
-            FIXED_HOLIDAYS.put("1-13", "Sizdah Bedar");
-
-            // Other fixed holidays
-            FIXED_HOLIDAYS.put("3-14", "Death of Imam Khomeini");
-            FIXED_HOLIDAYS.put("3-15", "Revolt of Khordad 15");
-            FIXED_HOLIDAYS.put("11-22", "Victory of Islamic Revolution");
-            FIXED_HOLIDAYS.put("12-29", "Oil Nationalization Day");
-        }
 
         /**
          * Checks if the given JalaliDate is a holiday in Iran.
-         * This method returns true if the given JalaliDate is a fixed holiday or a weekend (Thursday or Friday).
+         * This method returns true if the given JalaliDate is a fixed holiday or a weekend day
+         * under {@link WeekendPolicy#getDefault()} (Thursday or Friday unless replaced).
          *
          * @param date the JalaliDate to check
          * @return true if the given JalaliDate is a holiday
          */
         public static boolean isHoliday(JalaliDate date) {
-            String key = date.month + "-" + date.day;
-            return FIXED_HOLIDAYS.containsKey(key) || date.isWeekend();
+            return isHoliday(date, WeekendPolicy.getDefault());
+        }
+
+        /**
+         * Checks if the given JalaliDate is a holiday or a weekend day under the specified policy.
+         *
+         * @param date    the JalaliDate to check
+         * @param weekend the weekend policy
+         * @return true if the given JalaliDate is a holiday
+         */
+        public static boolean isHoliday(JalaliDate date, WeekendPolicy weekend) {
+            return weekend.isWeekend(date.epochDay) || HolidayCalendar.getDefault().isHoliday(date);
         }
 
         /**
          * Gets the name of the holiday if the given JalaliDate is a holiday.
          * If the given JalaliDate is not a holiday, then this method returns null.
-         * Otherwise, it returns the name of the holiday.
+         * Otherwise, it returns the name of the holiday, or a name such as "Friday (Weekend)"
+         * for a weekend day.
          *
          * @param date the JalaliDate to check
          * @return the name of the holiday if the given JalaliDate is a holiday, or null if it is not
          */
         public static String getHolidayName(JalaliDate date) {
-            String key = date.month + "-" + date.day;
-            if (FIXED_HOLIDAYS.containsKey(key)) {
-                return FIXED_HOLIDAYS.get(key);
-            }
-            if (date.dayOfWeek() == DayOfWeek.FRIDAY) {
-                return "Friday (Weekend)";
+            return getHolidayName(date, WeekendPolicy.getDefault());
+        }
+
+        /**
+         * Gets the name of the holiday if the given JalaliDate is a holiday or a weekend day
+         * under the specified policy.
+         *
+         * @param date    the JalaliDate to check
+         * @param weekend the weekend policy
+         * @return the name of the holiday if the given JalaliDate is a holiday, or null if it is not
+         */
+        public static String getHolidayName(JalaliDate date, WeekendPolicy weekend) {
+            String name = HolidayCalendar.getDefault().getHolidayName(date);
+            if (name != null) {
+                return name;
             }
-            return null;
+            int dow = date.getDayOfWeek();
+            return weekend.isWeekendDay(dow) ? WeekendPolicy.weekendName(dow) : null;
         }
 
+        // Direct-mapped cache of year lists; a colliding year replaces the previous entry
+        private static final int CACHE_SIZE = 256;
+        private static final AtomicReferenceArray<YearEntry> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
         /**
          * Gets all holidays for the specified Jalali year.
-         * This includes both fixed holidays and all Fridays in the year.
+         * This includes both fixed holidays and all weekend days in the year.
          *
          * @param year the Jalali year
-         * @return a list of all holidays in the specified year, sorted by date
+         * @return an unmodifiable list of all holidays in the specified year, sorted by date
          */
         public static List<JalaliDate> getHolidaysForYear(int year) {
-            List<JalaliDate> holidays = new ArrayList<>();
-            for (String key : FIXED_HOLIDAYS.keySet()) {
-                String[] parts = key.split("-");
-                int month = Integer.parseInt(parts[0]);
-                int day = Integer.parseInt(parts[1]);
-                if (JalaliDate.isValid(year, month, day)) {
-                    holidays.add(JalaliDate.of(year, month, day));
-                }
+            return getHolidaysForYear(year, WeekendPolicy.getDefault());
+        }
+
+        /**
+         * Gets all holidays and weekend days under the specified policy for a Jalali year.
+         * Results are memoized for a bounded number of years and policies.
+         *
+         * @param year    the Jalali year
+         * @param weekend the weekend policy
+         * @return an unmodifiable list of all holidays in the specified year, sorted by date
+         */
+        public static List<JalaliDate> getHolidaysForYear(int year, WeekendPolicy weekend) {
+            return entry(year, weekend).dates;
+        }
+
+        /**
+         * Gets all holidays and weekend days under the default policy for a Jalali month.
+         *
+         * @param year  the Jalali year
+         * @param month the month (1-12)
+         * @return an unmodifiable list of the holidays in the month, sorted by date
+         */
+        public static List<JalaliDate> getHolidaysForMonth(int year, int month) {
+            return getHolidaysForMonth(year, month, WeekendPolicy.getDefault());
+        }
+
+        /**
+         * Gets all holidays and weekend days under the specified policy for a Jalali month.
+         *
+         * @param year    the Jalali year
+         * @param month   the month (1-12)
+         * @param weekend the weekend policy
+         * @return an unmodifiable list of the holidays in the month, sorted by date
+         */
+        public static List<JalaliDate> getHolidaysForMonth(int year, int month, WeekendPolicy weekend) {
+            if (month < 1 || month > 12) {
+                throw new IllegalArgumentException("Month must be between 1 and 12");
+            }
+            YearEntry entry = entry(year, weekend);
+            return entry.dates.subList(entry.monthStart[month - 1], entry.monthStart[month]);
+        }
+
+        /**
+         * Gets the epoch days of all holidays and weekend days under the default policy for a Jalali year.
+         *
+         * @param year the Jalali year
+         * @return a new array of epoch days in ascending order
+         */
+        public static int[] holidayEpochDays(int year) {
+            return holidayEpochDays(year, WeekendPolicy.getDefault());
+        }
+
+        /**
+         * Gets the epoch days of all holidays and weekend days under the specified policy for a Jalali year.
+         *
+         * @param year    the Jalali year
+         * @param weekend the weekend policy
+         * @return a new array of epoch days in ascending order
+         */
+        public static int[] holidayEpochDays(int year, WeekendPolicy weekend) {
+            return entry(year, weekend).epochDays.clone();
+        }
+
+        private static YearEntry entry(int year, WeekendPolicy weekend) {
+            HolidayCalendar calendar = HolidayCalendar.getDefault();
+            int mask = weekend.getMask();
+            int slot = Math.floorMod(year * 31 + mask, CACHE_SIZE);
+            YearEntry entry = CACHE.get(slot);
+            if (entry == null || entry.year != year || entry.mask != mask || entry.calendar != calendar) {
+                entry = new YearEntry(calendar, year, weekend);
+                CACHE.set(slot, entry);
             }
-            // Add all Fridays
-            JalaliDate date = JalaliDate.of(year, 1, 1);
-            while (date.year == year) {
-                if (date.dayOfWeek() == DayOfWeek.FRIDAY) {
-                    holidays.add(date);
+            return entry;
+        }
+
+        /**
+         * Holidays and weekend days of one year under one policy and holiday calendar.
+         */
+        private static final class YearEntry {
+            final HolidayCalendar calendar;
+            final int year;
+            final int mask;
+            final int[] epochDays;
+            final List<JalaliDate> dates;
+            // Index in dates of the first holiday of each month, with the size at index 12
+            final int[] monthStart = new int[13];
+
+            YearEntry(HolidayCalendar calendar, int year, WeekendPolicy weekend) {
+                this.calendar = calendar;
+                this.year = year;
+                this.mask = weekend.getMask();
+
+                int[] days = new int[calendar.countHolidays(year) + 106];
+                int count = 0;
+                long first = firstEpochDayOfYear(year);
+                int dow = (int) Math.floorMod(first + 5, 7L);
+                int month = 1;
+                for (int i = 0, length = (int) (firstEpochDayOfYear(year + 1) - first); i < length; i++) {
+                    while (month < 12 && i >= DAYS_BEFORE_MONTH[month + 1]) {
+                        monthStart[month++] = count;
+                    }
+                    if (weekend.isWeekendDay(dow) || calendar.isHoliday(year, i)) {
+                        if (count == days.length) days = Arrays.copyOf(days, count * 2);
+                        days[count++] = (int) (first + i);
+                    }
+                    if (++dow == 7) dow = 0;
+                }
+                while (month <= 12) {
+                    monthStart[month++] = count;
                 }
-                date = date.plusDays(1);
+                this.epochDays = Arrays.copyOf(days, count);
+
+                JalaliDate[] dates = new JalaliDate[count];
+                for (int i = 0; i < count; i++) {
+                    dates[i] = ofEpochDay(epochDays[i]);
+                }
+                this.dates = Collections.unmodifiableList(Arrays.asList(dates));
             }
-            holidays.sort(Comparator.naturalOrder());
-            return holidays;
         }
     }
 
     // ------------------------
-    // Core Conversion Helpers (unchanged from original)
+    // Core Conversion Helpers
     // ------------------------
 
     /**
@@ -1572,9 +2576,182 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @return true if the year is a leap year
      */
     public static boolean isLeapJalaliYear(int jy) {
+        if (jy >= YearTable.MIN_YEAR && jy <= YearTable.MAX_YEAR) {
+            return YearTable.LEAP[jy - YearTable.MIN_YEAR];
+        }
         return jalCal(jy).leap;
     }
 
+    /**
+     * Converts an epoch day to a date packed as {@code yyyymmdd} without range checks.
+     *
+     * @param epochDay the epoch day, within the supported year range
+     * @return the packed Jalali date
+     */
+    static int packedOfEpochDay(long epochDay) {
+        int jdn = (int) epochDay + EPOCH_JDN;
+        int jy = jalaliYearOfJdn(jdn);
+        return jy * 10000 + MONTH_DAY_OF_YEAR[jdn - YearTable.FARVARDIN_1[jy - YearTable.MIN_YEAR]];
+    }
+
+    /**
+     * Converts Jalali fields to an epoch day without validating them.
+     *
+     * @param jy the Jalali year
+     * @param jm the Jalali month (1-12)
+     * @param jd the Jalali day
+     * @return the number of days from 1970-01-01
+     */
+    static long epochDayOf(int jy, int jm, int jd) {
+        return j2d(jy, jm, jd) - (long) EPOCH_JDN;
+    }
+
+    /**
+     * Checks that the epoch day is inside the supported year range.
+     *
+     * @param epochDay the epoch day to check
+     * @throws IllegalArgumentException if it is out of range
+     */
+    static void checkEpochDay(long epochDay) {
+        if (epochDay < YearTable.MIN_EPOCH_DAY || epochDay > YearTable.MAX_EPOCH_DAY) {
+            throw new IllegalArgumentException("Epoch day out of supported range: " + epochDay);
+        }
+    }
+
+    /**
+     * Gets the epoch day of Farvardin 1 of the specified Jalali year.
+     *
+     * @param jy the Jalali year
+     * @return the number of days from 1970-01-01 to the first day of the year
+     */
+    static long firstEpochDayOfYear(int jy) {
+        return farvardin1(jy) - (long) EPOCH_JDN;
+    }
+
+    /**
+     * Moves a valid date by a number of months on its Jalali fields and resolves the day of month
+     * with the policy.
+     *
+     * @return the epoch day of the result
+     * @throws IllegalArgumentException if the resulting month is out of range, or the day does
+     *                                  not exist under {@link DayOfMonthPolicy#STRICT}
+     */
+    private static long shiftMonths(int jy, int jm, int jd, long months, DayOfMonthPolicy policy) {
+        // Months counted from Farvardin of year 0
+        long target = Math.addExact(jy * 12L + jm - 1, months);
+        if (target < YearTable.MIN_YEAR * 12L || target >= (YearTable.MAX_YEAR + 1) * 12L) {
+            throw new IllegalArgumentException("Year must be between 1 and 3178");
+        }
+        int year = (int) (target / 12);
+        int month = (int) (target % 12) + 1;
+        int length = jalaaliMonthLength(year, month);
+        if (jd > length) {
+            switch (policy) {
+                case CLAMP:
+                    jd = length;
+                    break;
+                case STRICT:
+                    throw new IllegalArgumentException(
+                            String.format("Day %d does not exist in %d/%d", jd, year, month));
+                default:
+                    // OVERFLOW: the epoch day below runs into the next month
+                    break;
+            }
+        }
+        return firstEpochDayOfYear(year) + DAYS_BEFORE_MONTH[month] + jd - 1;
+    }
+
+    /**
+     * Gets the day of year of a month and day, which must already be validated.
+     *
+     * @param jm the Jalali month (1-12)
+     * @param jd the Jalali day
+     * @return the day of year, from 1 to 366
+     */
+    static int dayOfYear(int jm, int jd) {
+        return DAYS_BEFORE_MONTH[jm] + jd;
+    }
+
+    /**
+     * Packs a year and day of year, which must already be validated, as {@code yyyymmdd}.
+     *
+     * @param jy        the Jalali year
+     * @param dayOfYear the day of year, from 1 to 366
+     * @return the packed Jalali date
+     */
+    static int packedOfYearDay(int jy, int dayOfYear) {
+        return jy * 10000 + MONTH_DAY_OF_YEAR[dayOfYear - 1];
+    }
+
+    /**
+     * Gets the week of year under a week definition, as {@link java.time.temporal.WeekFields#weekOfYear()}
+     * computes it, from already validated values.
+     *
+     * @param dayOfWeek     the day of week of the date, 0 = Saturday
+     * @param dayOfYear     the day of year of the date, from 1 to 366
+     * @param firstDayIndex the first day of the week, 0 = Saturday
+     * @param minimalDays   the minimal number of days in week 1, from 1 to 7
+     * @return the week of year, from 0 to 53
+     */
+    static int weekOfYear(int dayOfWeek, int dayOfYear, int firstDayIndex, int minimalDays) {
+        // Position of the date in its week, from 1 to 7
+        int localDayOfWeek = Math.floorMod(dayOfWeek - firstDayIndex, 7) + 1;
+        // Day of year, minus one, of the start of the first week starting in the year
+        int weekStart = Math.floorMod(dayOfYear - localDayOfWeek, 7);
+        int offset = weekStart + 1 > minimalDays ? 7 - weekStart : -weekStart;
+        return (7 + offset + (dayOfYear - 1)) / 7;
+    }
+
+    /**
+     * Gets the index of a day of the week in the Saturday-based numbering (0 = Saturday).
+     *
+     * @param day the day of the week, not null
+     * @return the index, from 0 to 6
+     */
+    static int firstDayIndex(DayOfWeek day) {
+        // MONDAY is 1 and SATURDAY is 6 in ISO numbering
+        return (day.getValue() + 1) % 7;
+    }
+
+    /**
+     * Checks the minimal number of days in the first week of a year.
+     *
+     * @param minimalDays the value to check
+     * @return the value
+     * @throws IllegalArgumentException if it is not between 1 and 7
+     */
+    static int checkMinimalDays(int minimalDays) {
+        if (minimalDays < 1 || minimalDays > 7) {
+            throw new IllegalArgumentException("Minimal days must be between 1 and 7: " + minimalDays);
+        }
+        return minimalDays;
+    }
+
+    /**
+     * Gets the Jalali year containing the specified epoch day, which must already be checked.
+     *
+     * @param epochDay the number of days from 1970-01-01, inside the supported range
+     * @return the Jalali year
+     */
+    static int yearOfEpochDay(long epochDay) {
+        return jalaliYearOfJdn((int) (epochDay + EPOCH_JDN));
+    }
+
+    /**
+     * Gets the Julian Day Number of Farvardin 1 of the specified Jalali year.
+     * Reads from the precomputed year table and falls back to {@code jalCal} outside of it.
+     *
+     * @param jy the Jalali year
+     * @return the Julian Day Number of the first day of the year
+     */
+    private static int farvardin1(int jy) {
+        if (jy >= YearTable.MIN_YEAR && jy <= YearTable.MAX_YEAR) {
+            return YearTable.FARVARDIN_1[jy - YearTable.MIN_YEAR];
+        }
+        JalCalResult r = jalCal(jy);
+        return g2d(r.gy, 3, r.march);
+    }
+
     /**
      * Converts a Jalali date to a Julian Day Number (JDN).
      *
@@ -1584,57 +2761,22 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
      * @return the corresponding Julian Day Number (JDN)
      */
     private static int j2d(int jy, int jm, int jd) {
-        JalCalResult r = jalCal(jy);
-        int gy = r.gy;
-        int march = r.march;
-        int jDayOfYear;
-        if (jm <= 7) {
-            jDayOfYear = (jm - 1) * 31 + (jd - 1);
-        } else {
-            jDayOfYear = 6 * 31 + (jm - 7) * 30 + (jd - 1);
-        }
-        int jdnFarvardin1 = g2d(gy, 3, march);
-        return jdnFarvardin1 + jDayOfYear;
+        return farvardin1(jy) + DAYS_BEFORE_MONTH[jm] + (jd - 1);
     }
 
-    private static int[] g2j(int jdn) {
-        int[] g = d2g(jdn);
-        int gy = g[0];
-        int gm = g[1];
-        int gd = g[2];
-        int jy = gy - 621;
-        JalCalResult r = jalCal(jy);
-        int march = r.march;
-        int jdnFarvardin1 = g2d(gy, 3, march);
-        int k = jdn - jdnFarvardin1;
-        if (k >= 0) {
-            if (k <= 185) {
-                int jm = 1 + k / 31;
-                int jd = (k % 31) + 1;
-                return new int[]{jy, jm, jd};
-            } else {
-                k -= 186;
-                int jm = 7 + k / 30;
-                int jd = (k % 30) + 1;
-                return new int[]{jy, jm, jd};
-            }
-        } else {
-            jy = jy - 1;
-            r = jalCal(jy);
-            march = r.march;
-            jdnFarvardin1 = g2d(gy - 1, 3, march);
-            k = jdn - jdnFarvardin1;
-            if (k <= 185) {
-                int jm = 1 + k / 31;
-                int jd = (k % 31) + 1;
-                return new int[]{jy, jm, jd};
-            } else {
-                k -= 186;
-                int jm = 7 + k / 30;
-                int jd = (k % 30) + 1;
-                return new int[]{jy, jm, jd};
-            }
-        }
+    /**
+     * Finds the Jalali year containing the specified Julian Day Number.
+     * Looks up the year of the enclosing 256-day block, which is either the
+     * answer or the year before it, so no loop or Gregorian fields are needed.
+     *
+     * @param jdn the Julian Day Number, within the supported year range
+     * @return the Jalali year containing the day
+     */
+    private static int jalaliYearOfJdn(int jdn) {
+        int[] farvardin1 = YearTable.FARVARDIN_1;
+        int jy = YearTable.YEAR_OF_BLOCK[(jdn - farvardin1[0]) >>> YearTable.BLOCK_SHIFT];
+        // FARVARDIN_1[jy - MIN_YEAR + 1] is Farvardin 1 of the following year
+        return farvardin1[jy - YearTable.MIN_YEAR + 1] <= jdn ? jy + 1 : jy;
     }
 
     private static int g2d(int gy, int gm, int gd) {
@@ -1644,25 +2786,27 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
         return gd + (153 * m + 2) / 5 + 365 * y + y / 4 - y / 100 + y / 400 - 32045;
     }
 
-    private static int[] d2g(int jdn) {
-        int a = jdn + 32044;
-        int b = (4 * a + 3) / 146097;
-        int c = a - (146097 * b) / 4;
-        int d = (4 * c + 3) / 1461;
-        int e = c - (1461 * d) / 4;
-        int m = (5 * e + 2) / 153;
-        int day = e - (153 * m + 2) / 5 + 1;
-        int month = m + 3 - 12 * (m / 10);
-        int year = 100 * b + d - 4800 + (m / 10);
-        return new int[]{year, month, day};
+    // Days in the year before the first day of each month, indexed by month (1-12)
+    private static final int[] DAYS_BEFORE_MONTH = {0, 0, 31, 62, 93, 124, 155, 186, 216, 246, 276, 306, 336};
+
+    // Packed month * 100 + day for each zero-based day of the year
+    private static final short[] MONTH_DAY_OF_YEAR = new short[366];
+
+    static {
+        for (int k = 0; k < 366; k++) {
+            int jm = k <= 185 ? 1 + k / 31 : 7 + (k - 186) / 30;
+            MONTH_DAY_OF_YEAR[k] = (short) (jm * 100 + k - DAYS_BEFORE_MONTH[jm] + 1);
+        }
     }
 
+    private static final int[] BREAKS = {
+            -61, 9, 38, 199, 426, 686, 756, 818,
+            1111, 1181, 1210, 1635, 2060, 2097, 2192,
+            2262, 2324, 2394, 2456, 3178
+    };
+
     private static JalCalResult jalCal(int jy) {
-        final int[] breaks = {
-                -61, 9, 38, 199, 426, 686, 756, 818,
-                1111, 1181, 1210, 1635, 2060, 2097, 2192,
-                2262, 2324, 2394, 2456, 3178
-        };
+        final int[] breaks = BREAKS;
         int bl = breaks.length;
         int gy = jy + 621;
         int leapJ = -14;
@@ -1693,6 +2837,59 @@ public final class JalaliDate implements Comparable<JalaliDate>, Serializable {
         return new JalCalResult(isLeap, gy, march);
     }
 
+    /**
+     * Precomputed {@code jalCal} results for the supported year range.
+     * Built on first use by the class loader, so lookups need no locking.
+     */
+    private static final class YearTable {
+        static final int MIN_YEAR = 1;
+        static final int MAX_YEAR = 3178;
+
+        /**
+         * Leap flag per year, indexed by {@code jy - MIN_YEAR}
+         */
+        static final boolean[] LEAP = new boolean[MAX_YEAR - MIN_YEAR + 1];
+
+        /**
+         * Julian Day Number of Farvardin 1 (March {@code march} of Gregorian year {@code gy}) per year,
+         * with one extra entry for {@code MAX_YEAR + 1} so the end of the last year can be found
+         */
+        static final int[] FARVARDIN_1 = new int[MAX_YEAR - MIN_YEAR + 2];
+
+        static {
+            for (int jy = MIN_YEAR; jy <= MAX_YEAR + 1; jy++) {
+                JalCalResult r = jalCal(jy);
+                if (jy <= MAX_YEAR) LEAP[jy - MIN_YEAR] = r.leap;
+                FARVARDIN_1[jy - MIN_YEAR] = g2d(r.gy, 3, r.march);
+            }
+        }
+
+        /**
+         * Epoch days of 1/1/1 and of the last day of {@code MAX_YEAR}
+         */
+        static final long MIN_EPOCH_DAY = FARVARDIN_1[0] - (long) EPOCH_JDN;
+        static final long MAX_EPOCH_DAY = FARVARDIN_1[MAX_YEAR - MIN_YEAR + 1] - 1L - EPOCH_JDN;
+
+        /**
+         * Blocks are shorter than a year, so each one contains at most one Farvardin 1
+         */
+        static final int BLOCK_SHIFT = 8;
+
+        /**
+         * Jalali year containing the first day of each 256-day block counted from 1/1/1
+         */
+        static final short[] YEAR_OF_BLOCK = new short[(int) ((MAX_EPOCH_DAY - MIN_EPOCH_DAY) >>> BLOCK_SHIFT) + 1];
+
+        static {
+            int jy = MIN_YEAR;
+            for (int b = 0; b < YEAR_OF_BLOCK.length; b++) {
+                int jdn = FARVARDIN_1[0] + (b << BLOCK_SHIFT);
+                while (FARVARDIN_1[jy - MIN_YEAR + 1] <= jdn) jy++;
+                YEAR_OF_BLOCK[b] = (short) jy;
+            }
+        }
+    }
+
     private static final class JalCalResult {
         final boolean leap;
         final int gy;
@@ -0,0 +1,163 @@
+package io.github.jamalianpour.date;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free cache of canonical {@link JalaliDate} instances keyed by epoch day.
+ * <p>
+ * Only dates inside a configurable window of Jalali years are cached (1300 to 1500 by default).
+ * Factory methods such as {@link JalaliDate#of(int, int, int)}, {@link JalaliDate#ofEpochDay(long)},
+ * {@link JalaliDate#fromGregorian(java.time.LocalDate)}, {@link JalaliDate#plusDays(long)} and the
+ * parse methods return the cached instance when one exists, so repeated dates are not allocated again.
+ * Concurrent first requests for the same day may race; the first instance stored wins and is
+ * returned to every caller afterwards.
+ */
+public final class JalaliDateCache {
+
+    /**
+     * Default first year of the cached window
+     */
+    public static final int DEFAULT_FROM_YEAR = 1300;
+
+    /**
+     * Default last year of the cached window
+     */
+    public static final int DEFAULT_TO_YEAR = 1500;
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private static volatile Window window = new Window(DEFAULT_FROM_YEAR, DEFAULT_TO_YEAR);
+
+    private JalaliDateCache() {
+    }
+
+    /**
+     * Replaces the cached window with the specified range of Jalali years (inclusive).
+     * Previously cached instances are dropped; statistics are kept.
+     *
+     * @param fromYear the first Jalali year to cache, from 1 to 3178
+     * @param toYear   the last Jalali year to cache, from {@code fromYear} to 3178
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    public static void configure(int fromYear, int toYear) {
+        if (fromYear < 1 || toYear > 3178 || fromYear > toYear) {
+            throw new IllegalArgumentException("Invalid cache window: " + fromYear + ".." + toYear);
+        }
+        window = new Window(fromYear, toYear);
+    }
+
+    /**
+     * Disables the cache. Factory methods allocate a new instance on every call until
+     * {@link #configure(int, int)} is called again.
+     */
+    public static void disable() {
+        window = null;
+    }
+
+    /**
+     * Checks if the cache is enabled.
+     *
+     * @return true if a window is configured
+     */
+    public static boolean isEnabled() {
+        return window != null;
+    }
+
+    /**
+     * Gets the first year of the cached window.
+     *
+     * @return the first cached Jalali year, or 0 if the cache is disabled
+     */
+    public static int getFromYear() {
+        Window w = window;
+        return w == null ? 0 : w.fromYear;
+    }
+
+    /**
+     * Gets the last year of the cached window.
+     *
+     * @return the last cached Jalali year, or 0 if the cache is disabled
+     */
+    public static int getToYear() {
+        Window w = window;
+        return w == null ? 0 : w.toYear;
+    }
+
+    /**
+     * Gets the number of lookups inside the window that returned a cached instance.
+     *
+     * @return the hit count since the last reset
+     */
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Gets the number of lookups inside the window that found no cached instance.
+     *
+     * @return the miss count since the last reset
+     */
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Resets the hit and miss counters to zero.
+     */
+    public static void resetStatistics() {
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    /**
+     * Gets the cached instance for the specified epoch day.
+     *
+     * @param epochDay the epoch day to look up
+     * @return the cached instance, or null if the day is not cached
+     */
+    static JalaliDate get(long epochDay) {
+        Window w = window;
+        if (w == null) return null;
+        long index = epochDay - w.firstEpochDay;
+        if (index < 0 || index >= w.slots.length()) return null;
+        JalaliDate date = w.slots.get((int) index);
+        if (date != null) {
+            HITS.increment();
+        } else {
+            MISSES.increment();
+        }
+        return date;
+    }
+
+    /**
+     * Stores the specified instance if its day is inside the window and not cached yet.
+     *
+     * @param date the instance to store
+     * @return the canonical instance for the day, which may differ from {@code date}
+     */
+    static JalaliDate put(JalaliDate date) {
+        Window w = window;
+        if (w == null) return date;
+        long index = date.toEpochDay() - w.firstEpochDay;
+        if (index < 0 || index >= w.slots.length()) return date;
+        JalaliDate existing = w.slots.compareAndExchange((int) index, null, date);
+        return existing == null ? date : existing;
+    }
+
+    private static final class Window {
+        final int fromYear;
+        final int toYear;
+        final long firstEpochDay;
+        final AtomicReferenceArray<JalaliDate> slots;
+
+        Window(int fromYear, int toYear) {
+            this.fromYear = fromYear;
+            this.toYear = toYear;
+            this.firstEpochDay = JalaliDate.firstEpochDayOfYear(fromYear);
+            long end = JalaliDate.firstEpochDayOfYear(toYear + 1);
+            this.slots = new AtomicReferenceArray<>((int) (end - firstEpochDay));
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package io.github.jamalianpour.date;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Formatter for {@link JalaliDate} objects driven by a pattern such as {@code yyyy/MM/dd EEEE}.
+ * <p>
+ * The pattern is compiled once into a list of printer steps, so formatting does no pattern
+ * parsing and creates no intermediate strings. Output can be appended to a caller-supplied
+ * {@link StringBuilder} or {@link Appendable}. Instances are immutable and thread-safe.
+ * <p>
+ * Pattern letters:
+ * <table>
+ * <caption>Pattern letters</caption>
+ * <tr><th>Pattern</th><th>Meaning</th><th>Example</th></tr>
+ * <tr><td>{@code y}</td><td>year</td><td>1403</td></tr>
+ * <tr><td>{@code yy}</td><td>two-digit year</td><td>03</td></tr>
+ * <tr><td>{@code yyyy}</td><td>year, zero-padded to four digits</td><td>1403</td></tr>
+ * <tr><td>{@code M} / {@code MM}</td><td>month number</td><td>5 / 05</td></tr>
+ * <tr><td>{@code MMM}</td><td>month name, first three letters</td><td>Mor</td></tr>
+ * <tr><td>{@code MMMM}</td><td>month name</td><td>Mordad</td></tr>
+ * <tr><td>{@code d} / {@code dd}</td><td>day of month</td><td>7 / 07</td></tr>
+ * <tr><td>{@code E} to {@code EEE}</td><td>weekday name, first three letters</td><td>Sha</td></tr>
+ * <tr><td>{@code EEEE}</td><td>weekday name</td><td>Shanbe</td></tr>
+ * <tr><td>{@code '...'}</td><td>quoted literal text, {@code ''} for a single quote</td><td>'T'</td></tr>
+ * </table>
+ * Other ASCII letters are reserved; any other character is printed as is.
+ * {@link JalaliDateTimeFormatter} adds time, offset and zone letters to the same syntax.
+ */
+public final class JalaliDateFormatter {
+
+    private static final String[] SHORT_MONTH_NAMES_FA = abbreviate(JalaliDate.MONTH_NAMES_FA);
+    private static final String[] SHORT_MONTH_NAMES_EN = abbreviate(JalaliDate.MONTH_NAMES_EN);
+    private static final String[] SHORT_WEEKDAY_NAMES_FA = abbreviate(JalaliDate.WEEKDAY_NAMES_FA);
+    private static final String[] SHORT_WEEKDAY_NAMES_EN = abbreviate(JalaliDate.WEEKDAY_NAMES_EN);
+
+    private final String pattern;
+    private final boolean persianDigits;
+    private final boolean persianNames;
+    private final Printer[] printers;
+
+    private JalaliDateFormatter(String pattern, boolean persianDigits, boolean persianNames) {
+        this(pattern, persianDigits ? '۰' : '0', persianNames);
+    }
+
+    private JalaliDateFormatter(String pattern, char zero, boolean persianNames) {
+        this.pattern = pattern;
+        this.persianDigits = zero == '۰';
+        this.persianNames = persianNames;
+        this.printers = compile(pattern, JalaliDateFormatter::literal,
+                (letter, count) -> field(letter, count, zero, persianNames, pattern)).toArray(new Printer[0]);
+    }
+
+    /**
+     * Creates a formatter for the specified pattern with ASCII digits and English names.
+     *
+     * @param pattern the pattern to compile, not null
+     * @return a new formatter
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static JalaliDateFormatter ofPattern(String pattern) {
+        Objects.requireNonNull(pattern, "pattern");
+        return new JalaliDateFormatter(pattern, false, false);
+    }
+
+    /**
+     * Returns a copy of this formatter printing numbers with Persian or ASCII digits.
+     *
+     * @param persianDigits true for Persian digits (۰-۹), false for ASCII digits
+     * @return a formatter with the requested digits
+     */
+    public JalaliDateFormatter withPersianDigits(boolean persianDigits) {
+        return persianDigits == this.persianDigits
+                ? this : new JalaliDateFormatter(pattern, persianDigits, persianNames);
+    }
+
+    /**
+     * Returns a copy of this formatter printing month and weekday names in Persian or English.
+     *
+     * @param persianNames true for Persian names, false for English transliterations
+     * @return a formatter with the requested names
+     */
+    public JalaliDateFormatter withPersianNames(boolean persianNames) {
+        return persianNames == this.persianNames
+                ? this : new JalaliDateFormatter(pattern, persianDigits, persianNames);
+    }
+
+    /**
+     * Gets the pattern this formatter was compiled from.
+     *
+     * @return the pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Checks if numbers are printed with Persian digits.
+     *
+     * @return true if Persian digits are used
+     */
+    public boolean isPersianDigits() {
+        return persianDigits;
+    }
+
+    /**
+     * Checks if names are printed in Persian.
+     *
+     * @return true if Persian names are used
+     */
+    public boolean isPersianNames() {
+        return persianNames;
+    }
+
+    /**
+     * Formats the date to a new string.
+     *
+     * @param date the date to format, not null
+     * @return the formatted date
+     */
+    public String format(JalaliDate date) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 8);
+        formatTo(date, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the formatted date to the builder.
+     *
+     * @param date the date to format, not null
+     * @param sb   the builder to append to, not null
+     * @return the builder
+     */
+    public StringBuilder formatTo(JalaliDate date, StringBuilder sb) {
+        try {
+            print(date, sb);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return sb;
+    }
+
+    /**
+     * Appends the formatted date to the appendable.
+     *
+     * @param date the date to format, not null
+     * @param out  the appendable to append to, not null
+     * @throws UncheckedIOException if the appendable throws an I/O error
+     */
+    public void formatTo(JalaliDate date, Appendable out) {
+        try {
+            print(date, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    private void print(JalaliDate date, Appendable out) throws IOException {
+        Objects.requireNonNull(date, "date");
+        for (Printer printer : printers) {
+            printer.print(date, out);
+        }
+    }
+
+    // ------------------------
+    // Pattern Compilation
+    // ------------------------
+
+    @FunctionalInterface
+    interface Printer {
+        void print(JalaliDate date, Appendable out) throws IOException;
+    }
+
+    /**
+     * Creates the printer of a run of a pattern letter.
+     */
+    @FunctionalInterface
+    interface FieldCompiler<P> {
+        P field(char letter, int count);
+    }
+
+    /**
+     * Splits a pattern into runs of letters and literal text, and creates a printer for each.
+     *
+     * @param pattern  the pattern to compile
+     * @param literals creates the printer of literal text
+     * @param fields   creates the printer of a run of a letter, throwing for invalid letters
+     * @return the printers in pattern order
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    static <P> List<P> compile(String pattern, Function<String, P> literals, FieldCompiler<P> fields) {
+        List<P> printers = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int length = pattern.length();
+        int pos = 0;
+        while (pos < length) {
+            char c = pattern.charAt(pos);
+            if (c == '\'') {
+                int end = pos + 1;
+                if (end < length && pattern.charAt(end) == '\'') {
+                    literal.append('\'');
+                    pos = end + 1;
+                    continue;
+                }
+                while (true) {
+                    if (end >= length) {
+                        throw new IllegalArgumentException("Unterminated quote in pattern: " + pattern);
+                    }
+                    char q = pattern.charAt(end++);
+                    if (q != '\'') {
+                        literal.append(q);
+                    } else if (end < length && pattern.charAt(end) == '\'') {
+                        literal.append('\'');
+                        end++;
+                    } else {
+                        break;
+                    }
+                }
+                pos = end;
+                continue;
+            }
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z')) {
+                literal.append(c);
+                pos++;
+                continue;
+            }
+
+            int count = 1;
+            while (pos + count < length && pattern.charAt(pos + count) == c) count++;
+            addLiteral(printers, literal, literals);
+            printers.add(fields.field(c, count));
+            pos += count;
+        }
+        addLiteral(printers, literal, literals);
+        return printers;
+    }
+
+    private static <P> void addLiteral(List<P> printers, StringBuilder literal, Function<String, P> literals) {
+        if (literal.length() == 0) return;
+        printers.add(literals.apply(literal.toString()));
+        literal.setLength(0);
+    }
+
+    private static Printer literal(String text) {
+        if (text.length() == 1) {
+            char c = text.charAt(0);
+            return (date, out) -> out.append(c);
+        }
+        return (date, out) -> out.append(text);
+    }
+
+    /**
+     * Creates the printer of a run of a date letter.
+     *
+     * @throws IllegalArgumentException if the letter or its count is not a date field
+     */
+    static Printer field(char letter, int count, char zero, boolean persianNames, String pattern) {
+        switch (letter) {
+            case 'y':
+                if (count == 2) return (date, out) -> appendNumber(out, date.getYear() % 100, 2, zero);
+                return (date, out) -> appendNumber(out, date.getYear(), count, zero);
+            case 'M':
+                if (count <= 2) return (date, out) -> appendNumber(out, date.getMonth(), count, zero);
+                String[] months = count == 3
+                        ? (persianNames ? SHORT_MONTH_NAMES_FA : SHORT_MONTH_NAMES_EN)
+                        : (persianNames ? JalaliDate.MONTH_NAMES_FA : JalaliDate.MONTH_NAMES_EN);
+                return (date, out) -> out.append(months[date.getMonth() - 1]);
+            case 'd':
+                if (count > 2) break;
+                return (date, out) -> appendNumber(out, date.getDay(), count, zero);
+            case 'E':
+                String[] weekdays = count <= 3
+                        ? (persianNames ? SHORT_WEEKDAY_NAMES_FA : SHORT_WEEKDAY_NAMES_EN)
+                        : (persianNames ? JalaliDate.WEEKDAY_NAMES_FA : JalaliDate.WEEKDAY_NAMES_EN);
+                return (date, out) -> out.append(weekdays[date.getDayOfWeek()]);
+            default:
+                break;
+        }
+        throw new IllegalArgumentException(
+                "Invalid pattern letter '" + letter + "' (x" + count + ") in pattern: " + pattern);
+    }
+
+    /**
+     * Appends a non-negative number, left-padded with zeros to the minimum width.
+     */
+    static void appendNumber(Appendable out, int value, int minWidth, char zero) throws IOException {
+        int digits = 1;
+        int divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+            digits++;
+        }
+        for (int i = digits; i < minWidth; i++) {
+            out.append(zero);
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.append((char) (zero + value / divisor % 10));
+        }
+    }
+
+    private static String[] abbreviate(String[] names) {
+        String[] result = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            result[i] = names[i].substring(0, Math.min(3, names[i].length()));
+        }
+        return result;
+    }
+
+    // ------------------------
+    // Fixed Styles
+    // ------------------------
+
+    /**
+     * Gets the formatter backing {@link JalaliDate#format(JalaliDate.DateFormat, java.util.Locale)}.
+     * Numbers use the digits of the default format locale, as {@link String#format} did before
+     * the styles were compiled: Persian digits under {@code fa}, ASCII digits under {@code en}.
+     */
+    static JalaliDateFormatter ofStyle(JalaliDate.DateFormat format, boolean persianNames) {
+        char zero = defaultZeroDigit();
+        JalaliDateFormatter[] styles;
+        if (zero == '0') {
+            styles = persianNames ? Styles.PERSIAN_NAMES : Styles.ENGLISH_NAMES;
+        } else {
+            styles = Styles.OTHER_DIGITS.computeIfAbsent(zero << 1 | (persianNames ? 1 : 0),
+                    key -> Styles.build(persianNames, zero));
+        }
+        return styles[format.ordinal()];
+    }
+
+    // The default format locale and its zero digit, looked up again only when the locale changes
+    private static volatile LocaleDigits defaultDigits = new LocaleDigits(Locale.ROOT, '0');
+
+    private static char defaultZeroDigit() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        LocaleDigits digits = defaultDigits;
+        if (!digits.locale.equals(locale)) {
+            digits = new LocaleDigits(locale, DecimalFormatSymbols.getInstance(locale).getZeroDigit());
+            defaultDigits = digits;
+        }
+        return digits.zero;
+    }
+
+    private static final class LocaleDigits {
+        final Locale locale;
+        final char zero;
+
+        LocaleDigits(Locale locale, char zero) {
+            this.locale = locale;
+            this.zero = zero;
+        }
+    }
+
+    private static final class Styles {
+        static final JalaliDateFormatter[] ENGLISH_NAMES = build(false, '0');
+        static final JalaliDateFormatter[] PERSIAN_NAMES = build(true, '0');
+        // Styles for non-ASCII digits, keyed by zero digit and names
+        static final ConcurrentMap<Integer, JalaliDateFormatter[]> OTHER_DIGITS = new ConcurrentHashMap<>();
+
+        static JalaliDateFormatter[] build(boolean persianNames, char zero) {
+            JalaliDate.DateFormat[] formats = JalaliDate.DateFormat.values();
+            JalaliDateFormatter[] result = new JalaliDateFormatter[formats.length];
+            for (JalaliDate.DateFormat format : formats) {
+                result[format.ordinal()] = new JalaliDateFormatter(pattern(format), zero, persianNames);
+            }
+            return result;
+        }
+
+        private static String pattern(JalaliDate.DateFormat format) {
+            switch (format) {
+                case FULL:
+                    return "EEEE d MMMM y";
+                case LONG:
+                    return "d MMMM y";
+                case MEDIUM:
+                    return "d MMM y";
+                case SHORT:
+                    return "dd/MM/yy";
+                case PERSIAN:
+                    return "dd/MM/yyyy";
+                default:
+                    return "yyyy-MM-dd";
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.github.jamalianpour.date;
+
+import io.github.jamalianpour.date.JalaliDate.JalaliDateRange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable index of {@link JalaliDateRange} objects keyed by epoch day.
+ * <p>
+ * Answers stabbing queries ("which ranges contain 1403-05-12") and overlap queries in
+ * O(log n + k) for k results. Ranges are kept sorted by start day in primitive arrays and
+ * form an implicit balanced search tree: the node of a sub-array is its middle element, and
+ * each node stores the largest end day of its subtree so branches that end too early are skipped.
+ * <p>
+ * Results are reported in ascending order of start day. The {@code indices...} methods return
+ * positions in the list the index was built from, so ranges can be mapped back to caller data.
+ */
+public final class JalaliDateRangeIndex {
+
+    private final JalaliDateRange[] ranges;
+    private final int[] originalIndex;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] maxEnd;
+
+    private JalaliDateRangeIndex(Collection<JalaliDateRange> source) {
+        int n = source.size();
+        JalaliDateRange[] input = source.toArray(new JalaliDateRange[0]);
+
+        // Sort positions by start day: start in the high bits, original position in the low bits
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            JalaliDateRange range = Objects.requireNonNull(input[i], "range");
+            keys[i] = (range.getStart().toEpochDay() << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        this.ranges = new JalaliDateRange[n];
+        this.originalIndex = new int[n];
+        this.starts = new int[n];
+        this.ends = new int[n];
+        this.maxEnd = new int[n];
+        for (int i = 0; i < n; i++) {
+            int position = (int) keys[i];
+            JalaliDateRange range = input[position];
+            ranges[i] = range;
+            originalIndex[i] = position;
+            starts[i] = (int) range.getStart().toEpochDay();
+            ends[i] = (int) range.getEnd().toEpochDay();
+        }
+        buildMaxEnd(0, n);
+    }
+
+    /**
+     * Builds an index over the specified ranges.
+     *
+     * @param ranges the ranges to index, not null and without null elements
+     * @return a new index
+     * @throws NullPointerException if ranges or any element is null
+     */
+    public static JalaliDateRangeIndex of(Collection<JalaliDateRange> ranges) {
+        Objects.requireNonNull(ranges, "ranges");
+        return new JalaliDateRangeIndex(ranges);
+    }
+
+    /**
+     * Gets the number of indexed ranges.
+     *
+     * @return the number of ranges
+     */
+    public int size() {
+        return ranges.length;
+    }
+
+    /**
+     * Finds all ranges containing the specified date.
+     *
+     * @param date the date to look up, not null
+     * @return the ranges containing the date, ordered by start day
+     */
+    public List<JalaliDateRange> containing(JalaliDate date) {
+        long epochDay = date.toEpochDay();
+        return overlapping(epochDay, epochDay);
+    }
+
+    /**
+     * Finds all ranges overlapping the specified range.
+     *
+     * @param range the range to look up, not null
+     * @return the ranges sharing at least one day with the range, ordered by start day
+     */
+    public List<JalaliDateRange> overlapping(JalaliDateRange range) {
+        return overlapping(range.getStart().toEpochDay(), range.getEnd().toEpochDay());
+    }
+
+    /**
+     * Finds all ranges overlapping the inclusive span of epoch days.
+     *
+     * @param fromEpochDay the first day of the span
+     * @param toEpochDay   the last day of the span
+     * @return the ranges sharing at least one day with the span, ordered by start day
+     */
+    public List<JalaliDateRange> overlapping(long fromEpochDay, long toEpochDay) {
+        List<JalaliDateRange> result = new ArrayList<>();
+        int[] positions = search(fromEpochDay, toEpochDay);
+        for (int position : positions) {
+            result.add(ranges[position]);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the positions, in the list the index was built from, of all ranges containing the epoch day.
+     *
+     * @param epochDay the day to look up
+     * @return the original positions, ordered by start day of the range
+     */
+    public int[] indicesContaining(long epochDay) {
+        return indicesOverlapping(epochDay, epochDay);
+    }
+
+    /**
+     * Finds the positions, in the list the index was built from, of all ranges overlapping the span.
+     *
+     * @param fromEpochDay the first day of the span
+     * @param toEpochDay   the last day of the span
+     * @return the original positions, ordered by start day of the range
+     */
+    public int[] indicesOverlapping(long fromEpochDay, long toEpochDay) {
+        int[] positions = search(fromEpochDay, toEpochDay);
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = originalIndex[positions[i]];
+        }
+        return positions;
+    }
+
+    /**
+     * Checks if any indexed range contains the epoch day.
+     *
+     * @param epochDay the day to look up
+     * @return true if at least one range contains the day
+     */
+    public boolean anyContaining(long epochDay) {
+        return anyOverlapping(0, ranges.length, epochDay, epochDay);
+    }
+
+    // ------------------------
+    // Implicit Tree
+    // ------------------------
+
+    private int buildMaxEnd(int lo, int hi) {
+        if (lo >= hi) return Integer.MIN_VALUE;
+        int mid = (lo + hi) >>> 1;
+        int max = Math.max(ends[mid], Math.max(buildMaxEnd(lo, mid), buildMaxEnd(mid + 1, hi)));
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private int[] search(long from, long to) {
+        if (from > to) return new int[0];
+        Hits hits = new Hits();
+        collect(0, ranges.length, from, to, hits);
+        return Arrays.copyOf(hits.positions, hits.size);
+    }
+
+    private void collect(int lo, int hi, long from, long to, Hits hits) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (maxEnd[mid] < from) return;
+            collect(lo, mid, from, to, hits);
+            if (starts[mid] > to) return;
+            if (ends[mid] >= from) hits.add(mid);
+            lo = mid + 1;
+        }
+    }
+
+    private boolean anyOverlapping(int lo, int hi, long from, long to) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (maxEnd[mid] < from) return false;
+            if (anyOverlapping(lo, mid, from, to)) return true;
+            if (starts[mid] > to) return false;
+            if (ends[mid] >= from) return true;
+            lo = mid + 1;
+        }
+        return false;
+    }
+
+    private static final class Hits {
+        int[] positions = new int[8];
+        int size;
+
+        void add(int position) {
+            if (size == positions.length) positions = Arrays.copyOf(positions, size * 2);
+            positions[size++] = position;
+        }
+    }
+}
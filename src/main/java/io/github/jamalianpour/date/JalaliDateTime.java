@@ -0,0 +1,627 @@
+package io.github.jamalianpour.date;
+
+import io.github.jamalianpour.number.PersianNumberConverter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoField;
+import java.util.Objects;
+
+/**
+ * A date-time without a time-zone in the Jalali calendar, such as {@code 1403-05-12T14:30:05}.
+ * <p>
+ * This is the Jalali counterpart of {@link LocalDateTime}: a {@link JalaliDate} combined with a
+ * {@link LocalTime}. Conversions from instants and epoch milliseconds look the offset up in a
+ * cached table of the zone's transitions and split the local seconds into an epoch day and a time
+ * of day, with no {@link java.time.ZonedDateTime} or Gregorian date in between.
+ * <p>
+ * Instances are immutable and thread-safe. Use {@link JalaliZonedDateTime} to keep the zone.
+ */
+public final class JalaliDateTime implements Comparable<JalaliDateTime>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int SECONDS_PER_DAY = 86400;
+    static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // Divisors that truncate a nano of second to 9, 6 or 3 fraction digits
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10_000, 100_000, 1_000_000};
+
+    /**
+     * The date part
+     */
+    private final JalaliDate date;
+
+    /**
+     * The time part
+     */
+    private final LocalTime time;
+
+    private JalaliDateTime(JalaliDate date, LocalTime time) {
+        this.date = date;
+        this.time = time;
+    }
+
+    // ------------------------
+    // Factory Methods
+    // ------------------------
+
+    /**
+     * Creates a date-time from a date and a time.
+     *
+     * @param date the date, not null
+     * @param time the time of day, not null
+     * @return the date-time
+     * @throws NullPointerException if date or time is null
+     */
+    public static JalaliDateTime of(JalaliDate date, LocalTime time) {
+        Objects.requireNonNull(date, "date");
+        Objects.requireNonNull(time, "time");
+        return new JalaliDateTime(date, time);
+    }
+
+    /**
+     * Creates a date-time from Jalali fields and an hour and minute.
+     *
+     * @param year   the Jalali year
+     * @param month  the month of year (1-12)
+     * @param day    the day of month
+     * @param hour   the hour of day (0-23)
+     * @param minute the minute of hour (0-59)
+     * @return the date-time
+     * @throws IllegalArgumentException    if the date is invalid
+     * @throws java.time.DateTimeException if the time is invalid
+     */
+    public static JalaliDateTime of(int year, int month, int day, int hour, int minute) {
+        return new JalaliDateTime(JalaliDate.of(year, month, day), LocalTime.of(hour, minute));
+    }
+
+    /**
+     * Creates a date-time from Jalali fields and an hour, minute and second.
+     *
+     * @param year   the Jalali year
+     * @param month  the month of year (1-12)
+     * @param day    the day of month
+     * @param hour   the hour of day (0-23)
+     * @param minute the minute of hour (0-59)
+     * @param second the second of minute (0-59)
+     * @return the date-time
+     * @throws IllegalArgumentException    if the date is invalid
+     * @throws java.time.DateTimeException if the time is invalid
+     */
+    public static JalaliDateTime of(int year, int month, int day, int hour, int minute, int second) {
+        return new JalaliDateTime(JalaliDate.of(year, month, day), LocalTime.of(hour, minute, second));
+    }
+
+    /**
+     * Creates a date-time from Jalali fields and a time with nanoseconds.
+     *
+     * @param year         the Jalali year
+     * @param month        the month of year (1-12)
+     * @param day          the day of month
+     * @param hour         the hour of day (0-23)
+     * @param minute       the minute of hour (0-59)
+     * @param second       the second of minute (0-59)
+     * @param nanoOfSecond the nano of second (0-999,999,999)
+     * @return the date-time
+     * @throws IllegalArgumentException    if the date is invalid
+     * @throws java.time.DateTimeException if the time is invalid
+     */
+    public static JalaliDateTime of(int year, int month, int day, int hour, int minute, int second, int nanoOfSecond) {
+        return new JalaliDateTime(JalaliDate.of(year, month, day), LocalTime.of(hour, minute, second, nanoOfSecond));
+    }
+
+    /**
+     * Converts a Gregorian date-time to the Jalali calendar.
+     *
+     * @param dateTime the date-time to convert, not null
+     * @return the Jalali date-time
+     * @throws NullPointerException     if dateTime is null
+     * @throws IllegalArgumentException if the date is outside the supported year range
+     */
+    public static JalaliDateTime from(LocalDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+        return new JalaliDateTime(JalaliDate.ofEpochDay(dateTime.toLocalDate().toEpochDay()), dateTime.toLocalTime());
+    }
+
+    /**
+     * Creates the date-time at an instant given in seconds, seen at the specified offset.
+     *
+     * @param epochSecond  the instant in seconds from 1970-01-01T00:00Z
+     * @param nanoOfSecond the nano of second (0-999,999,999)
+     * @param offset       the offset of the local date-time from UTC, not null
+     * @return the local date-time at the instant
+     * @throws NullPointerException        if offset is null
+     * @throws IllegalArgumentException    if the date is outside the supported year range
+     * @throws java.time.DateTimeException if the nano of second is invalid
+     */
+    public static JalaliDateTime ofEpochSecond(long epochSecond, int nanoOfSecond, ZoneOffset offset) {
+        Objects.requireNonNull(offset, "offset");
+        ChronoField.NANO_OF_SECOND.checkValidValue(nanoOfSecond);
+        long localSecond = Math.addExact(epochSecond, offset.getTotalSeconds());
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        long secondOfDay = Math.floorMod(localSecond, SECONDS_PER_DAY);
+        return new JalaliDateTime(JalaliDate.ofEpochDay(epochDay),
+                LocalTime.ofNanoOfDay(secondOfDay * NANOS_PER_SECOND + nanoOfSecond));
+    }
+
+    /**
+     * Creates the date-time at an instant given in milliseconds, seen in the specified zone.
+     * The offset comes from a cached table of the zone's transitions.
+     *
+     * @param epochMilli the instant in milliseconds from 1970-01-01T00:00Z
+     * @param zone       the zone, not null
+     * @return the local date-time at the instant
+     * @throws NullPointerException     if zone is null
+     * @throws IllegalArgumentException if the date is outside the supported year range
+     */
+    public static JalaliDateTime ofEpochMilli(long epochMilli, ZoneId zone) {
+        long epochSecond = Math.floorDiv(epochMilli, 1000);
+        int nanoOfSecond = Math.floorMod(epochMilli, 1000) * 1_000_000;
+        return ofEpochSecond(epochSecond, nanoOfSecond, ZoneOffsetTable.of(zone).getOffset(epochSecond));
+    }
+
+    /**
+     * Creates the date-time at an instant, seen in the specified zone.
+     * The offset comes from a cached table of the zone's transitions.
+     *
+     * @param instant the instant, not null
+     * @param zone    the zone, not null
+     * @return the local date-time at the instant
+     * @throws NullPointerException     if instant or zone is null
+     * @throws IllegalArgumentException if the date is outside the supported year range
+     */
+    public static JalaliDateTime ofInstant(Instant instant, ZoneId zone) {
+        long epochSecond = instant.getEpochSecond();
+        return ofEpochSecond(epochSecond, instant.getNano(), ZoneOffsetTable.of(zone).getOffset(epochSecond));
+    }
+
+    /**
+     * Gets the current date-time from the system clock in the default time-zone.
+     *
+     * @return the current Jalali date-time
+     */
+    public static JalaliDateTime now() {
+        return now(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Gets the current date-time from the system clock in the specified time-zone.
+     *
+     * @param zone the zone to use, not null
+     * @return the current Jalali date-time
+     * @throws NullPointerException if zone is null
+     */
+    public static JalaliDateTime now(ZoneId zone) {
+        return now(Clock.system(zone));
+    }
+
+    /**
+     * Gets the current date-time from the specified clock, in the clock's zone.
+     *
+     * @param clock the clock to use, not null
+     * @return the current Jalali date-time
+     * @throws NullPointerException if clock is null
+     */
+    public static JalaliDateTime now(Clock clock) {
+        Objects.requireNonNull(clock, "clock");
+        return ofInstant(clock.instant(), clock.getZone());
+    }
+
+    // ------------------------
+    // Parsing
+    // ------------------------
+
+    /**
+     * Parses an ISO-8601 date-time such as {@code 1403-05-12T14:30}, {@code 1403-05-12T14:30:05}
+     * or {@code 1403-05-12T14:30:05.250}. A space is also accepted between the date and the time,
+     * the fraction may have 1 to 9 digits, and digits may be ASCII, Persian or Arabic-Indic.
+     *
+     * @param text the text to parse, not null
+     * @return the parsed date-time
+     * @throws IllegalArgumentException if the text is not a valid date-time
+     */
+    public static JalaliDateTime parse(CharSequence text) {
+        JalaliDateTime dateTime = tryParse(text, 0, text.length());
+        if (dateTime == null) {
+            throw new IllegalArgumentException("Invalid Jalali date-time: " + text);
+        }
+        return dateTime;
+    }
+
+    /**
+     * Parses a date-time from {@code text[start, end)}, ignoring surrounding whitespace.
+     *
+     * @return the date-time, or null if the text is not a valid date-time
+     */
+    static JalaliDateTime tryParse(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') start++;
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+        int separator = start;
+        while (separator < end && text.charAt(separator) != 'T' && text.charAt(separator) != ' ') separator++;
+        if (separator == end) return null;
+        int ymd = JalaliDate.tryParse(text, start, separator, JalaliDate.DateFormat.ISO);
+        long nanoOfDay = parseTime(text, separator + 1, end);
+        if (ymd == JalaliDates.INVALID || nanoOfDay < 0) return null;
+        return new JalaliDateTime(JalaliDates.unpack(ymd), LocalTime.ofNanoOfDay(nanoOfDay));
+    }
+
+    /**
+     * Reads {@code HH:mm[:ss[.fraction]]} spanning all of {@code text[pos, end)}.
+     *
+     * @return the nano of day, or -1 if the text is not a valid time
+     */
+    private static long parseTime(CharSequence text, int pos, int end) {
+        int hour = twoDigits(text, pos, end);
+        if (hour < 0 || hour > 23 || pos + 5 > end || text.charAt(pos + 2) != ':') return -1;
+        int minute = twoDigits(text, pos + 3, end);
+        if (minute < 0 || minute > 59) return -1;
+        pos += 5;
+        int second = 0;
+        int nano = 0;
+        if (pos < end) {
+            if (text.charAt(pos) != ':') return -1;
+            second = twoDigits(text, pos + 1, end);
+            if (second < 0 || second > 59) return -1;
+            pos += 3;
+            if (pos < end) {
+                if (text.charAt(pos++) != '.' || pos == end || end - pos > 9) return -1;
+                int scale = 100_000_000;
+                for (; pos < end; pos++, scale /= 10) {
+                    int digit = PersianNumberConverter.getDigitValue(text.charAt(pos));
+                    if (digit < 0) return -1;
+                    nano += digit * scale;
+                }
+            }
+        }
+        return (hour * 3600L + minute * 60 + second) * NANOS_PER_SECOND + nano;
+    }
+
+    private static int twoDigits(CharSequence text, int pos, int end) {
+        if (pos + 2 > end) return -1;
+        int tens = PersianNumberConverter.getDigitValue(text.charAt(pos));
+        int ones = PersianNumberConverter.getDigitValue(text.charAt(pos + 1));
+        return tens < 0 || ones < 0 ? -1 : tens * 10 + ones;
+    }
+
+    // ------------------------
+    // Getters
+    // ------------------------
+
+    /**
+     * Gets the date part.
+     *
+     * @return the Jalali date
+     */
+    public JalaliDate getDate() {
+        return date;
+    }
+
+    /**
+     * Gets the time part.
+     *
+     * @return the time of day
+     */
+    public LocalTime getTime() {
+        return time;
+    }
+
+    /**
+     * Gets the Jalali year.
+     *
+     * @return the year
+     */
+    public int getYear() {
+        return date.getYear();
+    }
+
+    /**
+     * Gets the month of year.
+     *
+     * @return the month, from 1 (Farvardin) to 12 (Esfand)
+     */
+    public int getMonth() {
+        return date.getMonth();
+    }
+
+    /**
+     * Gets the day of month.
+     *
+     * @return the day, from 1 to 31
+     */
+    public int getDay() {
+        return date.getDay();
+    }
+
+    /**
+     * Gets the day of the week, as {@link JalaliDate#getDayOfWeek()}.
+     *
+     * @return the day of the week, from 0 (Saturday) to 6 (Friday)
+     */
+    public int getDayOfWeek() {
+        return date.getDayOfWeek();
+    }
+
+    /**
+     * Gets the hour of day.
+     *
+     * @return the hour, from 0 to 23
+     */
+    public int getHour() {
+        return time.getHour();
+    }
+
+    /**
+     * Gets the minute of hour.
+     *
+     * @return the minute, from 0 to 59
+     */
+    public int getMinute() {
+        return time.getMinute();
+    }
+
+    /**
+     * Gets the second of minute.
+     *
+     * @return the second, from 0 to 59
+     */
+    public int getSecond() {
+        return time.getSecond();
+    }
+
+    /**
+     * Gets the nano of second.
+     *
+     * @return the nano, from 0 to 999,999,999
+     */
+    public int getNano() {
+        return time.getNano();
+    }
+
+    // ------------------------
+    // Arithmetic
+    // ------------------------
+
+    /**
+     * Returns a copy with the specified number of days added, keeping the time.
+     *
+     * @param days the days to add, may be negative
+     * @return the resulting date-time
+     * @throws IllegalArgumentException if the result is outside the supported year range
+     */
+    public JalaliDateTime plusDays(long days) {
+        return days == 0 ? this : new JalaliDateTime(date.plusDays(days), time);
+    }
+
+    /**
+     * Returns a copy with the specified number of hours added.
+     *
+     * @param hours the hours to add, may be negative
+     * @return the resulting date-time
+     * @throws IllegalArgumentException if the result is outside the supported year range
+     * @throws ArithmeticException      if numeric overflow occurs
+     */
+    public JalaliDateTime plusHours(long hours) {
+        return plusSeconds(Math.multiplyExact(hours, 3600L));
+    }
+
+    /**
+     * Returns a copy with the specified number of minutes added.
+     *
+     * @param minutes the minutes to add, may be negative
+     * @return the resulting date-time
+     * @throws IllegalArgumentException if the result is outside the supported year range
+     * @throws ArithmeticException      if numeric overflow occurs
+     */
+    public JalaliDateTime plusMinutes(long minutes) {
+        return plusSeconds(Math.multiplyExact(minutes, 60L));
+    }
+
+    /**
+     * Returns a copy with the specified number of seconds added.
+     *
+     * @param seconds the seconds to add, may be negative
+     * @return the resulting date-time
+     * @throws IllegalArgumentException if the result is outside the supported year range
+     * @throws ArithmeticException      if numeric overflow occurs
+     */
+    public JalaliDateTime plusSeconds(long seconds) {
+        if (seconds == 0) return this;
+        long secondOfDay = Math.addExact(time.toSecondOfDay(), seconds);
+        long days = Math.floorDiv(secondOfDay, SECONDS_PER_DAY);
+        LocalTime newTime = LocalTime.ofNanoOfDay(
+                Math.floorMod(secondOfDay, SECONDS_PER_DAY) * NANOS_PER_SECOND + time.getNano());
+        return new JalaliDateTime(days == 0 ? date : date.plusDays(days), newTime);
+    }
+
+    // ------------------------
+    // Conversion
+    // ------------------------
+
+    /**
+     * Converts this date-time to the Gregorian calendar.
+     *
+     * @return the equivalent LocalDateTime
+     */
+    public LocalDateTime toLocalDateTime() {
+        return LocalDateTime.of(date.toGregorian(), time);
+    }
+
+    /**
+     * Converts this date-time to seconds from 1970-01-01T00:00Z, using the specified offset.
+     *
+     * @param offset the offset of this date-time from UTC, not null
+     * @return the instant in epoch seconds
+     * @throws NullPointerException if offset is null
+     */
+    public long toEpochSecond(ZoneOffset offset) {
+        return date.toEpochDay() * SECONDS_PER_DAY + time.toSecondOfDay() - offset.getTotalSeconds();
+    }
+
+    /**
+     * Combines this date-time with a zone, resolving gaps and overlaps as
+     * {@link java.time.ZonedDateTime#of(LocalDateTime, ZoneId)} does.
+     *
+     * @param zone the zone, not null
+     * @return the zoned date-time
+     * @throws NullPointerException if zone is null
+     */
+    public JalaliZonedDateTime atZone(ZoneId zone) {
+        return JalaliZonedDateTime.of(this, zone);
+    }
+
+    // ------------------------
+    // Comparison
+    // ------------------------
+
+    /**
+     * Checks if this date-time is before the specified date-time on the local time-line.
+     *
+     * @param other the other date-time, not null
+     * @return true if this is before the other date-time
+     */
+    public boolean isBefore(JalaliDateTime other) {
+        return compareTo(other) < 0;
+    }
+
+    /**
+     * Checks if this date-time is after the specified date-time on the local time-line.
+     *
+     * @param other the other date-time, not null
+     * @return true if this is after the other date-time
+     */
+    public boolean isAfter(JalaliDateTime other) {
+        return compareTo(other) > 0;
+    }
+
+    @Override
+    public int compareTo(JalaliDateTime o) {
+        int cmp = date.compareTo(o.date);
+        return cmp != 0 ? cmp : time.compareTo(o.time);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof JalaliDateTime)) return false;
+        JalaliDateTime other = (JalaliDateTime) o;
+        return date.equals(other.date) && time.equals(other.time);
+    }
+
+    @Override
+    public int hashCode() {
+        return date.hashCode() ^ time.hashCode();
+    }
+
+    // ------------------------
+    // Formatting
+    // ------------------------
+
+    /**
+     * Formats this date-time with the specified formatter.
+     *
+     * @param formatter the formatter to use, not null
+     * @return the formatted date-time
+     * @throws IllegalArgumentException if the pattern has offset or zone fields
+     */
+    public String format(JalaliDateTimeFormatter formatter) {
+        return formatter.format(this);
+    }
+
+    /**
+     * Returns this date-time in ISO-8601 format, such as {@code 1403-05-12T14:30}.
+     * Seconds are printed when non-zero, and the fraction in groups of 3 digits when non-zero,
+     * as {@link LocalDateTime#toString()} does.
+     *
+     * @return the ISO-8601 text
+     */
+    @Override
+    public String toString() {
+        byte[] buf = new byte[isoLength()];
+        writeIso(buf, 0);
+        return new String(buf, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Writes this date-time in the ISO-8601 format of {@link #toString()} as ASCII bytes.
+     * The output takes 16 to 29 bytes.
+     *
+     * @param dst the buffer to write to, not null
+     * @param off the index of the first byte to write
+     * @return the index after the last byte written
+     * @throws IndexOutOfBoundsException if the buffer is too small from the offset
+     */
+    public int writeIso(byte[] dst, int off) {
+        int length = isoLength();
+        Objects.checkFromIndexSize(off, length, dst.length);
+        off = date.writeIso(dst, off);
+        dst[off] = 'T';
+        writeDigits(dst, off + 1, time.getHour(), 2);
+        dst[off + 3] = ':';
+        writeDigits(dst, off + 4, time.getMinute(), 2);
+        if (length > 16) {
+            dst[off + 6] = ':';
+            writeDigits(dst, off + 7, time.getSecond(), 2);
+            if (length > 19) {
+                dst[off + 9] = '.';
+                int digits = length - 20;
+                writeDigits(dst, off + 10, time.getNano() / POWERS_OF_TEN[9 - digits], digits);
+            }
+        }
+        return off + length - 10;
+    }
+
+    private int isoLength() {
+        int nano = time.getNano();
+        if (nano != 0) {
+            if (nano % 1_000_000 == 0) return 23;
+            return nano % 1000 == 0 ? 26 : 29;
+        }
+        return time.getSecond() != 0 ? 19 : 16;
+    }
+
+    private static void writeDigits(byte[] dst, int off, int value, int width) {
+        for (int i = off + width - 1; i >= off; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    // ------------------------
+    // Serialization
+    // ------------------------
+
+    /**
+     * Writes the date-time to the serialized form of {@link Ser}: the packed {@code yyyymmdd}
+     * date as an int and the nano of day as a long.
+     */
+    void writeExternal(DataOutput out) throws IOException {
+        out.writeInt(JalaliDates.pack(date));
+        out.writeLong(time.toNanoOfDay());
+    }
+
+    static JalaliDateTime readExternal(DataInput in) throws IOException {
+        int ymd = in.readInt();
+        JalaliDate date = JalaliDate.of(ymd / 10000, (ymd / 100) % 100, ymd % 100);
+        return new JalaliDateTime(date, LocalTime.ofNanoOfDay(in.readLong()));
+    }
+
+    private Object writeReplace() {
+        return new Ser(Ser.DATE_TIME, this);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Deserialization via serialization delegate");
+    }
+}
@@ -0,0 +1,280 @@
+package io.github.jamalianpour.date;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Formatter for {@link JalaliDateTime} and {@link JalaliZonedDateTime} objects driven by a pattern
+ * such as {@code yyyy/MM/dd HH:mm:ss}.
+ * <p>
+ * Patterns use the syntax of {@link JalaliDateFormatter} and all of its date letters, plus the
+ * letters below. As there, the pattern is compiled once and formatting reads the fields of the
+ * value directly, with no {@link java.time.ZonedDateTime} or Gregorian date per call.
+ * Instances are immutable and thread-safe.
+ * <table>
+ * <caption>Time pattern letters</caption>
+ * <tr><th>Pattern</th><th>Meaning</th><th>Example</th></tr>
+ * <tr><td>{@code H} / {@code HH}</td><td>hour of day (0-23)</td><td>9 / 09</td></tr>
+ * <tr><td>{@code m} / {@code mm}</td><td>minute of hour</td><td>5 / 05</td></tr>
+ * <tr><td>{@code s} / {@code ss}</td><td>second of minute</td><td>7 / 07</td></tr>
+ * <tr><td>{@code S} to {@code SSSSSSSSS}</td><td>fraction of second, truncated</td><td>250</td></tr>
+ * <tr><td>{@code XXX}</td><td>offset, {@code Z} for zero</td><td>+03:30</td></tr>
+ * <tr><td>{@code xxx}</td><td>offset</td><td>+00:00</td></tr>
+ * <tr><td>{@code VV}</td><td>zone ID</td><td>Asia/Tehran</td></tr>
+ * </table>
+ * Offset and zone letters need a {@link JalaliZonedDateTime}.
+ */
+public final class JalaliDateTimeFormatter {
+
+    private static final int[] FRACTION_DIVISORS = {
+            100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1000, 100, 10, 1
+    };
+
+    private final String pattern;
+    private final boolean persianDigits;
+    private final boolean persianNames;
+    private final Printer[] printers;
+    private final boolean zoned;
+
+    private JalaliDateTimeFormatter(String pattern, boolean persianDigits, boolean persianNames) {
+        this.pattern = pattern;
+        this.persianDigits = persianDigits;
+        this.persianNames = persianNames;
+        char zero = persianDigits ? '۰' : '0';
+        List<Printer> list = JalaliDateFormatter.compile(pattern, JalaliDateTimeFormatter::literal,
+                (letter, count) -> field(letter, count, zero, persianNames, pattern));
+        this.printers = list.toArray(new Printer[0]);
+        this.zoned = list.stream().anyMatch(printer -> printer instanceof ZonePrinter);
+    }
+
+    /**
+     * Creates a formatter for the specified pattern with ASCII digits and English names.
+     *
+     * @param pattern the pattern to compile, not null
+     * @return a new formatter
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static JalaliDateTimeFormatter ofPattern(String pattern) {
+        Objects.requireNonNull(pattern, "pattern");
+        return new JalaliDateTimeFormatter(pattern, false, false);
+    }
+
+    /**
+     * Returns a copy of this formatter printing numbers with Persian or ASCII digits.
+     * Offsets and zone IDs are always printed in ASCII.
+     *
+     * @param persianDigits true for Persian digits (۰-۹), false for ASCII digits
+     * @return a formatter with the requested digits
+     */
+    public JalaliDateTimeFormatter withPersianDigits(boolean persianDigits) {
+        return persianDigits == this.persianDigits
+                ? this : new JalaliDateTimeFormatter(pattern, persianDigits, persianNames);
+    }
+
+    /**
+     * Returns a copy of this formatter printing month and weekday names in Persian or English.
+     *
+     * @param persianNames true for Persian names, false for English transliterations
+     * @return a formatter with the requested names
+     */
+    public JalaliDateTimeFormatter withPersianNames(boolean persianNames) {
+        return persianNames == this.persianNames
+                ? this : new JalaliDateTimeFormatter(pattern, persianDigits, persianNames);
+    }
+
+    /**
+     * Gets the pattern this formatter was compiled from.
+     *
+     * @return the pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Checks if numbers are printed with Persian digits.
+     *
+     * @return true if Persian digits are used
+     */
+    public boolean isPersianDigits() {
+        return persianDigits;
+    }
+
+    /**
+     * Checks if names are printed in Persian.
+     *
+     * @return true if Persian names are used
+     */
+    public boolean isPersianNames() {
+        return persianNames;
+    }
+
+    /**
+     * Formats the date-time to a new string.
+     *
+     * @param dateTime the date-time to format, not null
+     * @return the formatted date-time
+     * @throws IllegalArgumentException if the pattern has offset or zone fields
+     */
+    public String format(JalaliDateTime dateTime) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 8);
+        formatTo(dateTime, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the formatted date-time to the builder.
+     *
+     * @param dateTime the date-time to format, not null
+     * @param sb       the builder to append to, not null
+     * @return the builder
+     * @throws IllegalArgumentException if the pattern has offset or zone fields
+     */
+    public StringBuilder formatTo(JalaliDateTime dateTime, StringBuilder sb) {
+        try {
+            print(dateTime, null, null, sb);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return sb;
+    }
+
+    /**
+     * Appends the formatted date-time to the appendable.
+     *
+     * @param dateTime the date-time to format, not null
+     * @param out      the appendable to append to, not null
+     * @throws IllegalArgumentException if the pattern has offset or zone fields
+     * @throws UncheckedIOException     if the appendable throws an I/O error
+     */
+    public void formatTo(JalaliDateTime dateTime, Appendable out) {
+        try {
+            print(dateTime, null, null, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Formats the zoned date-time to a new string.
+     *
+     * @param dateTime the date-time to format, not null
+     * @return the formatted date-time
+     */
+    public String format(JalaliZonedDateTime dateTime) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 16);
+        formatTo(dateTime, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the formatted zoned date-time to the builder.
+     *
+     * @param dateTime the date-time to format, not null
+     * @param sb       the builder to append to, not null
+     * @return the builder
+     */
+    public StringBuilder formatTo(JalaliZonedDateTime dateTime, StringBuilder sb) {
+        try {
+            print(dateTime.getDateTime(), dateTime.getOffset(), dateTime.getZone(), sb);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return sb;
+    }
+
+    /**
+     * Appends the formatted zoned date-time to the appendable.
+     *
+     * @param dateTime the date-time to format, not null
+     * @param out      the appendable to append to, not null
+     * @throws UncheckedIOException if the appendable throws an I/O error
+     */
+    public void formatTo(JalaliZonedDateTime dateTime, Appendable out) {
+        try {
+            print(dateTime.getDateTime(), dateTime.getOffset(), dateTime.getZone(), out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    private void print(JalaliDateTime dateTime, ZoneOffset offset, ZoneId zone, Appendable out) throws IOException {
+        Objects.requireNonNull(dateTime, "dateTime");
+        if (zone == null && zoned) {
+            throw new IllegalArgumentException("Pattern needs an offset or zone: " + pattern);
+        }
+        JalaliDate date = dateTime.getDate();
+        LocalTime time = dateTime.getTime();
+        for (Printer printer : printers) {
+            printer.print(date, time, offset, zone, out);
+        }
+    }
+
+    // ------------------------
+    // Pattern Compilation
+    // ------------------------
+
+    @FunctionalInterface
+    private interface Printer {
+        void print(JalaliDate date, LocalTime time, ZoneOffset offset, ZoneId zone, Appendable out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ZonePrinter extends Printer {
+    }
+
+    private static Printer literal(String text) {
+        if (text.length() == 1) {
+            char c = text.charAt(0);
+            return (date, time, offset, zone, out) -> out.append(c);
+        }
+        return (date, time, offset, zone, out) -> out.append(text);
+    }
+
+    private static Printer field(char letter, int count, char zero, boolean persianNames, String pattern) {
+        switch (letter) {
+            case 'H':
+                if (count > 2) break;
+                return (date, time, offset, zone, out) ->
+                        JalaliDateFormatter.appendNumber(out, time.getHour(), count, zero);
+            case 'm':
+                if (count > 2) break;
+                return (date, time, offset, zone, out) ->
+                        JalaliDateFormatter.appendNumber(out, time.getMinute(), count, zero);
+            case 's':
+                if (count > 2) break;
+                return (date, time, offset, zone, out) ->
+                        JalaliDateFormatter.appendNumber(out, time.getSecond(), count, zero);
+            case 'S':
+                if (count > 9) break;
+                int divisor = FRACTION_DIVISORS[count - 1];
+                return (date, time, offset, zone, out) ->
+                        JalaliDateFormatter.appendNumber(out, time.getNano() / divisor, count, zero);
+            case 'X':
+                if (count != 3) break;
+                return (ZonePrinter) (date, time, offset, zone, out) -> out.append(offset.getId());
+            case 'x':
+                if (count != 3) break;
+                return (ZonePrinter) (date, time, offset, zone, out) ->
+                        out.append(offset == ZoneOffset.UTC ? "+00:00" : offset.getId());
+            case 'V':
+                if (count != 2) break;
+                return (ZonePrinter) (date, time, offset, zone, out) -> out.append(zone.getId());
+            default:
+                JalaliDateFormatter.Printer printer = JalaliDateFormatter.field(letter, count, zero, persianNames, pattern);
+                return (date, time, offset, zone, out) -> printer.print(date, out);
+        }
+        throw new IllegalArgumentException(
+                "Invalid pattern letter '" + letter + "' (x" + count + ") in pattern: " + pattern);
+    }
+}
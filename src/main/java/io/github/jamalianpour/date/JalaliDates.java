@@ -0,0 +1,658 @@
+package io.github.jamalianpour.date;
+
+import java.nio.BufferOverflowException;
+import java.nio.IntBuffer;
+import java.time.DayOfWeek;
+import java.time.Period;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Codec for Jalali dates packed into a primitive {@code int} as {@code yyyymmdd}.
+ * <p>
+ * Packed values sort in date order and read naturally (1403-05-12 is {@code 14030512}),
+ * which makes them suitable for in-memory columns and off-heap buffers where a
+ * {@link JalaliDate} object per value would be too costly. All queries work on the
+ * packed value directly without creating objects.
+ * <p>
+ * Methods other than {@link #pack(int, int, int)} and {@link #isValid(int)} assume
+ * the packed value is valid.
+ */
+public final class JalaliDates {
+
+    /**
+     * Default number of values below which a parallel conversion stops splitting
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * Sentinel returned by {@link JalaliDate#tryParse(CharSequence, int, int)} for text that is not a valid date
+     */
+    public static final int INVALID = -1;
+
+    private JalaliDates() {
+    }
+
+    /**
+     * Packs a Jalali date into an int as {@code yyyymmdd}.
+     *
+     * @param year  the Jalali year, from 1 to 3178
+     * @param month the month of year (1-12)
+     * @param day   the day of month
+     * @return the packed date
+     * @throws IllegalArgumentException if the date is invalid
+     */
+    public static int pack(int year, int month, int day) {
+        JalaliDate.validate(year, month, day);
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * Packs the specified JalaliDate into an int as {@code yyyymmdd}.
+     *
+     * @param date the date to pack, not null
+     * @return the packed date
+     * @throws NullPointerException if date is null
+     */
+    public static int pack(JalaliDate date) {
+        Objects.requireNonNull(date, "date");
+        return date.getYear() * 10000 + date.getMonth() * 100 + date.getDay();
+    }
+
+    /**
+     * Unpacks the specified value into a JalaliDate.
+     *
+     * @param packed the packed date
+     * @return the equivalent JalaliDate
+     * @throws IllegalArgumentException if the packed value is not a valid date
+     */
+    public static JalaliDate unpack(int packed) {
+        return JalaliDate.of(year(packed), month(packed), day(packed));
+    }
+
+    /**
+     * Checks if the packed value represents a valid Jalali date.
+     *
+     * @param packed the packed date
+     * @return true if the value is a valid date
+     */
+    public static boolean isValid(int packed) {
+        return packed > 0 && JalaliDate.isValid(year(packed), month(packed), day(packed));
+    }
+
+    /**
+     * Gets the year of the packed date.
+     *
+     * @param packed the packed date
+     * @return the Jalali year
+     */
+    public static int year(int packed) {
+        return packed / 10000;
+    }
+
+    /**
+     * Gets the month of the packed date.
+     *
+     * @param packed the packed date
+     * @return the month of year (1-12)
+     */
+    public static int month(int packed) {
+        return (packed / 100) % 100;
+    }
+
+    /**
+     * Gets the day of month of the packed date.
+     *
+     * @param packed the packed date
+     * @return the day of month (1-31)
+     */
+    public static int day(int packed) {
+        return packed % 100;
+    }
+
+    /**
+     * Checks if the year of the packed date is a leap year.
+     *
+     * @param packed the packed date
+     * @return true if the year is a leap year
+     */
+    public static boolean isLeap(int packed) {
+        return JalaliDate.isLeapJalaliYear(year(packed));
+    }
+
+    /**
+     * Gets the day-of-week of the packed date using Persian week numbering.
+     * Returns 0=Saturday, 1=Sunday, ..., 6=Friday, the same as {@link JalaliDate#getDayOfWeek()}.
+     *
+     * @param packed the packed date
+     * @return the day-of-week (0-6)
+     */
+    public static int dayOfWeek(int packed) {
+        return (int) Math.floorMod(toEpochDay(packed) + 5, 7L);
+    }
+
+    /**
+     * Gets the day-of-year of the packed date.
+     *
+     * @param packed the packed date
+     * @return the day-of-year (1-366)
+     */
+    public static int dayOfYear(int packed) {
+        return JalaliDate.dayOfYear(month(packed), day(packed));
+    }
+
+    /**
+     * Gets the week-of-year of the packed date, with weeks starting on Saturday and week 1
+     * containing Farvardin 1, the same as {@link JalaliDate#getWeekOfYear()}.
+     *
+     * @param packed the packed date
+     * @return the week-of-year (1-53)
+     */
+    public static int weekOfYear(int packed) {
+        return JalaliDate.weekOfYear(dayOfWeek(packed), dayOfYear(packed), 0, 1);
+    }
+
+    /**
+     * Gets the week-of-year of the packed date with the specified week definition,
+     * the same as {@link JalaliDate#getWeekOfYear(DayOfWeek, int)}.
+     *
+     * @param packed         the packed date
+     * @param firstDayOfWeek the first day of the week, not null
+     * @param minimalDays    the minimal number of days in the first week, from 1 to 7
+     * @return the week-of-year (0-53)
+     * @throws IllegalArgumentException if minimalDays is out of range
+     */
+    public static int weekOfYear(int packed, DayOfWeek firstDayOfWeek, int minimalDays) {
+        return JalaliDate.weekOfYear(dayOfWeek(packed), dayOfYear(packed),
+                JalaliDate.firstDayIndex(firstDayOfWeek), JalaliDate.checkMinimalDays(minimalDays));
+    }
+
+    /**
+     * Gets the quarter-of-year of the packed date.
+     *
+     * @param packed the packed date
+     * @return the quarter-of-year (1-4)
+     */
+    public static int quarter(int packed) {
+        return (month(packed) - 1) / 3 + 1;
+    }
+
+    /**
+     * Gets the first day of the quarter of the packed date.
+     *
+     * @param packed the packed date
+     * @return the packed first day of the quarter
+     */
+    public static int firstDayOfQuarter(int packed) {
+        int month = month(packed);
+        return year(packed) * 10000 + (month - (month - 1) % 3) * 100 + 1;
+    }
+
+    /**
+     * Gets the last day of the quarter of the packed date.
+     *
+     * @param packed the packed date
+     * @return the packed last day of the quarter
+     */
+    public static int lastDayOfQuarter(int packed) {
+        int year = year(packed);
+        int month = month(packed);
+        int lastMonth = month - (month - 1) % 3 + 2;
+        return year * 10000 + lastMonth * 100 + JalaliDate.jalaaliMonthLength(year, lastMonth);
+    }
+
+    /**
+     * Packs a year and day-of-year.
+     *
+     * @param year      the Jalali year, from 1 to 3178
+     * @param dayOfYear the day-of-year (1-365 or 1-366 for leap years)
+     * @return the packed date
+     * @throws IllegalArgumentException if the year or dayOfYear is out of range
+     */
+    public static int ofYearDay(int year, int dayOfYear) {
+        if (year < 1 || year > 3178) {
+            throw new IllegalArgumentException("Year must be between 1 and 3178");
+        }
+        if (dayOfYear < 1 || dayOfYear > (JalaliDate.isLeapJalaliYear(year) ? 366 : 365)) {
+            throw new IllegalArgumentException("Invalid day of year: " + dayOfYear);
+        }
+        return JalaliDate.packedOfYearDay(year, dayOfYear);
+    }
+
+    /**
+     * Converts the packed date to the number of days from 1970-01-01.
+     *
+     * @param packed the packed date
+     * @return the epoch day
+     */
+    public static long toEpochDay(int packed) {
+        return JalaliDate.epochDayOf(year(packed), month(packed), day(packed));
+    }
+
+    /**
+     * Converts an epoch day to a packed date.
+     *
+     * @param epochDay the number of days from 1970-01-01
+     * @return the packed date
+     * @throws IllegalArgumentException if the epoch day is outside the supported year range
+     */
+    public static int ofEpochDay(long epochDay) {
+        JalaliDate.checkEpochDay(epochDay);
+        return JalaliDate.packedOfEpochDay(epochDay);
+    }
+
+    /**
+     * Adds the specified number of days to the packed date.
+     *
+     * @param packed the packed date
+     * @param days   the days to add, may be negative
+     * @return the resulting packed date
+     * @throws IllegalArgumentException if the result is outside the supported year range
+     */
+    public static int plusDays(int packed, long days) {
+        if (days == 0) return packed;
+        return ofEpochDay(Math.addExact(toEpochDay(packed), days));
+    }
+
+    /**
+     * Calculates the number of days between two packed dates.
+     *
+     * @param fromPacked the start date
+     * @param toPacked   the end date
+     * @return the number of days from the start to the end date, negative if the end is earlier
+     */
+    public static long daysBetween(int fromPacked, int toPacked) {
+        return toEpochDay(toPacked) - toEpochDay(fromPacked);
+    }
+
+    // ------------------------
+    // Periods
+    // ------------------------
+
+    /**
+     * Calculates the number of whole months between two packed dates, with the same result as
+     * {@link JalaliDate#monthsUntil(JalaliDate)}.
+     *
+     * @param fromPacked the start date
+     * @param toPacked   the end date
+     * @return the number of months from the start to the end date, negative if the end is earlier
+     */
+    public static long monthsBetween(int fromPacked, int toPacked) {
+        long months = (year(toPacked) - year(fromPacked)) * 12L + (month(toPacked) - month(fromPacked));
+        int fromDay = day(fromPacked);
+        int toDay = day(toPacked);
+        if (months > 0 && toDay < fromDay) months--;
+        else if (months < 0 && toDay > fromDay) months++;
+        return months;
+    }
+
+    /**
+     * Calculates the period between two packed dates, with the same result as
+     * {@link JalaliDate#periodUntil(JalaliDate)}.
+     *
+     * @param fromPacked the start date
+     * @param toPacked   the end date
+     * @return the period from the start to the end date, negative if the end is earlier
+     */
+    public static Period periodBetween(int fromPacked, int toPacked) {
+        long period = period(fromPacked, toPacked, toEpochDay(toPacked));
+        return Period.of(periodYears(period), periodMonths(period), periodDays(period));
+    }
+
+    /**
+     * Calculates the period between two epoch days, with the same result as
+     * {@link JalaliDate#periodUntil(JalaliDate)}.
+     *
+     * @param fromEpochDay the start date as a number of days from 1970-01-01
+     * @param toEpochDay   the end date as a number of days from 1970-01-01
+     * @return the period from the start to the end date, negative if the end is earlier
+     * @throws IllegalArgumentException if an epoch day is outside the supported year range
+     */
+    public static Period periodBetweenEpochDays(long fromEpochDay, long toEpochDay) {
+        JalaliDate.checkEpochDay(toEpochDay);
+        long period = period(ofEpochDay(fromEpochDay), JalaliDate.packedOfEpochDay(toEpochDay), toEpochDay);
+        return Period.of(periodYears(period), periodMonths(period), periodDays(period));
+    }
+
+    /**
+     * Computes years, months and days in one pass over the fields. This is equivalent to
+     * {@code yearsUntil}, {@code plusYears}, {@code monthsUntil}, {@code plusMonths} and
+     * {@code daysUntil} on {@link JalaliDate}, including the clamping of Esfand 30, and
+     * returns {@code years << 16 | months << 8 | days} with months and days as signed bytes.
+     */
+    private static long period(int fromPacked, int toPacked, long toEpochDay) {
+        int fromYear = year(fromPacked), fromMonth = month(fromPacked), fromDay = day(fromPacked);
+        int toYear = year(toPacked), toMonth = month(toPacked), toDay = day(toPacked);
+
+        int years = toYear - fromYear;
+        if (years > 0 && (toMonth < fromMonth || (toMonth == fromMonth && toDay < fromDay))) years--;
+        else if (years < 0 && (toMonth > fromMonth || (toMonth == fromMonth && toDay > fromDay))) years++;
+        int year = fromYear + years;
+        int day = Math.min(fromDay, JalaliDate.jalaaliMonthLength(year, fromMonth));
+
+        int months = (toYear - year) * 12 + (toMonth - fromMonth);
+        if (months > 0 && toDay < day) months--;
+        else if (months < 0 && toDay > day) months++;
+        int prolepticMonth = year * 12 + fromMonth - 1 + months;
+        year = prolepticMonth / 12;
+        int month = prolepticMonth % 12 + 1;
+        day = Math.min(day, JalaliDate.jalaaliMonthLength(year, month));
+
+        int days = (int) (toEpochDay - JalaliDate.epochDayOf(year, month, day));
+        return (long) years << 16 | (months & 0xFF) << 8 | (days & 0xFF);
+    }
+
+    private static int periodYears(long period) {
+        return (int) (period >> 16);
+    }
+
+    private static int periodMonths(long period) {
+        return (byte) (period >> 8);
+    }
+
+    private static int periodDays(long period) {
+        return (byte) period;
+    }
+
+    // ------------------------
+    // Bulk Conversion
+    // ------------------------
+
+    /**
+     * Converts a column of epoch days (as used by {@link java.time.LocalDate#toEpochDay()}) to packed dates.
+     *
+     * @param epochDays the source epoch days
+     * @param srcOffset the first index to read
+     * @param dst       the destination for packed dates
+     * @param dstOffset the first index to write
+     * @param length    the number of values to convert
+     * @throws IndexOutOfBoundsException if a range is outside its array
+     * @throws IllegalArgumentException  if an epoch day is outside the supported year range
+     */
+    public static void fromEpochDays(int[] epochDays, int srcOffset, int[] dst, int dstOffset, int length) {
+        Objects.checkFromIndexSize(srcOffset, length, epochDays.length);
+        Objects.checkFromIndexSize(dstOffset, length, dst.length);
+        for (int i = 0; i < length; i++) {
+            dst[dstOffset + i] = ofEpochDay(epochDays[srcOffset + i]);
+        }
+    }
+
+    /**
+     * Converts a column of packed dates to epoch days.
+     *
+     * @param packed    the source packed dates
+     * @param srcOffset the first index to read
+     * @param dst       the destination for epoch days
+     * @param dstOffset the first index to write
+     * @param length    the number of values to convert
+     * @throws IndexOutOfBoundsException if a range is outside its array
+     */
+    public static void toEpochDays(int[] packed, int srcOffset, int[] dst, int dstOffset, int length) {
+        Objects.checkFromIndexSize(srcOffset, length, packed.length);
+        Objects.checkFromIndexSize(dstOffset, length, dst.length);
+        for (int i = 0; i < length; i++) {
+            dst[dstOffset + i] = (int) toEpochDay(packed[srcOffset + i]);
+        }
+    }
+
+    /**
+     * Converts the remaining epoch days in {@code src} to packed dates written to {@code dst}.
+     * Both buffer positions advance by the number of values converted.
+     *
+     * @param src the source epoch days
+     * @param dst the destination for packed dates
+     * @throws BufferOverflowException if {@code dst} has less room than {@code src} has values
+     * @throws IllegalArgumentException         if an epoch day is outside the supported year range
+     */
+    public static void fromEpochDays(IntBuffer src, IntBuffer dst) {
+        if (dst.remaining() < src.remaining()) throw new BufferOverflowException();
+        while (src.hasRemaining()) {
+            dst.put(ofEpochDay(src.get()));
+        }
+    }
+
+    /**
+     * Converts the remaining packed dates in {@code src} to epoch days written to {@code dst}.
+     * Both buffer positions advance by the number of values converted.
+     *
+     * @param src the source packed dates
+     * @param dst the destination for epoch days
+     * @throws BufferOverflowException if {@code dst} has less room than {@code src} has values
+     */
+    public static void toEpochDays(IntBuffer src, IntBuffer dst) {
+        if (dst.remaining() < src.remaining()) throw new BufferOverflowException();
+        while (src.hasRemaining()) {
+            dst.put((int) toEpochDay(src.get()));
+        }
+    }
+
+    // ------------------------
+    // Bulk Periods
+    // ------------------------
+
+    /**
+     * Calculates the whole months between pairs of packed dates, as {@link #monthsBetween(int, int)}.
+     *
+     * @param fromPacked the start dates
+     * @param toPacked   the end dates, paired by index with the start dates
+     * @param srcOffset  the first index to read from both source arrays
+     * @param dst        the destination for the number of months
+     * @param dstOffset  the first index to write
+     * @param length     the number of pairs
+     * @throws IndexOutOfBoundsException if a range is outside its array
+     */
+    public static void monthsBetween(int[] fromPacked, int[] toPacked, int srcOffset,
+                                     int[] dst, int dstOffset, int length) {
+        Objects.checkFromIndexSize(srcOffset, length, fromPacked.length);
+        Objects.checkFromIndexSize(srcOffset, length, toPacked.length);
+        Objects.checkFromIndexSize(dstOffset, length, dst.length);
+        for (int i = 0; i < length; i++) {
+            dst[dstOffset + i] = (int) monthsBetween(fromPacked[srcOffset + i], toPacked[srcOffset + i]);
+        }
+    }
+
+    /**
+     * Calculates the periods between pairs of packed dates, as {@link #periodBetween(int, int)},
+     * writing the years, months and days of each period to parallel arrays without allocating.
+     *
+     * @param fromPacked the start dates
+     * @param toPacked   the end dates, paired by index with the start dates
+     * @param srcOffset  the first index to read from both source arrays
+     * @param years      the destination for the years of each period
+     * @param months     the destination for the months of each period
+     * @param days       the destination for the days of each period
+     * @param dstOffset  the first index to write in all destination arrays
+     * @param length     the number of pairs
+     * @throws IndexOutOfBoundsException if a range is outside its array
+     */
+    public static void periodsBetween(int[] fromPacked, int[] toPacked, int srcOffset,
+                                      int[] years, int[] months, int[] days, int dstOffset, int length) {
+        Objects.checkFromIndexSize(srcOffset, length, fromPacked.length);
+        Objects.checkFromIndexSize(srcOffset, length, toPacked.length);
+        checkPeriodDestinations(years, months, days, dstOffset, length);
+        for (int i = 0; i < length; i++) {
+            int to = toPacked[srcOffset + i];
+            long period = period(fromPacked[srcOffset + i], to, toEpochDay(to));
+            years[dstOffset + i] = periodYears(period);
+            months[dstOffset + i] = periodMonths(period);
+            days[dstOffset + i] = periodDays(period);
+        }
+    }
+
+    /**
+     * Calculates the periods between pairs of epoch days, as {@link #periodBetweenEpochDays(long, long)},
+     * writing the years, months and days of each period to parallel arrays without allocating.
+     *
+     * @param fromEpochDays the start dates as numbers of days from 1970-01-01
+     * @param toEpochDays   the end dates, paired by index with the start dates
+     * @param srcOffset     the first index to read from both source arrays
+     * @param years         the destination for the years of each period
+     * @param months        the destination for the months of each period
+     * @param days          the destination for the days of each period
+     * @param dstOffset     the first index to write in all destination arrays
+     * @param length        the number of pairs
+     * @throws IndexOutOfBoundsException if a range is outside its array
+     * @throws IllegalArgumentException  if an epoch day is outside the supported year range
+     */
+    public static void periodsBetweenEpochDays(int[] fromEpochDays, int[] toEpochDays, int srcOffset,
+                                               int[] years, int[] months, int[] days, int dstOffset, int length) {
+        Objects.checkFromIndexSize(srcOffset, length, fromEpochDays.length);
+        Objects.checkFromIndexSize(srcOffset, length, toEpochDays.length);
+        checkPeriodDestinations(years, months, days, dstOffset, length);
+        for (int i = 0; i < length; i++) {
+            int to = toEpochDays[srcOffset + i];
+            long period = period(ofEpochDay(fromEpochDays[srcOffset + i]), ofEpochDay(to), to);
+            years[dstOffset + i] = periodYears(period);
+            months[dstOffset + i] = periodMonths(period);
+            days[dstOffset + i] = periodDays(period);
+        }
+    }
+
+    private static void checkPeriodDestinations(int[] years, int[] months, int[] days, int dstOffset, int length) {
+        Objects.checkFromIndexSize(dstOffset, length, years.length);
+        Objects.checkFromIndexSize(dstOffset, length, months.length);
+        Objects.checkFromIndexSize(dstOffset, length, days.length);
+    }
+
+    // ------------------------
+    // Parallel Bulk Conversion
+    // ------------------------
+
+    /**
+     * Converts a column of epoch days to packed dates in parallel on the specified pool,
+     * using {@link #DEFAULT_PARALLEL_THRESHOLD}.
+     *
+     * @param epochDays the source epoch days
+     * @param srcOffset the first index to read
+     * @param dst       the destination for packed dates
+     * @param dstOffset the first index to write
+     * @param length    the number of values to convert
+     * @param pool      the pool to run on, not null
+     * @throws IndexOutOfBoundsException if a range is outside its array
+     * @throws IllegalArgumentException  if an epoch day is outside the supported year range
+     * @see #fromEpochDaysParallel(long[], int, int[], int, int, ForkJoinPool, int)
+     */
+    public static void fromEpochDaysParallel(long[] epochDays, int srcOffset, int[] dst, int dstOffset, int length,
+                                             ForkJoinPool pool) {
+        fromEpochDaysParallel(epochDays, srcOffset, dst, dstOffset, length, pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Converts a column of epoch days to packed dates in parallel on the specified pool.
+     * The column is split in halves until a chunk has at most {@code threshold} values; each
+     * chunk is converted with {@link JalaliDate#ofEpochDays(long[], int, int[], int, int)}.
+     * If an epoch day is out of range the exception is rethrown after other chunks may already
+     * have been written.
+     *
+     * @param epochDays the source epoch days
+     * @param srcOffset the first index to read
+     * @param dst       the destination for packed dates
+     * @param dstOffset the first index to write
+     * @param length    the number of values to convert
+     * @param pool      the pool to run on, not null
+     * @param threshold the largest chunk converted without splitting, at least 1
+     * @throws IndexOutOfBoundsException if a range is outside its array
+     * @throws IllegalArgumentException  if an epoch day is outside the supported year range or threshold is less than 1
+     */
+    public static void fromEpochDaysParallel(long[] epochDays, int srcOffset, int[] dst, int dstOffset, int length,
+                                             ForkJoinPool pool, int threshold) {
+        Objects.checkFromIndexSize(srcOffset, length, epochDays.length);
+        Objects.checkFromIndexSize(dstOffset, length, dst.length);
+        checkParallelArgs(pool, threshold);
+        runChunked(length, pool, threshold,
+                (from, to) -> JalaliDate.ofEpochDays(epochDays, srcOffset + from, dst, dstOffset + from, to - from));
+    }
+
+    /**
+     * Converts the remaining epoch days in {@code src} to packed dates in {@code dst} in parallel
+     * on the specified pool, using {@link #DEFAULT_PARALLEL_THRESHOLD}.
+     *
+     * @param src  the source epoch days
+     * @param dst  the destination for packed dates
+     * @param pool the pool to run on, not null
+     * @throws BufferOverflowException  if {@code dst} has less room than {@code src} has values
+     * @throws IllegalArgumentException if an epoch day is outside the supported year range
+     * @see #fromEpochDaysParallel(IntBuffer, IntBuffer, ForkJoinPool, int)
+     */
+    public static void fromEpochDaysParallel(IntBuffer src, IntBuffer dst, ForkJoinPool pool) {
+        fromEpochDaysParallel(src, dst, pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Converts the remaining epoch days in {@code src} to packed dates in {@code dst} in parallel
+     * on the specified pool. Chunks use absolute reads and writes; both buffer positions advance
+     * by the number of values converted once the whole conversion has succeeded.
+     *
+     * @param src       the source epoch days
+     * @param dst       the destination for packed dates
+     * @param pool      the pool to run on, not null
+     * @param threshold the largest chunk converted without splitting, at least 1
+     * @throws BufferOverflowException  if {@code dst} has less room than {@code src} has values
+     * @throws IllegalArgumentException if an epoch day is outside the supported year range or threshold is less than 1
+     */
+    public static void fromEpochDaysParallel(IntBuffer src, IntBuffer dst, ForkJoinPool pool, int threshold) {
+        if (dst.remaining() < src.remaining()) throw new BufferOverflowException();
+        checkParallelArgs(pool, threshold);
+        int length = src.remaining();
+        int srcPosition = src.position();
+        int dstPosition = dst.position();
+        runChunked(length, pool, threshold, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                dst.put(dstPosition + i, ofEpochDay(src.get(srcPosition + i)));
+            }
+        });
+        src.position(srcPosition + length);
+        dst.position(dstPosition + length);
+    }
+
+    private static void checkParallelArgs(ForkJoinPool pool, int threshold) {
+        Objects.requireNonNull(pool, "pool");
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be at least 1: " + threshold);
+        }
+    }
+
+    private static void runChunked(int length, ForkJoinPool pool, int threshold, ChunkAction action) {
+        if (length == 0) return;
+        if (length <= threshold) {
+            action.apply(0, length);
+            return;
+        }
+        pool.invoke(new ChunkTask(0, length, threshold, action));
+    }
+
+    /**
+     * Converts the values in {@code [from, to)} of a column
+     */
+    @FunctionalInterface
+    private interface ChunkAction {
+        void apply(int from, int to);
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final transient ChunkAction action;
+
+        ChunkTask(int from, int to, int threshold, ChunkAction action) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                action.apply(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, mid, threshold, action), new ChunkTask(mid, to, threshold, action));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.jamalianpour.date;
+
+import java.time.DateTimeException;
+import java.time.chrono.Era;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalField;
+import java.time.temporal.ValueRange;
+
+/**
+ * The era of the {@link JalaliChronology}.
+ * <p>
+ * Jalali years are counted from the Hijra, and all supported years (1 to 3178) fall in the single
+ * era {@link #AP} (Anno Persici), whose numeric value is 1.
+ */
+public enum JalaliEra implements Era {
+
+    /**
+     * The era of the Jalali calendar, starting with year 1
+     */
+    AP;
+
+    /**
+     * Gets the era from its numeric value.
+     *
+     * @param value the era value, which must be 1
+     * @return the era
+     * @throws DateTimeException if the value is not 1
+     */
+    public static JalaliEra of(int value) {
+        if (value != 1) {
+            throw new DateTimeException("Invalid Jalali era: " + value);
+        }
+        return AP;
+    }
+
+    /**
+     * Gets the numeric value of the era.
+     *
+     * @return 1
+     */
+    @Override
+    public int getValue() {
+        return 1;
+    }
+
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field == ChronoField.ERA) {
+            return ValueRange.of(1, 1);
+        }
+        return Era.super.range(field);
+    }
+}
@@ -0,0 +1,310 @@
+package io.github.jamalianpour.date;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Month view of the Jalali calendar as a grid of 6 weeks by 7 days, starting on Saturday.
+ * <p>
+ * Cell {@code i} is row {@code i / 7} and column {@code i % 7}; the column is also the day of the
+ * week in the numbering of {@link JalaliDate#getDayOfWeek()} (0 = Saturday). Cells before and after
+ * the month hold the adjacent days. Each cell carries its epoch day, day of month and a set of flags
+ * ({@link #IN_MONTH}, {@link #WEEKEND}, {@link #HOLIDAY}, {@link #TODAY}) in primitive arrays.
+ * <p>
+ * Grids returned by {@link #of(int, int, WeekendPolicy)} are immutable and cached per year, month,
+ * weekend policy and holiday calendar; because they are shared, they do not carry the
+ * {@link #TODAY} flag, which {@link #getFlags(int, long)} adds on request. For rendering loops,
+ * {@link #fill(int, int, WeekendPolicy, long, int[], byte[], byte[])} writes a grid into
+ * caller-supplied arrays without allocating.
+ */
+public final class JalaliMonthGrid {
+
+    /**
+     * Number of weeks in a grid
+     */
+    public static final int ROWS = 6;
+
+    /**
+     * Number of days in a week
+     */
+    public static final int COLUMNS = 7;
+
+    /**
+     * Number of cells in a grid
+     */
+    public static final int CELLS = ROWS * COLUMNS;
+
+    /**
+     * Flag of cells belonging to the requested month
+     */
+    public static final int IN_MONTH = 1;
+
+    /**
+     * Flag of cells falling on the weekend under the grid's policy
+     */
+    public static final int WEEKEND = 1 << 1;
+
+    /**
+     * Flag of cells that are holidays in {@link HolidayCalendar#getDefault()}
+     */
+    public static final int HOLIDAY = 1 << 2;
+
+    /**
+     * Flag of the cell holding today's date
+     */
+    public static final int TODAY = 1 << 3;
+
+    // Direct-mapped cache of grids; a colliding month replaces the previous entry
+    private static final int CACHE_SIZE = 256;
+    private static final AtomicReferenceArray<JalaliMonthGrid> CACHE = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    private final int year;
+    private final int month;
+    private final WeekendPolicy weekend;
+    private final HolidayCalendar holidays;
+    private final int[] epochDays = new int[CELLS];
+    private final byte[] days = new byte[CELLS];
+    private final byte[] flags = new byte[CELLS];
+
+    private JalaliMonthGrid(int year, int month, WeekendPolicy weekend, HolidayCalendar holidays) {
+        this.year = year;
+        this.month = month;
+        this.weekend = weekend;
+        this.holidays = holidays;
+        fill(year, month, weekend, holidays, Long.MIN_VALUE, epochDays, days, flags);
+    }
+
+    /**
+     * Gets the grid of a month under the default weekend policy.
+     *
+     * @param year  the Jalali year, from 1 to 3178
+     * @param month the month (1-12)
+     * @return the month grid
+     * @throws IllegalArgumentException if the month is invalid
+     */
+    public static JalaliMonthGrid of(int year, int month) {
+        return of(year, month, WeekendPolicy.getDefault());
+    }
+
+    /**
+     * Gets the grid of a month under the specified weekend policy.
+     * Grids are cached for a bounded number of months.
+     *
+     * @param year    the Jalali year, from 1 to 3178
+     * @param month   the month (1-12)
+     * @param weekend the weekend policy, not null
+     * @return the month grid
+     * @throws IllegalArgumentException if the month is invalid
+     */
+    public static JalaliMonthGrid of(int year, int month, WeekendPolicy weekend) {
+        JalaliDate.validate(year, month, 1);
+        HolidayCalendar holidays = HolidayCalendar.getDefault();
+        int mask = weekend.getMask();
+        int slot = Math.floorMod((year * 12 + month) * 31 + mask, CACHE_SIZE);
+        JalaliMonthGrid grid = CACHE.get(slot);
+        if (grid == null || grid.year != year || grid.month != month
+                || grid.weekend.getMask() != mask || grid.holidays != holidays) {
+            grid = new JalaliMonthGrid(year, month, weekend, holidays);
+            CACHE.set(slot, grid);
+        }
+        return grid;
+    }
+
+    /**
+     * Writes the grid of a month into caller-supplied arrays without allocating.
+     * Each array must hold at least {@link #CELLS} elements; cells outside the supported
+     * range of dates get a day of month and flags of zero.
+     *
+     * @param year          the Jalali year, from 1 to 3178
+     * @param month         the month (1-12)
+     * @param weekend       the weekend policy, not null
+     * @param todayEpochDay the epoch day flagged with {@link #TODAY}
+     * @param epochDays     receives the epoch day of each cell
+     * @param days          receives the day of month of each cell
+     * @param flags         receives the flags of each cell
+     * @throws IllegalArgumentException  if the month is invalid
+     * @throws IndexOutOfBoundsException if an array is shorter than {@link #CELLS}
+     */
+    public static void fill(int year, int month, WeekendPolicy weekend, long todayEpochDay,
+                            int[] epochDays, byte[] days, byte[] flags) {
+        JalaliDate.validate(year, month, 1);
+        Objects.requireNonNull(weekend, "weekend");
+        fill(year, month, weekend, HolidayCalendar.getDefault(), todayEpochDay, epochDays, days, flags);
+    }
+
+    private static void fill(int year, int month, WeekendPolicy weekend, HolidayCalendar holidays,
+                             long todayEpochDay, int[] epochDays, byte[] days, byte[] flags) {
+        Objects.checkFromIndexSize(0, CELLS, epochDays.length);
+        Objects.checkFromIndexSize(0, CELLS, days.length);
+        Objects.checkFromIndexSize(0, CELLS, flags.length);
+
+        long first = JalaliDate.epochDayOf(year, month, 1);
+        int offset = (int) Math.floorMod(first + 5, 7L);
+        int length = JalaliDate.jalaaliMonthLength(year, month);
+        int previousLength = month > 1 ? JalaliDate.jalaaliMonthLength(year, month - 1)
+                : year > 1 ? JalaliDate.jalaaliMonthLength(year - 1, 12) : 0;
+        long start = first - offset;
+
+        for (int i = 0; i < CELLS; i++) {
+            long epochDay = start + i;
+            int day = i - offset + 1;
+            int cellFlags = 0;
+            if (day < 1) {
+                day += previousLength;
+            } else if (day > length) {
+                day -= length;
+            } else {
+                cellFlags = IN_MONTH;
+            }
+            epochDays[i] = (int) epochDay;
+            // Only the first and last months of the supported range have cells outside it
+            if ((year == 1 && month == 1 && epochDay < first)
+                    || (year == 3178 && month == 12 && epochDay >= first + length)) {
+                days[i] = 0;
+                flags[i] = 0;
+                continue;
+            }
+            if (weekend.isWeekendDay(i % COLUMNS)) cellFlags |= WEEKEND;
+            if (holidays.isHoliday(epochDay)) cellFlags |= HOLIDAY;
+            if (epochDay == todayEpochDay) cellFlags |= TODAY;
+            days[i] = (byte) day;
+            flags[i] = (byte) cellFlags;
+        }
+    }
+
+    /**
+     * Gets the year of the grid.
+     *
+     * @return the Jalali year
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * Gets the month of the grid.
+     *
+     * @return the month (1-12)
+     */
+    public int getMonth() {
+        return month;
+    }
+
+    /**
+     * Gets the weekend policy of the grid.
+     *
+     * @return the weekend policy
+     */
+    public WeekendPolicy getWeekendPolicy() {
+        return weekend;
+    }
+
+    /**
+     * Gets the epoch day of a cell.
+     *
+     * @param cell the cell index, from 0 to 41
+     * @return the number of days from 1970-01-01
+     */
+    public long getEpochDay(int cell) {
+        return epochDays[cell];
+    }
+
+    /**
+     * Gets the day of month of a cell, which may belong to the previous or next month.
+     *
+     * @param cell the cell index, from 0 to 41
+     * @return the day of month, or 0 outside the supported range of dates
+     */
+    public int getDayOfMonth(int cell) {
+        return days[cell];
+    }
+
+    /**
+     * Gets the day of the week of a cell, which is its column.
+     *
+     * @param cell the cell index, from 0 to 41
+     * @return the day of the week, from 0 (Saturday) to 6 (Friday)
+     */
+    public int getDayOfWeek(int cell) {
+        Objects.checkIndex(cell, CELLS);
+        return cell % COLUMNS;
+    }
+
+    /**
+     * Gets the flags of a cell, without {@link #TODAY}.
+     *
+     * @param cell the cell index, from 0 to 41
+     * @return a combination of {@link #IN_MONTH}, {@link #WEEKEND} and {@link #HOLIDAY}
+     */
+    public int getFlags(int cell) {
+        return flags[cell];
+    }
+
+    /**
+     * Gets the flags of a cell, with {@link #TODAY} if the cell holds the specified day.
+     *
+     * @param cell          the cell index, from 0 to 41
+     * @param todayEpochDay the epoch day of today
+     * @return a combination of the flag constants
+     */
+    public int getFlags(int cell, long todayEpochDay) {
+        return epochDays[cell] == todayEpochDay ? flags[cell] | TODAY : flags[cell];
+    }
+
+    /**
+     * Checks if a cell belongs to the month of the grid.
+     *
+     * @param cell the cell index, from 0 to 41
+     * @return true if the cell is in the month
+     */
+    public boolean isInMonth(int cell) {
+        return (flags[cell] & IN_MONTH) != 0;
+    }
+
+    /**
+     * Checks if a cell is a holiday or a weekend day.
+     *
+     * @param cell the cell index, from 0 to 41
+     * @return true if the cell is a holiday or a weekend day
+     */
+    public boolean isHoliday(int cell) {
+        return (flags[cell] & (HOLIDAY | WEEKEND)) != 0;
+    }
+
+    /**
+     * Gets the holiday name of a cell.
+     *
+     * @param cell the cell index, from 0 to 41
+     * @return the holiday name, or null if the cell is not a holiday in the holiday calendar
+     */
+    public String getHolidayName(int cell) {
+        return (flags[cell] & HOLIDAY) != 0 ? holidays.getHolidayName(epochDays[cell]) : null;
+    }
+
+    /**
+     * Gets the date of a cell.
+     *
+     * @param cell the cell index, from 0 to 41
+     * @return the date of the cell
+     * @throws IllegalArgumentException if the cell is outside the supported range of dates
+     */
+    public JalaliDate getDate(int cell) {
+        return JalaliDate.ofEpochDay(epochDays[cell]);
+    }
+
+    /**
+     * Finds the cell holding the epoch day.
+     *
+     * @param epochDay the number of days from 1970-01-01
+     * @return the cell index, or -1 if the day is not in the grid
+     */
+    public int indexOf(long epochDay) {
+        long index = epochDay - epochDays[0];
+        return index >= 0 && index < CELLS ? (int) index : -1;
+    }
+
+    @Override
+    public String toString() {
+        return "JalaliMonthGrid[" + year + "/" + month + ", " + weekend + "]";
+    }
+}
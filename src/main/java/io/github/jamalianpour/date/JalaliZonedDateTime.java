@@ -0,0 +1,476 @@
+package io.github.jamalianpour.date;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+/**
+ * A date-time with a time-zone in the Jalali calendar, such as
+ * {@code 1403-05-12T14:30+03:30[Asia/Tehran]}.
+ * <p>
+ * This is the Jalali counterpart of {@link ZonedDateTime}: a {@link JalaliDateTime}, the offset in
+ * effect at that instant and the zone. Creating one from an instant or from epoch milliseconds
+ * looks the offset up in a cached table of the zone's transitions, so converting a stream of
+ * timestamps does not build a {@link ZonedDateTime} per event.
+ * <p>
+ * Instances are immutable and thread-safe.
+ */
+public final class JalaliZonedDateTime implements Comparable<JalaliZonedDateTime>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The local date-time
+     */
+    private final JalaliDateTime dateTime;
+
+    /**
+     * The offset from UTC of the local date-time
+     */
+    private final ZoneOffset offset;
+
+    /**
+     * The zone, which may be the offset itself
+     */
+    private final ZoneId zone;
+
+    private JalaliZonedDateTime(JalaliDateTime dateTime, ZoneOffset offset, ZoneId zone) {
+        this.dateTime = dateTime;
+        this.offset = offset;
+        this.zone = zone;
+    }
+
+    // ------------------------
+    // Factory Methods
+    // ------------------------
+
+    /**
+     * Creates a zoned date-time from a local date-time, resolving gaps and overlaps as
+     * {@link ZonedDateTime#of(java.time.LocalDateTime, ZoneId)} does: a time in a gap is moved
+     * forward by the length of the gap, and a time in an overlap takes the earlier offset.
+     *
+     * @param dateTime the local date-time, not null
+     * @param zone     the zone, not null
+     * @return the zoned date-time
+     * @throws NullPointerException if dateTime or zone is null
+     */
+    public static JalaliZonedDateTime of(JalaliDateTime dateTime, ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        if (zone instanceof ZoneOffset) {
+            return new JalaliZonedDateTime(Objects.requireNonNull(dateTime, "dateTime"), (ZoneOffset) zone, zone);
+        }
+        return from(ZonedDateTime.of(dateTime.toLocalDateTime(), zone));
+    }
+
+    /**
+     * Converts a Gregorian zoned date-time to the Jalali calendar.
+     *
+     * @param dateTime the date-time to convert, not null
+     * @return the Jalali zoned date-time
+     * @throws NullPointerException     if dateTime is null
+     * @throws IllegalArgumentException if the date is outside the supported year range
+     */
+    public static JalaliZonedDateTime from(ZonedDateTime dateTime) {
+        Objects.requireNonNull(dateTime, "dateTime");
+        return new JalaliZonedDateTime(JalaliDateTime.from(dateTime.toLocalDateTime()),
+                dateTime.getOffset(), dateTime.getZone());
+    }
+
+    /**
+     * Creates the zoned date-time at an instant given in milliseconds.
+     * The offset comes from a cached table of the zone's transitions.
+     *
+     * @param epochMilli the instant in milliseconds from 1970-01-01T00:00Z
+     * @param zone       the zone, not null
+     * @return the zoned date-time at the instant
+     * @throws NullPointerException     if zone is null
+     * @throws IllegalArgumentException if the date is outside the supported year range
+     */
+    public static JalaliZonedDateTime ofEpochMilli(long epochMilli, ZoneId zone) {
+        long epochSecond = Math.floorDiv(epochMilli, 1000);
+        return ofEpochSecond(epochSecond, Math.floorMod(epochMilli, 1000) * 1_000_000, zone);
+    }
+
+    /**
+     * Creates the zoned date-time at an instant.
+     * The offset comes from a cached table of the zone's transitions.
+     *
+     * @param instant the instant, not null
+     * @param zone    the zone, not null
+     * @return the zoned date-time at the instant
+     * @throws NullPointerException     if instant or zone is null
+     * @throws IllegalArgumentException if the date is outside the supported year range
+     */
+    public static JalaliZonedDateTime ofInstant(Instant instant, ZoneId zone) {
+        return ofEpochSecond(instant.getEpochSecond(), instant.getNano(), zone);
+    }
+
+    private static JalaliZonedDateTime ofEpochSecond(long epochSecond, int nanoOfSecond, ZoneId zone) {
+        ZoneOffset offset = ZoneOffsetTable.of(zone).getOffset(epochSecond);
+        return new JalaliZonedDateTime(JalaliDateTime.ofEpochSecond(epochSecond, nanoOfSecond, offset), offset, zone);
+    }
+
+    /**
+     * Gets the current date-time from the system clock in the default time-zone.
+     *
+     * @return the current Jalali date-time
+     */
+    public static JalaliZonedDateTime now() {
+        return now(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Gets the current date-time from the system clock in the specified time-zone.
+     *
+     * @param zone the zone to use, not null
+     * @return the current Jalali date-time
+     * @throws NullPointerException if zone is null
+     */
+    public static JalaliZonedDateTime now(ZoneId zone) {
+        return now(Clock.system(zone));
+    }
+
+    /**
+     * Gets the current date-time from the specified clock, in the clock's zone.
+     *
+     * @param clock the clock to use, not null
+     * @return the current Jalali date-time
+     * @throws NullPointerException if clock is null
+     */
+    public static JalaliZonedDateTime now(Clock clock) {
+        Objects.requireNonNull(clock, "clock");
+        return ofInstant(clock.instant(), clock.getZone());
+    }
+
+    /**
+     * Parses an ISO-8601 zoned date-time such as {@code 1403-05-12T14:30+03:30[Asia/Tehran]},
+     * {@code 1403-05-12T14:30:05.250+03:30} or {@code 1403-05-12T11:00Z}. The local part follows
+     * {@link JalaliDateTime#parse(CharSequence)}. When a zone is given, the instant described by
+     * the local date-time and the offset is kept and shown in that zone.
+     *
+     * @param text the text to parse, not null
+     * @return the parsed zoned date-time
+     * @throws IllegalArgumentException if the text is not a valid zoned date-time
+     */
+    public static JalaliZonedDateTime parse(CharSequence text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') start++;
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+        try {
+            ZoneId zone = null;
+            if (end > start && text.charAt(end - 1) == ']') {
+                int bracket = end - 1;
+                while (bracket > start && text.charAt(bracket) != '[') bracket--;
+                if (bracket == start) throw invalid(text);
+                zone = ZoneId.of(text.subSequence(bracket + 1, end - 1).toString());
+                end = bracket;
+            }
+            int offsetStart = end;
+            while (offsetStart > start) {
+                char c = text.charAt(offsetStart - 1);
+                if (c == '+' || c == '-' || c == 'Z') break;
+                if (c == 'T' || c == ' ') throw invalid(text);
+                offsetStart--;
+            }
+            if (offsetStart == start) throw invalid(text);
+            ZoneOffset offset = ZoneOffset.of(text.subSequence(offsetStart - 1, end).toString());
+            JalaliDateTime dateTime = JalaliDateTime.tryParse(text, start, offsetStart - 1);
+            if (dateTime == null) throw invalid(text);
+            if (zone == null || zone.equals(offset)) {
+                return new JalaliZonedDateTime(dateTime, offset, offset);
+            }
+            return ofEpochSecond(dateTime.toEpochSecond(offset), dateTime.getNano(), zone);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid Jalali zoned date-time: " + text, e);
+        }
+    }
+
+    private static IllegalArgumentException invalid(CharSequence text) {
+        return new IllegalArgumentException("Invalid Jalali zoned date-time: " + text);
+    }
+
+    // ------------------------
+    // Getters
+    // ------------------------
+
+    /**
+     * Gets the local date-time.
+     *
+     * @return the Jalali date-time
+     */
+    public JalaliDateTime getDateTime() {
+        return dateTime;
+    }
+
+    /**
+     * Gets the local date.
+     *
+     * @return the Jalali date
+     */
+    public JalaliDate getDate() {
+        return dateTime.getDate();
+    }
+
+    /**
+     * Gets the local time.
+     *
+     * @return the time of day
+     */
+    public LocalTime getTime() {
+        return dateTime.getTime();
+    }
+
+    /**
+     * Gets the offset from UTC.
+     *
+     * @return the offset in effect at this instant
+     */
+    public ZoneOffset getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the zone.
+     *
+     * @return the zone, which is the offset for fixed-offset date-times
+     */
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Gets the Jalali year.
+     *
+     * @return the year
+     */
+    public int getYear() {
+        return dateTime.getYear();
+    }
+
+    /**
+     * Gets the month of year.
+     *
+     * @return the month, from 1 (Farvardin) to 12 (Esfand)
+     */
+    public int getMonth() {
+        return dateTime.getMonth();
+    }
+
+    /**
+     * Gets the day of month.
+     *
+     * @return the day, from 1 to 31
+     */
+    public int getDay() {
+        return dateTime.getDay();
+    }
+
+    /**
+     * Gets the hour of day.
+     *
+     * @return the hour, from 0 to 23
+     */
+    public int getHour() {
+        return dateTime.getHour();
+    }
+
+    /**
+     * Gets the minute of hour.
+     *
+     * @return the minute, from 0 to 59
+     */
+    public int getMinute() {
+        return dateTime.getMinute();
+    }
+
+    /**
+     * Gets the second of minute.
+     *
+     * @return the second, from 0 to 59
+     */
+    public int getSecond() {
+        return dateTime.getSecond();
+    }
+
+    /**
+     * Gets the nano of second.
+     *
+     * @return the nano, from 0 to 999,999,999
+     */
+    public int getNano() {
+        return dateTime.getNano();
+    }
+
+    // ------------------------
+    // Conversion
+    // ------------------------
+
+    /**
+     * Converts this date-time to seconds from 1970-01-01T00:00Z.
+     *
+     * @return the instant in epoch seconds
+     */
+    public long toEpochSecond() {
+        return dateTime.toEpochSecond(offset);
+    }
+
+    /**
+     * Converts this date-time to milliseconds from 1970-01-01T00:00Z.
+     *
+     * @return the instant in epoch milliseconds
+     */
+    public long toEpochMilli() {
+        return toEpochSecond() * 1000 + dateTime.getNano() / 1_000_000;
+    }
+
+    /**
+     * Converts this date-time to an instant.
+     *
+     * @return the instant
+     */
+    public Instant toInstant() {
+        return Instant.ofEpochSecond(toEpochSecond(), dateTime.getNano());
+    }
+
+    /**
+     * Converts this date-time to the Gregorian calendar.
+     *
+     * @return the equivalent ZonedDateTime
+     */
+    public ZonedDateTime toZonedDateTime() {
+        return ZonedDateTime.ofStrict(dateTime.toLocalDateTime(), offset, zone);
+    }
+
+    /**
+     * Returns the same instant seen in another zone.
+     *
+     * @param zone the zone, not null
+     * @return the zoned date-time in the other zone
+     * @throws NullPointerException     if zone is null
+     * @throws IllegalArgumentException if the date is outside the supported year range
+     */
+    public JalaliZonedDateTime withZoneSameInstant(ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        return zone.equals(this.zone) ? this : ofEpochSecond(toEpochSecond(), dateTime.getNano(), zone);
+    }
+
+    // ------------------------
+    // Comparison
+    // ------------------------
+
+    /**
+     * Checks if the instant of this date-time is before that of the specified date-time.
+     *
+     * @param other the other date-time, not null
+     * @return true if this is before the other instant
+     */
+    public boolean isBefore(JalaliZonedDateTime other) {
+        long epochSecond = toEpochSecond();
+        long otherEpochSecond = other.toEpochSecond();
+        return epochSecond < otherEpochSecond
+                || (epochSecond == otherEpochSecond && getNano() < other.getNano());
+    }
+
+    /**
+     * Checks if the instant of this date-time is after that of the specified date-time.
+     *
+     * @param other the other date-time, not null
+     * @return true if this is after the other instant
+     */
+    public boolean isAfter(JalaliZonedDateTime other) {
+        return other.isBefore(this);
+    }
+
+    /**
+     * Compares by instant, then by local date-time, then by zone ID, as
+     * {@link java.time.chrono.ChronoZonedDateTime#compareTo} does.
+     */
+    @Override
+    public int compareTo(JalaliZonedDateTime o) {
+        int cmp = Long.compare(toEpochSecond(), o.toEpochSecond());
+        if (cmp == 0) cmp = getNano() - o.getNano();
+        if (cmp == 0) cmp = dateTime.compareTo(o.dateTime);
+        if (cmp == 0) cmp = zone.getId().compareTo(o.zone.getId());
+        return cmp;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof JalaliZonedDateTime)) return false;
+        JalaliZonedDateTime other = (JalaliZonedDateTime) o;
+        return dateTime.equals(other.dateTime) && offset.equals(other.offset) && zone.equals(other.zone);
+    }
+
+    @Override
+    public int hashCode() {
+        return dateTime.hashCode() ^ offset.hashCode() ^ Integer.rotateLeft(zone.hashCode(), 3);
+    }
+
+    // ------------------------
+    // Formatting
+    // ------------------------
+
+    /**
+     * Formats this date-time with the specified formatter.
+     *
+     * @param formatter the formatter to use, not null
+     * @return the formatted date-time
+     */
+    public String format(JalaliDateTimeFormatter formatter) {
+        return formatter.format(this);
+    }
+
+    /**
+     * Returns this date-time in ISO-8601 format, such as {@code 1403-05-12T14:30+03:30[Asia/Tehran]}.
+     * The zone is omitted when it is the offset itself.
+     *
+     * @return the ISO-8601 text
+     */
+    @Override
+    public String toString() {
+        String text = dateTime.toString() + offset.getId();
+        return zone instanceof ZoneOffset ? text : text + '[' + zone.getId() + ']';
+    }
+
+    // ------------------------
+    // Serialization
+    // ------------------------
+
+    /**
+     * Writes the date-time to the serialized form of {@link Ser}: the local date-time, the offset
+     * in seconds as an int and the zone ID.
+     */
+    void writeExternal(DataOutput out) throws IOException {
+        dateTime.writeExternal(out);
+        out.writeInt(offset.getTotalSeconds());
+        out.writeUTF(zone.getId());
+    }
+
+    static JalaliZonedDateTime readExternal(DataInput in) throws IOException {
+        JalaliDateTime dateTime = JalaliDateTime.readExternal(in);
+        ZoneOffset offset = ZoneOffset.ofTotalSeconds(in.readInt());
+        ZoneId zone = ZoneId.of(in.readUTF());
+        return new JalaliZonedDateTime(dateTime, offset, zone instanceof ZoneOffset ? offset : zone);
+    }
+
+    private Object writeReplace() {
+        return new Ser(Ser.ZONED_DATE_TIME, this);
+    }
+
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("Deserialization via serialization delegate");
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.jamalianpour.date;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+
+/**
+ * Serialization delegate of the date-time types, writing a type byte followed by the compact
+ * primitive form of the value instead of its object graph.
+ */
+final class Ser implements Externalizable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final byte DATE_TIME = 1;
+    static final byte ZONED_DATE_TIME = 2;
+
+    private byte type;
+    private Object object;
+
+    /**
+     * Constructor for deserialization.
+     */
+    public Ser() {
+    }
+
+    Ser(byte type, Object object) {
+        this.type = type;
+        this.object = object;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeByte(type);
+        switch (type) {
+            case DATE_TIME:
+                ((JalaliDateTime) object).writeExternal(out);
+                break;
+            case ZONED_DATE_TIME:
+                ((JalaliZonedDateTime) object).writeExternal(out);
+                break;
+            default:
+                throw new StreamCorruptedException("Unknown serialized type: " + type);
+        }
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        type = in.readByte();
+        switch (type) {
+            case DATE_TIME:
+                object = JalaliDateTime.readExternal(in);
+                break;
+            case ZONED_DATE_TIME:
+                object = JalaliZonedDateTime.readExternal(in);
+                break;
+            default:
+                throw new StreamCorruptedException("Unknown serialized type: " + type);
+        }
+    }
+
+    private Object readResolve() {
+        return object;
+    }
+}
@@ -0,0 +1,176 @@
+package io.github.jamalianpour.date;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Days of the week treated as the weekend, stored as a 7-bit mask.
+ * <p>
+ * Bit {@code i} of the mask stands for day {@code i} in the Saturday-based numbering of
+ * {@link JalaliDate#getDayOfWeek()} (0 = Saturday, 6 = Friday). Checking a day is a shift and a
+ * mask over its epoch day, with no {@link DayOfWeek} lookup or Gregorian conversion.
+ * <p>
+ * The default policy, used by {@link JalaliDate#isWeekend()} and the holiday and working-day
+ * methods, is {@link #THURSDAY_FRIDAY}. Instances are immutable and thread-safe.
+ */
+public final class WeekendPolicy {
+
+    /**
+     * Thursday and Friday, the official Iranian weekend
+     */
+    public static final WeekendPolicy THURSDAY_FRIDAY = new WeekendPolicy(bit(DayOfWeek.THURSDAY) | bit(DayOfWeek.FRIDAY));
+
+    /**
+     * Friday only
+     */
+    public static final WeekendPolicy FRIDAY = new WeekendPolicy(bit(DayOfWeek.FRIDAY));
+
+    /**
+     * Friday and Saturday
+     */
+    public static final WeekendPolicy FRIDAY_SATURDAY = new WeekendPolicy(bit(DayOfWeek.FRIDAY) | bit(DayOfWeek.SATURDAY));
+
+    /**
+     * Saturday and Sunday
+     */
+    public static final WeekendPolicy SATURDAY_SUNDAY = new WeekendPolicy(bit(DayOfWeek.SATURDAY) | bit(DayOfWeek.SUNDAY));
+
+    private static final String[] WEEKEND_NAMES = {
+            "Saturday (Weekend)", "Sunday (Weekend)", "Monday (Weekend)", "Tuesday (Weekend)",
+            "Wednesday (Weekend)", "Thursday (Weekend)", "Friday (Weekend)"
+    };
+
+    private static volatile WeekendPolicy defaultPolicy = THURSDAY_FRIDAY;
+
+    private final int mask;
+
+    private WeekendPolicy(int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Gets a policy from a 7-bit mask in the Saturday-based numbering (bit 0 = Saturday, bit 6 = Friday).
+     *
+     * @param mask the weekend mask, from 0 to 127
+     * @return the weekend policy
+     * @throws IllegalArgumentException if the mask has bits outside the lowest seven
+     */
+    public static WeekendPolicy ofMask(int mask) {
+        if ((mask & ~0x7F) != 0) {
+            throw new IllegalArgumentException("Weekend mask must be between 0 and 127: " + mask);
+        }
+        return new WeekendPolicy(mask);
+    }
+
+    /**
+     * Gets a policy treating the specified days as the weekend.
+     *
+     * @param days the weekend days, not null
+     * @return the weekend policy
+     */
+    public static WeekendPolicy of(DayOfWeek... days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= bit(Objects.requireNonNull(day, "day"));
+        }
+        return new WeekendPolicy(mask);
+    }
+
+    /**
+     * Gets the policy used by {@link JalaliDate#isWeekend()} and related methods.
+     *
+     * @return the default policy, {@link #THURSDAY_FRIDAY} unless replaced
+     */
+    public static WeekendPolicy getDefault() {
+        return defaultPolicy;
+    }
+
+    /**
+     * Replaces the policy used by {@link JalaliDate#isWeekend()} and related methods.
+     *
+     * @param policy the new default policy, not null
+     */
+    public static void setDefault(WeekendPolicy policy) {
+        defaultPolicy = Objects.requireNonNull(policy, "policy");
+    }
+
+    /**
+     * Gets the 7-bit weekend mask in the Saturday-based numbering.
+     *
+     * @return the mask, from 0 to 127
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Gets the weekend days.
+     *
+     * @return a new set of the weekend days
+     */
+    public Set<DayOfWeek> getWeekendDays() {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (isWeekend(day)) days.add(day);
+        }
+        return days;
+    }
+
+    /**
+     * Checks if the epoch day falls on the weekend.
+     *
+     * @param epochDay the number of days from 1970-01-01
+     * @return true if the day is a weekend day
+     */
+    public boolean isWeekend(long epochDay) {
+        return isWeekendDay(Math.floorMod(epochDay + 5, 7));
+    }
+
+    /**
+     * Checks if the day of the week is a weekend day.
+     *
+     * @param day the day of the week, not null
+     * @return true if the day is a weekend day
+     */
+    public boolean isWeekend(DayOfWeek day) {
+        return (mask & bit(day)) != 0;
+    }
+
+    /**
+     * Checks if the day in the Saturday-based numbering (0 = Saturday) is a weekend day.
+     */
+    boolean isWeekendDay(int dayOfWeek) {
+        return (mask >>> dayOfWeek & 1) != 0;
+    }
+
+    /**
+     * Gets the name reported for a weekend day, such as "Friday (Weekend)".
+     */
+    static String weekendName(int dayOfWeek) {
+        return WEEKEND_NAMES[dayOfWeek];
+    }
+
+    private static int bit(DayOfWeek day) {
+        // MONDAY is 1 and SATURDAY is 6 in ISO numbering; Saturday is 0 here
+        return 1 << ((day.getValue() + 1) % 7);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WeekendPolicy)) return false;
+        return mask == ((WeekendPolicy) o).mask;
+    }
+
+    @Override
+    public int hashCode() {
+        return mask;
+    }
+
+    @Override
+    public String toString() {
+        return "WeekendPolicy" + getWeekendDays();
+    }
+}
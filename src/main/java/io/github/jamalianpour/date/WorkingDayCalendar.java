@@ -0,0 +1,315 @@
+package io.github.jamalianpour.date;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Working-day arithmetic over a {@link HolidayCalendar} and a {@link WeekendPolicy}.
+ * <p>
+ * A working day is a day that is neither a weekend day nor a holiday. For each Jalali year the
+ * calendar keeps a prefix-sum table counting the working days before every day of the year, and
+ * the total of the year. Counting working days between two dates is then two table reads plus one
+ * total per year crossed, and finding the n-th working day steps over whole years by their totals
+ * and binary-searches inside the target year, instead of a day-by-day walk.
+ * <p>
+ * Tables and totals are built lazily for the years a query touches, so holiday sources are only
+ * consulted for those years. Instances are immutable and thread-safe.
+ */
+public final class WorkingDayCalendar {
+
+    // Calendars over the default holidays, one slot per weekend mask
+    private static final AtomicReferenceArray<WorkingDayCalendar> DEFAULTS = new AtomicReferenceArray<>(128);
+
+    private final HolidayCalendar holidays;
+    private final WeekendPolicy weekend;
+    private final AtomicReferenceArray<char[]> prefixes = new AtomicReferenceArray<>(3179);
+    // Working days of each year plus one, so that zero marks a year not counted yet
+    private final AtomicIntegerArray totals = new AtomicIntegerArray(3179);
+
+    private WorkingDayCalendar(HolidayCalendar holidays, WeekendPolicy weekend) {
+        this.holidays = holidays;
+        this.weekend = weekend;
+    }
+
+    /**
+     * Gets a working-day calendar over the specified holidays and the default weekend policy.
+     *
+     * @param holidays the holiday calendar, not null
+     * @return a new working-day calendar
+     */
+    public static WorkingDayCalendar of(HolidayCalendar holidays) {
+        return of(holidays, WeekendPolicy.getDefault());
+    }
+
+    /**
+     * Gets a working-day calendar over the specified holidays and weekend policy.
+     *
+     * @param holidays the holiday calendar, not null
+     * @param weekend  the weekend policy, not null
+     * @return a new working-day calendar
+     */
+    public static WorkingDayCalendar of(HolidayCalendar holidays, WeekendPolicy weekend) {
+        return new WorkingDayCalendar(Objects.requireNonNull(holidays, "holidays"),
+                Objects.requireNonNull(weekend, "weekend"));
+    }
+
+    /**
+     * Gets the working-day calendar over {@link HolidayCalendar#getDefault()} and
+     * {@link WeekendPolicy#getDefault()}, used by the working-day methods of {@link JalaliDate}.
+     *
+     * @return the default working-day calendar
+     */
+    public static WorkingDayCalendar getDefault() {
+        return getDefault(WeekendPolicy.getDefault());
+    }
+
+    /**
+     * Gets the shared working-day calendar over {@link HolidayCalendar#getDefault()} and the
+     * specified weekend policy. Instances are replaced when the default holiday calendar changes,
+     * so their tables are built once per policy.
+     *
+     * @param weekend the weekend policy, not null
+     * @return the shared working-day calendar
+     */
+    public static WorkingDayCalendar getDefault(WeekendPolicy weekend) {
+        HolidayCalendar current = HolidayCalendar.getDefault();
+        int slot = weekend.getMask();
+        WorkingDayCalendar calendar = DEFAULTS.get(slot);
+        if (calendar == null || calendar.holidays != current) {
+            calendar = new WorkingDayCalendar(current, weekend);
+            DEFAULTS.set(slot, calendar);
+        }
+        return calendar;
+    }
+
+    /**
+     * Gets the holiday calendar this calendar is built on.
+     *
+     * @return the holiday calendar
+     */
+    public HolidayCalendar getHolidays() {
+        return holidays;
+    }
+
+    /**
+     * Gets the weekend policy this calendar is built on.
+     *
+     * @return the weekend policy
+     */
+    public WeekendPolicy getWeekendPolicy() {
+        return weekend;
+    }
+
+    /**
+     * Checks if the epoch day is a working day.
+     *
+     * @param epochDay the number of days from 1970-01-01
+     * @return true if the day is neither a weekend day nor a holiday
+     * @throws IllegalArgumentException if the epoch day is outside the supported range
+     */
+    public boolean isWorkingDay(long epochDay) {
+        JalaliDate.checkEpochDay(epochDay);
+        int year = JalaliDate.yearOfEpochDay(epochDay);
+        char[] prefix = prefix(year);
+        int index = (int) (epochDay - JalaliDate.firstEpochDayOfYear(year));
+        return prefix[index + 1] != prefix[index];
+    }
+
+    /**
+     * Counts the working days from the first epoch day, inclusive, to the second, exclusive.
+     * Either day may be the day after the last supported day, so that the span can cover the
+     * whole supported range.
+     *
+     * @param fromEpochDay the first day, inclusive
+     * @param toEpochDay   the last day, exclusive
+     * @return the number of working days, negative if {@code toEpochDay} is before {@code fromEpochDay}
+     * @throws IllegalArgumentException if either epoch day is outside the supported range
+     */
+    public long workingDaysBetween(long fromEpochDay, long toEpochDay) {
+        if (toEpochDay < fromEpochDay) return -workingDaysBetween(toEpochDay, fromEpochDay);
+        if (fromEpochDay == toEpochDay) {
+            checkBound(fromEpochDay);
+            return 0;
+        }
+        JalaliDate.checkEpochDay(fromEpochDay);
+        int fromYear = JalaliDate.yearOfEpochDay(fromEpochDay);
+        int toYear = JalaliDate.yearOfEpochDay(checkBound(toEpochDay) - 1);
+        long count = prefix(toYear)[(int) (toEpochDay - JalaliDate.firstEpochDayOfYear(toYear))]
+                - prefix(fromYear)[(int) (fromEpochDay - JalaliDate.firstEpochDayOfYear(fromYear))];
+        for (int year = fromYear; year < toYear; year++) {
+            count += yearTotal(year);
+        }
+        return count;
+    }
+
+    /**
+     * Finds the working day the specified number of working days away from the epoch day.
+     * For positive {@code n} this is the n-th working day after the day, for negative {@code n}
+     * the n-th working day before it; zero returns the day itself.
+     *
+     * @param epochDay the day to start from
+     * @param n        the number of working days to move, may be negative
+     * @return the epoch day of the resulting working day
+     * @throws IllegalArgumentException if the result is outside the supported range
+     */
+    public long plusWorkingDays(long epochDay, long n) {
+        JalaliDate.checkEpochDay(epochDay);
+        if (n == 0) return epochDay;
+        int year = JalaliDate.yearOfEpochDay(epochDay);
+        char[] prefix = prefix(year);
+        int index = (int) (epochDay - JalaliDate.firstEpochDayOfYear(year));
+        // Working days of the year strictly before the day, and up to and including it
+        int before = prefix[index];
+        int through = prefix[index + 1];
+        if (n > 0 ? n <= prefix[prefix.length - 1] - through : n >= -before) {
+            int rank = (int) (n > 0 ? through + n : before + n + 1);
+            return JalaliDate.firstEpochDayOfYear(year) + dayOfRank(prefix, rank);
+        }
+        // Step over whole years by their totals. The rank is moved toward the target year by
+        // subtracting totals, so it never overflows however large n is.
+        if (n > 0) {
+            long rank = n - (prefix[prefix.length - 1] - through);
+            int total;
+            while (rank > (total = yearTotal(checkYear(++year)))) {
+                rank -= total;
+            }
+            return JalaliDate.firstEpochDayOfYear(year) + dayOfRank(prefix(year), (int) rank);
+        } else {
+            long rank = before + n + 1;
+            while (rank < 1) {
+                rank += yearTotal(checkYear(--year));
+            }
+            return JalaliDate.firstEpochDayOfYear(year) + dayOfRank(prefix(year), (int) rank);
+        }
+    }
+
+    /**
+     * Finds the n-th working day of a month.
+     *
+     * @param year  the Jalali year, from 1 to 3178
+     * @param month the month (1-12)
+     * @param n     the 1-based position of the working day within the month
+     * @return the epoch day of the working day
+     * @throws IllegalArgumentException if the month is invalid or has fewer than {@code n} working days
+     */
+    public long nthWorkingDayOfMonth(int year, int month, int n) {
+        JalaliDate.validate(year, month, 1);
+        char[] prefix = prefix(year);
+        int start = JalaliDate.dayOfYear(month, 1) - 1;
+        int end = start + JalaliDate.jalaaliMonthLength(year, month);
+        int count = prefix[end] - prefix[start];
+        if (n < 1 || n > count) {
+            throw new IllegalArgumentException(
+                    "Working day " + n + " requested, but " + year + "/" + month + " has " + count);
+        }
+        return JalaliDate.firstEpochDayOfYear(year) + dayOfRank(prefix, prefix[start] + n);
+    }
+
+    /**
+     * Counts the working days of a month.
+     *
+     * @param year  the Jalali year, from 1 to 3178
+     * @param month the month (1-12)
+     * @return the number of working days in the month
+     * @throws IllegalArgumentException if the month is invalid
+     */
+    public int workingDaysInMonth(int year, int month) {
+        JalaliDate.validate(year, month, 1);
+        char[] prefix = prefix(year);
+        int start = JalaliDate.dayOfYear(month, 1) - 1;
+        return prefix[start + JalaliDate.jalaaliMonthLength(year, month)] - prefix[start];
+    }
+
+    /**
+     * Counts the working days of a year.
+     *
+     * @param year the Jalali year, from 1 to 3178
+     * @return the number of working days in the year
+     * @throws IllegalArgumentException if the year is out of range
+     */
+    public int workingDaysInYear(int year) {
+        return yearTotal(checkYear(year));
+    }
+
+    // ------------------------
+    // Prefix Tables
+    // ------------------------
+
+    private static int checkYear(int year) {
+        if (year < 1 || year > 3178) throw outOfRange();
+        return year;
+    }
+
+    private static IllegalArgumentException outOfRange() {
+        return new IllegalArgumentException("Working day outside the supported range of years 1 to 3178");
+    }
+
+    /**
+     * Checks an exclusive end day: a supported day or the day after the last one.
+     */
+    private static long checkBound(long epochDay) {
+        if (epochDay != JalaliDate.firstEpochDayOfYear(3179)) JalaliDate.checkEpochDay(epochDay);
+        return epochDay;
+    }
+
+    /**
+     * Gets the number of working days of the year, counting them on first use. A year counted
+     * this way does not keep its prefix table, as most years are only stepped over.
+     */
+    private int yearTotal(int year) {
+        int total = totals.get(year);
+        if (total == 0) {
+            char[] prefix = prefixes.get(year);
+            if (prefix == null) prefix = computePrefix(year);
+            total = prefix[prefix.length - 1] + 1;
+            totals.set(year, total);
+        }
+        return total - 1;
+    }
+
+    /**
+     * Gets the table of the year, where entry {@code i} counts the working days among the first
+     * {@code i} days of the year; the last entry is the total of the year.
+     */
+    private char[] prefix(int year) {
+        char[] prefix = prefixes.get(year);
+        if (prefix == null) {
+            prefix = computePrefix(year);
+            char[] existing = prefixes.compareAndExchange(year, null, prefix);
+            if (existing != null) prefix = existing;
+        }
+        return prefix;
+    }
+
+    private char[] computePrefix(int year) {
+        long first = JalaliDate.firstEpochDayOfYear(year);
+        int length = (int) (JalaliDate.firstEpochDayOfYear(year + 1) - first);
+        char[] prefix = new char[length + 1];
+        int dow = (int) Math.floorMod(first + 5, 7L);
+        for (int i = 0; i < length; i++) {
+            boolean working = !weekend.isWeekendDay(dow) && !holidays.isHoliday(year, i);
+            prefix[i + 1] = (char) (prefix[i] + (working ? 1 : 0));
+            if (++dow == 7) dow = 0;
+        }
+        return prefix;
+    }
+
+    /**
+     * Finds the day of year index of the working day with the specified 1-based rank in the year.
+     */
+    private static int dayOfRank(char[] prefix, int rank) {
+        // Smallest k with prefix[k] >= rank; the working day is then index k - 1
+        int lo = 1;
+        int hi = prefix.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (prefix[mid] < rank) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo - 1;
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.jamalianpour.date;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The offset transitions of a time-zone flattened into primitive arrays, so that the offset at an
+ * instant is a binary search instead of a {@link ZoneRules} lookup.
+ * <p>
+ * Tables cover the instants from 1900 to 2100 and fall back to the zone rules outside that window.
+ * They are built on first use and cached per zone. As most instants looked up are close to the
+ * present, the offset period holding the build time is checked before the binary search.
+ */
+final class ZoneOffsetTable {
+
+    // Gregorian 1900-01-01T00:00Z and 2100-01-01T00:00Z in epoch seconds
+    private static final long MIN_EPOCH_SECOND = -2208988800L;
+    private static final long MAX_EPOCH_SECOND = 4102444800L;
+
+    // Tables per zone; applications use few zones, so entries are never evicted
+    private static final ConcurrentMap<ZoneId, ZoneOffsetTable> CACHE = new ConcurrentHashMap<>();
+
+    private final ZoneRules rules;
+    // offsets[i] applies from transitions[i - 1] (inclusive) to transitions[i] (exclusive)
+    private final long[] transitions;
+    private final ZoneOffset[] offsets;
+    // Bounds and offset of the period holding the build time
+    private final long currentStart;
+    private final long currentEnd;
+    private final ZoneOffset currentOffset;
+
+    private ZoneOffsetTable(ZoneId zone) {
+        this.rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            this.transitions = new long[0];
+            this.offsets = new ZoneOffset[]{rules.getOffset(Instant.EPOCH)};
+            this.currentStart = Long.MIN_VALUE;
+            this.currentEnd = Long.MAX_VALUE;
+            this.currentOffset = offsets[0];
+            return;
+        }
+        long[] seconds = new long[64];
+        ZoneOffset[] after = new ZoneOffset[65];
+        Instant start = Instant.ofEpochSecond(MIN_EPOCH_SECOND);
+        after[0] = rules.getOffset(start);
+        int count = 0;
+        ZoneOffsetTransition transition = rules.nextTransition(start);
+        while (transition != null && transition.toEpochSecond() < MAX_EPOCH_SECOND) {
+            if (count == seconds.length) {
+                seconds = Arrays.copyOf(seconds, count * 2);
+                after = Arrays.copyOf(after, count * 2 + 1);
+            }
+            seconds[count] = transition.toEpochSecond();
+            after[++count] = transition.getOffsetAfter();
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        this.transitions = Arrays.copyOf(seconds, count);
+        this.offsets = Arrays.copyOf(after, count + 1);
+
+        int current = index(Math.floorDiv(System.currentTimeMillis(), 1000));
+        this.currentStart = current > 0 ? transitions[current - 1] : MIN_EPOCH_SECOND;
+        this.currentEnd = current < count ? transitions[current] : MAX_EPOCH_SECOND;
+        this.currentOffset = offsets[current];
+    }
+
+    /**
+     * Gets the table of a zone, building it on first use.
+     *
+     * @param zone the zone, not null
+     * @return the offset table of the zone
+     */
+    static ZoneOffsetTable of(ZoneId zone) {
+        ZoneOffsetTable table = CACHE.get(zone);
+        return table != null ? table : CACHE.computeIfAbsent(zone, ZoneOffsetTable::new);
+    }
+
+    /**
+     * Gets the offset in effect at an instant.
+     *
+     * @param epochSecond the instant in seconds from 1970-01-01T00:00Z
+     * @return the offset at the instant
+     */
+    ZoneOffset getOffset(long epochSecond) {
+        if (epochSecond >= currentStart && epochSecond < currentEnd) return currentOffset;
+        if (epochSecond < MIN_EPOCH_SECOND || epochSecond >= MAX_EPOCH_SECOND) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond));
+        }
+        return offsets[index(epochSecond)];
+    }
+
+    private int index(long epochSecond) {
+        int index = Arrays.binarySearch(transitions, epochSecond);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HolidayCalendar Tests")
+class HolidayCalendarTest {
+
+    @Test
+    @DisplayName("Should contain the fixed Iranian holidays")
+    void testIranianHolidays() {
+        HolidayCalendar calendar = HolidayCalendar.iran();
+        JalaliDate nowruz = JalaliDate.of(1403, 1, 1);
+        assertTrue(calendar.isHoliday(nowruz));
+        assertTrue(calendar.isHoliday(nowruz.toEpochDay()));
+        assertEquals("Nowruz", calendar.getHolidayName(nowruz));
+        assertEquals("Sizdah Bedar", calendar.getHolidayName(JalaliDate.of(1403, 1, 13).toEpochDay()));
+        assertFalse(calendar.isHoliday(JalaliDate.of(1403, 1, 5)));
+        assertNull(calendar.getHolidayName(JalaliDate.of(1403, 1, 5)));
+        assertEquals(10, calendar.countHolidays(1403));
+        assertEquals(JalaliDate.of(1403, 12, 29), calendar.getHolidays(1403).get(9));
+    }
+
+    @Test
+    @DisplayName("Should combine fixed, one-off, closure and custom sources")
+    void testSources() {
+        Map<JalaliDate, String> lunar = new LinkedHashMap<>();
+        lunar.put(JalaliDate.of(1403, 4, 25), "Tasua");
+        lunar.put(JalaliDate.of(1403, 4, 26), "Ashura");
+
+        HolidayCalendar calendar = HolidayCalendar.builder()
+                .fixed(2, 10, "Company Day")
+                .dates(lunar)
+                .closure(JalaliDate.between(JalaliDate.of(1403, 12, 28), JalaliDate.of(1404, 1, 2)), "Office closed")
+                .source((year, sink) -> sink.add(6, 31, "Summer Break " + year))
+                .build();
+
+        assertEquals("Company Day", calendar.getHolidayName(JalaliDate.of(1380, 2, 10)));
+        assertEquals("Ashura", calendar.getHolidayName(JalaliDate.of(1403, 4, 26)));
+        assertFalse(calendar.isHoliday(JalaliDate.of(1404, 4, 26)));
+        assertTrue(calendar.isHoliday(JalaliDate.of(1403, 12, 30)));
+        assertTrue(calendar.isHoliday(JalaliDate.of(1404, 1, 2)));
+        assertFalse(calendar.isHoliday(JalaliDate.of(1404, 1, 3)));
+        assertEquals("Summer Break 1410", calendar.getHolidayName(JalaliDate.of(1410, 6, 31)));
+
+        assertEquals(Arrays.asList(
+                JalaliDate.of(1404, 1, 1),
+                JalaliDate.of(1404, 1, 2),
+                JalaliDate.of(1404, 2, 10),
+                JalaliDate.of(1404, 6, 31)), calendar.getHolidays(1404));
+    }
+
+    @Test
+    @DisplayName("Should keep the first name when holidays coincide")
+    void testFirstNameWins() {
+        HolidayCalendar calendar = HolidayCalendar.builder()
+                .iranianHolidays()
+                .fixed(1, 1, "New Year")
+                .build();
+        assertEquals("Nowruz", calendar.getHolidayName(JalaliDate.of(1403, 1, 1)));
+        assertEquals(10, calendar.countHolidays(1403));
+    }
+
+    @Test
+    @DisplayName("Should skip recurring dates missing from common years")
+    void testEsfand30() {
+        HolidayCalendar calendar = HolidayCalendar.builder().fixed(12, 30, "Leap Day").build();
+        assertEquals(1, calendar.countHolidays(1403));
+        assertEquals(0, calendar.countHolidays(1402));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0, 1", "13, 1", "7, 31", "1, 32"})
+    @DisplayName("Should reject recurring dates that never exist")
+    void testInvalidFixed(int month, int day) {
+        assertThrows(IllegalArgumentException.class, () -> HolidayCalendar.builder().fixed(month, day, "Invalid"));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid days reported by a source")
+    void testInvalidSource() {
+        HolidayCalendar calendar = HolidayCalendar.builder()
+                .source((year, sink) -> sink.add(12, 30, "Leap Day"))
+                .build();
+        assertTrue(calendar.isHoliday(JalaliDate.of(1403, 12, 30)));
+        assertThrows(IllegalArgumentException.class, () -> calendar.isHoliday(JalaliDate.of(1402, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("Should drive JalaliDate holidays through the default calendar")
+    void testDefaultCalendar() {
+        JalaliDate date = JalaliDate.of(1403, 2, 1);
+        assertFalse(date.isHoliday());
+        try {
+            HolidayCalendar.setDefault(HolidayCalendar.builder().iranianHolidays().date(date, "Closed").build());
+            assertTrue(date.isHoliday());
+            assertEquals("Closed", date.getHolidayName());
+            List<JalaliDate> holidays = JalaliDate.getHolidaysInYear(1403);
+            assertTrue(holidays.contains(date));
+        } finally {
+            HolidayCalendar.setDefault(HolidayCalendar.iran());
+        }
+        assertFalse(date.isHoliday());
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JalaliChronoLocalDate Tests")
+class JalaliChronoLocalDateTest {
+
+    @Test
+    @DisplayName("Should read Jalali fields")
+    void testFields() {
+        JalaliChronoLocalDate date = JalaliChronoLocalDate.of(1403, 2, 10);
+        assertEquals(1403, date.get(ChronoField.YEAR));
+        assertEquals(2, date.get(ChronoField.MONTH_OF_YEAR));
+        assertEquals(10, date.get(ChronoField.DAY_OF_MONTH));
+        assertEquals(41, date.get(ChronoField.DAY_OF_YEAR));
+        assertEquals(1, date.get(ChronoField.ERA));
+        assertEquals(1403 * 12L + 1, date.getLong(ChronoField.PROLEPTIC_MONTH));
+        assertEquals(LocalDate.of(2024, 4, 29).getDayOfWeek().getValue(), date.get(ChronoField.DAY_OF_WEEK));
+        assertEquals(31, date.range(ChronoField.DAY_OF_MONTH).getMaximum());
+        assertEquals(366, date.range(ChronoField.DAY_OF_YEAR).getMaximum());
+        assertEquals("Jalali AP 1403-02-10", date.toString());
+        assertEquals(LocalDate.of(2024, 4, 29), LocalDate.from(date));
+    }
+
+    @Test
+    @DisplayName("Should apply temporal adjusters on Jalali months")
+    void testAdjusters() {
+        JalaliChronoLocalDate date = JalaliChronoLocalDate.of(1402, 12, 5);
+        assertEquals(JalaliChronoLocalDate.of(1402, 12, 29), date.with(TemporalAdjusters.lastDayOfMonth()));
+        assertEquals(JalaliChronoLocalDate.of(1403, 1, 1), date.with(TemporalAdjusters.firstDayOfNextYear()));
+        assertEquals(JalaliChronoLocalDate.of(1402, 12, 11), date.with(TemporalAdjusters.next(DayOfWeek.FRIDAY)));
+
+        assertEquals(JalaliDate.of(1403, 6, 31), JalaliDate.of(1403, 6, 10).with(TemporalAdjusters.lastDayOfMonth()));
+        assertEquals(JalaliDate.of(1403, 1, 1), JalaliDate.of(1403, 12, 30).with(TemporalAdjusters.firstDayOfYear()));
+        assertEquals(JalaliDate.of(1403, 1, 1), JalaliDate.of(1402, 1, 1).with(t -> LocalDate.of(2024, 3, 20)));
+    }
+
+    @Test
+    @DisplayName("Should set fields, clamping the day of month")
+    void testWith() {
+        JalaliChronoLocalDate date = JalaliChronoLocalDate.of(1403, 6, 31);
+        assertEquals(JalaliChronoLocalDate.of(1403, 7, 30), date.with(ChronoField.MONTH_OF_YEAR, 7));
+        assertEquals(JalaliChronoLocalDate.of(1402, 6, 31), date.with(ChronoField.YEAR, 1402));
+        assertEquals(JalaliChronoLocalDate.of(1403, 6, 1), date.with(ChronoField.DAY_OF_MONTH, 1));
+        assertEquals(JalaliChronoLocalDate.of(1403, 1, 1), date.with(ChronoField.DAY_OF_YEAR, 1));
+        assertThrows(DateTimeException.class, () -> date.with(ChronoField.MONTH_OF_YEAR, 13));
+        assertThrows(DateTimeException.class,
+                () -> JalaliChronoLocalDate.of(1403, 7, 1).with(ChronoField.DAY_OF_MONTH, 31));
+    }
+
+    @Test
+    @DisplayName("Should add and measure Jalali units")
+    void testUnits() {
+        JalaliChronoLocalDate date = JalaliChronoLocalDate.of(1403, 6, 31);
+        assertEquals(JalaliChronoLocalDate.of(1403, 7, 30), date.plus(1, ChronoUnit.MONTHS));
+        assertEquals(JalaliChronoLocalDate.of(1402, 12, 29), JalaliChronoLocalDate.of(1403, 12, 30).minus(1, ChronoUnit.YEARS));
+        assertEquals(JalaliChronoLocalDate.of(1403, 7, 7), date.plus(1, ChronoUnit.WEEKS));
+        assertEquals(JalaliChronoLocalDate.of(1403, 7, 7), date.plus(JalaliChronology.INSTANCE.period(0, 0, 7)));
+
+        JalaliChronoLocalDate start = JalaliChronoLocalDate.of(1403, 1, 31);
+        assertEquals(1, ChronoUnit.MONTHS.between(start, JalaliChronoLocalDate.of(1403, 2, 31)));
+        assertEquals(0, ChronoUnit.MONTHS.between(start, JalaliChronoLocalDate.of(1403, 2, 30)));
+        assertEquals(1, ChronoUnit.YEARS.between(start, JalaliChronoLocalDate.of(1404, 1, 31)));
+        assertEquals(366, ChronoUnit.DAYS.between(JalaliChronoLocalDate.of(1403, 1, 1), LocalDate.of(2025, 3, 21)));
+        assertThrows(DateTimeException.class, () -> JalaliChronoLocalDate.of(3178, 12, 1).plus(1, ChronoUnit.MONTHS));
+    }
+
+    @Test
+    @DisplayName("Should compute periods that add back to the end date")
+    void testPeriod() {
+        JalaliChronoLocalDate start = JalaliChronoLocalDate.of(1402, 11, 30);
+        JalaliChronoLocalDate end = JalaliChronoLocalDate.of(1404, 1, 15);
+        assertEquals(JalaliChronology.INSTANCE.period(1, 1, 15), start.until(end));
+        assertEquals(end, start.plus(start.until(end)));
+        assertEquals(start, end.plus(end.until(start)));
+    }
+
+    @Test
+    @DisplayName("Should interoperate with formatters and date-times")
+    void testInterop() {
+        JalaliDate date = JalaliDate.of(1403, 1, 1);
+        assertEquals("1403-01-01", date.format(DateTimeFormatter.ofPattern("uuuu-MM-dd")));
+        // A formatter with its own chronology converts to it
+        assertEquals("2024-03-20", date.format(DateTimeFormatter.ISO_LOCAL_DATE));
+        assertEquals("01/01/1403", date.format(DateTimeFormatter.ofPattern("dd/MM/yyyy")));
+        assertEquals(date, date.toChronoLocalDate().toJalaliDate());
+        assertEquals(JalaliChronoLocalDate.of(date), JalaliChronoLocalDate.from(LocalDate.of(2024, 3, 20)));
+        assertEquals(date.atTime(LocalTime.NOON),
+                LocalDate.from(date.toChronoLocalDate().atTime(LocalTime.NOON)).atTime(LocalTime.NOON));
+    }
+
+    @Test
+    @DisplayName("Should serialize and deserialize")
+    void testSerialization() throws Exception {
+        JalaliChronoLocalDate date = JalaliChronoLocalDate.of(1403, 5, 20);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(date);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            JalaliChronoLocalDate read = (JalaliChronoLocalDate) in.readObject();
+            assertEquals(date, read);
+            assertEquals(date.toEpochDay(), read.toEpochDay());
+        }
+    }
+}
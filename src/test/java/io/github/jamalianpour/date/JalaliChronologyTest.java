@@ -0,0 +1,106 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.chrono.Chronology;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JalaliChronology Tests")
+class JalaliChronologyTest {
+
+    private final JalaliChronology chronology = JalaliChronology.INSTANCE;
+
+    @Test
+    @DisplayName("Should create dates from fields and epoch days")
+    void testFactories() {
+        assertEquals(JalaliDate.of(1403, 1, 1), chronology.date(1403, 1, 1).toJalaliDate());
+        assertEquals(JalaliDate.of(1403, 12, 30), chronology.dateYearDay(1403, 366).toJalaliDate());
+        assertEquals(JalaliDate.of(1403, 1, 1), chronology.date(JalaliEra.AP, 1403, 1, 1).toJalaliDate());
+        assertEquals(JalaliDate.of(1403, 1, 1), chronology.date(LocalDate.of(2024, 3, 20)).toJalaliDate());
+        assertEquals(LocalDate.of(2024, 3, 20).toEpochDay(), chronology.dateEpochDay(19802).toEpochDay());
+
+        assertThrows(DateTimeException.class, () -> chronology.date(1402, 12, 30));
+        assertThrows(DateTimeException.class, () -> chronology.date(1403, 13, 1));
+        assertThrows(DateTimeException.class, () -> chronology.date(3179, 1, 1));
+        assertThrows(DateTimeException.class, () -> chronology.dateYearDay(1402, 366));
+        assertThrows(DateTimeException.class, () -> chronology.dateEpochDay(Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should report calendar rules")
+    void testRules() {
+        assertTrue(chronology.isLeapYear(1403));
+        assertFalse(chronology.isLeapYear(1402));
+        assertFalse(chronology.isLeapYear(0));
+        assertEquals(JalaliEra.AP, chronology.eraOf(1));
+        assertEquals(1, chronology.eras().size());
+        assertThrows(DateTimeException.class, () -> chronology.eraOf(0));
+        assertEquals(29, chronology.range(ChronoField.DAY_OF_MONTH).getSmallestMaximum());
+        assertEquals(31, chronology.range(ChronoField.DAY_OF_MONTH).getMaximum());
+        assertEquals(3178, chronology.range(ChronoField.YEAR).getMaximum());
+    }
+
+    @Test
+    @DisplayName("Should be found by ID, calendar type and locale")
+    void testLookup() {
+        assertEquals(chronology, Chronology.of("Jalali"));
+        assertEquals(chronology, Chronology.of("persian"));
+        assertEquals(chronology, Chronology.ofLocale(Locale.forLanguageTag("fa-IR-u-ca-persian")));
+    }
+
+    @Test
+    @DisplayName("Should format and parse LocalDate values in the Jalali calendar")
+    void testFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy/MM/dd").withChronology(chronology);
+        assertEquals("1403/01/01", formatter.format(LocalDate.of(2024, 3, 20)));
+        assertEquals(LocalDate.of(2024, 3, 20), LocalDate.parse("1403/01/01", formatter));
+        assertEquals(JalaliDate.of(1403, 1, 1), formatter.parse("1403/01/01", JalaliChronoLocalDate::from).toJalaliDate());
+
+        // Smart resolution clamps the day, strict resolution rejects it
+        assertEquals(LocalDate.of(2024, 3, 19), LocalDate.parse("1402/12/30", formatter));
+        DateTimeFormatter strict = DateTimeFormatter.ofPattern("uuuu/MM/dd")
+                .withChronology(chronology).withResolverStyle(ResolverStyle.STRICT);
+        assertThrows(DateTimeException.class, () -> LocalDate.parse("1402/12/30", strict));
+    }
+
+    @Test
+    @DisplayName("Should supply month names for text formatters")
+    void testMonthNames() {
+        DateTimeFormatter formatter = new DateTimeFormatterBuilder()
+                .appendValue(ChronoField.DAY_OF_MONTH)
+                .appendLiteral(' ')
+                .appendText(ChronoField.MONTH_OF_YEAR, JalaliChronology.monthNames(false))
+                .appendLiteral(' ')
+                .appendValue(ChronoField.YEAR)
+                .toFormatter()
+                .withChronology(chronology);
+        assertEquals("1 Farvardin 1403", formatter.format(LocalDate.of(2024, 3, 20)));
+        assertEquals(LocalDate.of(2025, 3, 20), LocalDate.parse("30 Esfand 1403", formatter));
+        assertEquals("فروردین", JalaliChronology.monthNames(true).get(1L));
+    }
+
+    @Test
+    @DisplayName("Should serialize to the singleton")
+    void testSerialization() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(chronology);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(chronology, in.readObject());
+        }
+    }
+}
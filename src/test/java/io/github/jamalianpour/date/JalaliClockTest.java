@@ -0,0 +1,97 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JalaliClock Tests")
+class JalaliClockTest {
+
+    private static final ZoneId TEHRAN = ZoneId.of("Asia/Tehran");
+
+    @Test
+    @DisplayName("Should follow virtual time across days and offset transitions")
+    void testVirtualTime() {
+        // Tehran still moved its clocks at midnight in 1400, and New York moves them at 02:00
+        for (ZoneId zone : new ZoneId[]{TEHRAN, ZoneId.of("America/New_York"), ZoneOffset.ofHours(-3)}) {
+            Instant start = Instant.parse("2021-01-01T00:00:00Z");
+            JalaliClock clock = JalaliClock.virtual(start, zone);
+            assertTrue(clock.isVirtual());
+            for (Instant instant = start; instant.isBefore(Instant.parse("2022-01-01T00:00:00Z"));
+                 instant = instant.plus(Duration.ofMinutes(17))) {
+                clock.setInstant(instant);
+                JalaliDate expected = JalaliDate.fromGregorian(LocalDate.ofInstant(instant, zone));
+                assertEquals(expected, clock.today(), instant + " in " + zone);
+            }
+        }
+
+        // Time can also move backwards
+        JalaliClock clock = JalaliClock.virtual(Instant.parse("2024-03-19T20:29:59Z"), TEHRAN);
+        assertEquals(JalaliDate.of(1402, 12, 29), clock.today());
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(JalaliDate.of(1403, 1, 1), clock.today());
+        assertEquals(JalaliDate.of(1403, 1, 1).toEpochDay(), clock.todayEpochDay());
+        clock.advance(Duration.ofMillis(-1));
+        assertEquals(JalaliDate.of(1402, 12, 29), clock.today());
+    }
+
+    @Test
+    @DisplayName("Should share virtual time between zones")
+    void testZones() {
+        JalaliClock tehran = JalaliClock.virtual(Instant.parse("2024-03-19T21:00:00Z"), TEHRAN);
+        JalaliClock utc = tehran.withZone(ZoneOffset.UTC);
+        assertSame(tehran, tehran.withZone(TEHRAN));
+        assertTrue(utc.isVirtual());
+        assertEquals(JalaliDate.of(1403, 1, 1), tehran.today());
+        assertEquals(JalaliDate.of(1402, 12, 29), utc.today());
+
+        utc.advance(Duration.ofHours(3));
+        assertEquals(JalaliDate.of(1403, 1, 1), utc.today());
+        assertEquals(Instant.parse("2024-03-20T00:00:00Z").toEpochMilli(), tehran.millis());
+        assertEquals(JalaliDateTime.of(1403, 1, 1, 3, 30), tehran.now());
+        assertEquals(TEHRAN, tehran.nowZoned().getZone());
+    }
+
+    @Test
+    @DisplayName("Should wrap injected and system clocks")
+    void testClocks() {
+        Clock fixed = Clock.fixed(Instant.parse("2024-08-02T11:00:00Z"), TEHRAN);
+        JalaliClock clock = JalaliClock.of(fixed);
+        assertSame(fixed, clock.getClock());
+        assertEquals(TEHRAN, clock.getZone());
+        assertEquals(JalaliDate.of(1403, 5, 12), clock.today());
+        assertEquals(JalaliDate.of(1403, 5, 12), clock.withZone(ZoneOffset.UTC).today());
+        assertFalse(clock.isVirtual());
+        assertThrows(UnsupportedOperationException.class, () -> clock.advance(Duration.ofDays(1)));
+
+        assertSame(JalaliClock.system(TEHRAN), JalaliClock.system(ZoneId.of("Asia/Tehran")));
+        assertSame(JalaliClock.system(TEHRAN), JalaliClock.system(ZoneOffset.UTC).withZone(TEHRAN));
+        JalaliDate today = JalaliDate.fromGregorian(LocalDate.now(TEHRAN));
+        JalaliDate cached = JalaliClock.system(TEHRAN).today();
+        assertTrue(cached.equals(today) || cached.equals(today.plusDays(1)));
+        assertTrue(JalaliDate.now(TEHRAN).compareTo(today) >= 0);
+    }
+
+    @Test
+    @DisplayName("Should keep the system clocks of zones with colliding hash codes")
+    void testCollidingZones() {
+        ZoneId utc = ZoneId.of("UTC");
+        ZoneId dubai = ZoneId.of("Asia/Dubai");
+        // Both hash to the same slot of a 16-entry direct-mapped cache
+        assertEquals(Math.floorMod(utc.hashCode(), 16), Math.floorMod(dubai.hashCode(), 16));
+        JalaliClock utcClock = JalaliClock.system(utc);
+        JalaliClock dubaiClock = JalaliClock.system(dubai);
+        for (int i = 0; i < 4; i++) {
+            assertSame(utcClock, JalaliClock.system(utc));
+            assertSame(dubaiClock, JalaliClock.system(dubai));
+        }
+    }
+}
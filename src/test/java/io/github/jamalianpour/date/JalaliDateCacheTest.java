@@ -0,0 +1,80 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JalaliDateCache Tests")
+class JalaliDateCacheTest {
+
+    @Test
+    @DisplayName("Should return the same instance for repeated dates inside the window")
+    void testCanonicalInstances() {
+        JalaliDate date = JalaliDate.of(1403, 5, 12);
+
+        assertSame(date, JalaliDate.of(1403, 5, 12));
+        assertSame(date, JalaliDate.ofEpochDay(date.toEpochDay()));
+        assertSame(date, JalaliDate.fromGregorian(date.toGregorian()));
+        assertSame(date, JalaliDate.of(1403, 5, 11).plusDays(1));
+        assertSame(date, JalaliDate.parse("1403-05-12"));
+        assertSame(date, JalaliDate.parse("12/05/1403"));
+    }
+
+    @Test
+    @DisplayName("Should not cache dates outside the window")
+    void testOutsideWindow() {
+        JalaliDate date = JalaliDate.of(1200, 1, 1);
+
+        assertNotSame(date, JalaliDate.of(1200, 1, 1));
+        assertEquals(date, JalaliDate.of(1200, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Should count hits and misses")
+    void testStatistics() {
+        JalaliDateCache.configure(1410, 1410);
+        try {
+            JalaliDateCache.resetStatistics();
+            JalaliDate.of(1410, 2, 3);
+            JalaliDate.of(1410, 2, 3);
+            JalaliDate.of(1410, 2, 3);
+            JalaliDate.of(1411, 2, 3);
+
+            assertEquals(1, JalaliDateCache.getMisses());
+            assertEquals(2, JalaliDateCache.getHits());
+        } finally {
+            JalaliDateCache.configure(JalaliDateCache.DEFAULT_FROM_YEAR, JalaliDateCache.DEFAULT_TO_YEAR);
+        }
+    }
+
+    @Test
+    @DisplayName("Should allow reconfiguring and disabling the window")
+    void testConfigure() {
+        try {
+            JalaliDateCache.configure(1, 1);
+            assertEquals(1, JalaliDateCache.getFromYear());
+            assertEquals(1, JalaliDateCache.getToYear());
+            assertSame(JalaliDate.of(1, 12, 29), JalaliDate.of(1, 12, 29));
+            assertNotSame(JalaliDate.of(1400, 1, 1), JalaliDate.of(1400, 1, 1));
+
+            JalaliDateCache.disable();
+            assertFalse(JalaliDateCache.isEnabled());
+            assertNotSame(JalaliDate.of(1, 12, 29), JalaliDate.of(1, 12, 29));
+            assertEquals(LocalDate.of(2021, 3, 21), JalaliDate.of(1400, 1, 1).toGregorian());
+        } finally {
+            JalaliDateCache.configure(JalaliDateCache.DEFAULT_FROM_YEAR, JalaliDateCache.DEFAULT_TO_YEAR);
+        }
+        assertTrue(JalaliDateCache.isEnabled());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid windows")
+    void testInvalidWindow() {
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateCache.configure(0, 1400));
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateCache.configure(1400, 3179));
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateCache.configure(1500, 1400));
+    }
+}
@@ -0,0 +1,123 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JalaliDateFormatter Tests")
+class JalaliDateFormatterTest {
+
+    private final JalaliDate date = JalaliDate.of(1403, 5, 7);
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "yyyy/MM/dd | 1403/05/07",
+            "y-M-d | 1403-5-7",
+            "dd/MM/yy | 07/05/03",
+            "EEEE d MMMM yyyy | Yekshanbe 7 Mordad 1403",
+            "EEE, d MMM | Yek, 7 Mor"
+    })
+    @DisplayName("Should format patterns with English names")
+    void testPatterns(String pattern, String expected) {
+        assertEquals(expected, JalaliDateFormatter.ofPattern(pattern).format(date));
+    }
+
+    @Test
+    @DisplayName("Should print quoted literals")
+    void testQuotedLiterals() {
+        assertEquals("1403T05", JalaliDateFormatter.ofPattern("yyyy'T'MM").format(date));
+        assertEquals("Day '7' of 5", JalaliDateFormatter.ofPattern("'Day '''d''' of' M").format(date));
+        assertEquals("it's 1403", JalaliDateFormatter.ofPattern("'it''s' y").format(date));
+    }
+
+    @Test
+    @DisplayName("Should format with Persian digits and names")
+    void testPersianOptions() {
+        JalaliDateFormatter formatter = JalaliDateFormatter.ofPattern("EEEE d MMMM yyyy")
+                .withPersianNames(true)
+                .withPersianDigits(true);
+        assertTrue(formatter.isPersianNames());
+        assertTrue(formatter.isPersianDigits());
+        assertEquals("یکشنبه ۷ مرداد ۱۴۰۳", formatter.format(date));
+        assertEquals("۱۴۰۳/۰۵/۰۷", JalaliDateFormatter.ofPattern("yyyy/MM/dd").withPersianDigits(true).format(date));
+    }
+
+    @Test
+    @DisplayName("Should pad short years to the requested width")
+    void testYearPadding() {
+        JalaliDate early = JalaliDate.of(9, 1, 1);
+        assertEquals("0009", JalaliDateFormatter.ofPattern("yyyy").format(early));
+        assertEquals("9", JalaliDateFormatter.ofPattern("y").format(early));
+        assertEquals("09", JalaliDateFormatter.ofPattern("yy").format(early));
+    }
+
+    @Test
+    @DisplayName("Should append to a builder and an appendable")
+    void testFormatTo() {
+        JalaliDateFormatter formatter = JalaliDateFormatter.ofPattern("yyyy-MM-dd");
+        StringBuilder sb = new StringBuilder("date=");
+        assertSame(sb, formatter.formatTo(date, sb));
+        assertEquals("date=1403-05-07", sb.toString());
+
+        Appendable failing = new Writer() {
+            @Override
+            public void write(char[] buf, int off, int len) throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        assertThrows(UncheckedIOException.class, () -> formatter.formatTo(date, failing));
+    }
+
+    @Test
+    @DisplayName("Should match the fixed format styles")
+    void testFixedStyles() {
+        JalaliDate nowruz = JalaliDate.of(1400, 1, 1);
+        assertEquals("Yekshanbe 1 Farvardin 1400", nowruz.format(JalaliDate.DateFormat.FULL, Locale.ENGLISH));
+        assertEquals("1 Far 1400", nowruz.format(JalaliDate.DateFormat.MEDIUM, Locale.ENGLISH));
+        assertEquals("01/01/00", nowruz.format(JalaliDate.DateFormat.SHORT));
+        assertEquals("1 فرو 1400", nowruz.format(JalaliDate.DateFormat.MEDIUM));
+        assertEquals("1 دی 1400", JalaliDate.of(1400, 10, 1).format(JalaliDate.DateFormat.MEDIUM));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"fa-IR", "ar-EG", "en-US"})
+    @DisplayName("Should print style digits of the default format locale")
+    void testFixedStylesDefaultLocaleDigits(String tag) {
+        Locale saved = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale.setDefault(Locale.Category.FORMAT, Locale.forLanguageTag(tag));
+            JalaliDate date = JalaliDate.of(1403, 5, 12);
+            assertEquals(String.format("%02d/%02d/%04d", 12, 5, 1403), date.format(JalaliDate.DateFormat.PERSIAN));
+            assertEquals(String.format("%02d/%02d/%02d", 12, 5, 3), date.format(JalaliDate.DateFormat.SHORT));
+            assertEquals(String.format("%d Mordad %d", 12, 1403), date.format(JalaliDate.DateFormat.LONG, Locale.ENGLISH));
+            assertEquals("1403-05-12", date.format(JalaliDate.DateFormat.ISO));
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, saved);
+        }
+        assertEquals("12/05/1403", JalaliDate.of(1403, 5, 12).format(JalaliDate.DateFormat.PERSIAN));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"yyyy-MM-dd HH", "ddd", "'open"})
+    @DisplayName("Should reject invalid patterns")
+    void testInvalidPatterns(String pattern) {
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateFormatter.ofPattern(pattern));
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.jamalianpour.date;
+
+import io.github.jamalianpour.date.JalaliDate.JalaliDateRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JalaliDateRangeIndex Tests")
+class JalaliDateRangeIndexTest {
+
+    private static JalaliDateRange range(int y1, int m1, int d1, int y2, int m2, int d2) {
+        return JalaliDate.between(JalaliDate.of(y1, m1, d1), JalaliDate.of(y2, m2, d2));
+    }
+
+    @Test
+    @DisplayName("Should find ranges containing a date")
+    void testStabbingQuery() {
+        JalaliDateRange fiscalYear = range(1403, 1, 1, 1403, 12, 30);
+        JalaliDateRange summer = range(1403, 4, 1, 1403, 6, 31);
+        JalaliDateRange promotion = range(1403, 5, 10, 1403, 5, 20);
+        JalaliDateRange nextYear = range(1404, 1, 1, 1404, 12, 29);
+        JalaliDateRangeIndex index = JalaliDateRangeIndex.of(List.of(nextYear, promotion, fiscalYear, summer));
+
+        assertEquals(4, index.size());
+        assertEquals(List.of(fiscalYear, summer, promotion), index.containing(JalaliDate.of(1403, 5, 12)));
+        assertArrayEquals(new int[]{2, 3, 1}, index.indicesContaining(JalaliDate.of(1403, 5, 12).toEpochDay()));
+        assertEquals(List.of(fiscalYear), index.containing(JalaliDate.of(1403, 1, 1)));
+        assertTrue(index.containing(JalaliDate.of(1402, 12, 29)).isEmpty());
+        assertFalse(index.anyContaining(JalaliDate.of(1405, 1, 1).toEpochDay()));
+        assertTrue(index.anyContaining(JalaliDate.of(1404, 7, 7).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Should find ranges overlapping a range")
+    void testOverlapQuery() {
+        JalaliDateRange a = range(1403, 1, 1, 1403, 1, 31);
+        JalaliDateRange b = range(1403, 2, 1, 1403, 2, 31);
+        JalaliDateRange c = range(1403, 3, 1, 1403, 3, 31);
+        JalaliDateRangeIndex index = JalaliDateRangeIndex.of(List.of(a, b, c));
+
+        assertEquals(List.of(a, b), index.overlapping(range(1403, 1, 31, 1403, 2, 1)));
+        assertEquals(List.of(b), index.overlapping(range(1403, 2, 10, 1403, 2, 12)));
+        assertTrue(index.overlapping(range(1404, 1, 1, 1404, 1, 2)).isEmpty());
+        assertTrue(JalaliDateRangeIndex.of(List.of()).containing(JalaliDate.of(1403, 1, 1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should match a linear scan on random ranges")
+    void testAgainstLinearScan() {
+        Random random = new Random(42);
+        long base = JalaliDate.of(1400, 1, 1).toEpochDay();
+        List<JalaliDateRange> ranges = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long start = base + random.nextInt(3000);
+            long length = random.nextInt(i % 10 == 0 ? 500 : 20);
+            ranges.add(JalaliDate.between(JalaliDate.ofEpochDay(start), JalaliDate.ofEpochDay(start + length)));
+        }
+        JalaliDateRangeIndex index = JalaliDateRangeIndex.of(ranges);
+
+        for (int q = 0; q < 300; q++) {
+            long from = base - 50 + random.nextInt(3600);
+            long to = from + random.nextInt(30);
+            long expected = ranges.stream()
+                    .filter(r -> r.getStart().toEpochDay() <= to && r.getEnd().toEpochDay() >= from)
+                    .count();
+            int[] found = index.indicesOverlapping(from, to);
+            assertEquals(expected, found.length);
+            for (int position : found) {
+                assertTrue(ranges.get(position).getStart().toEpochDay() <= to);
+                assertTrue(ranges.get(position).getEnd().toEpochDay() >= from);
+            }
+            boolean anyAtFrom = ranges.stream().anyMatch(r -> r.contains(from));
+            assertEquals(anyAtFrom, index.anyContaining(from));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject null input")
+    void testNulls() {
+        assertThrows(NullPointerException.class, () -> JalaliDateRangeIndex.of(null));
+        List<JalaliDateRange> withNull = new ArrayList<>();
+        withNull.add(null);
+        assertThrows(NullPointerException.class, () -> JalaliDateRangeIndex.of(withNull));
+    }
+}
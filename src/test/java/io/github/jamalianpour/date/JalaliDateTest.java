@@ -10,9 +10,19 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.ParsePosition;
 import java.time.*;
+import java.time.temporal.WeekFields;
 import java.util.List;
 import java.util.Locale;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -77,6 +87,8 @@ class JalaliDateTest {
             assertThrows(IllegalArgumentException.class, () -> JalaliDate.ofYearDay(1400, 0));
             assertThrows(IllegalArgumentException.class, () -> JalaliDate.ofYearDay(1400, 366)); // Non-leap year
             assertThrows(IllegalArgumentException.class, () -> JalaliDate.ofYearDay(1399, 367)); // Leap year boundary
+            assertThrows(IllegalArgumentException.class, () -> JalaliDate.ofYearDay(0, 1));
+            assertThrows(IllegalArgumentException.class, () -> JalaliDate.ofYearDay(3179, 1));
         }
 
         @Test
@@ -145,11 +157,71 @@ class JalaliDateTest {
             assertThrows(IllegalArgumentException.class, () -> JalaliDate.parse(invalidDate));
         }
 
+        @ParameterizedTest
+        @CsvSource({
+                "۱۴۰۳-۰۵-۱۲, 1403, 5, 12",
+                "١٤٠٣/٠٥/١٢, 1403, 5, 12",
+                "1403/5-12, 1403, 5, 12",
+                "۱۲/۰۵/۱۴۰۳, 1403, 5, 12",
+                "12-05-1403, 1403, 5, 12",
+                "' 1403/05/12 ', 1403, 5, 12",
+                "12/5/03, 1303, 5, 12"
+        })
+        @DisplayName("Should parse Persian and Arabic digits and either separator")
+        void testParseDigitsAndSeparators(String dateStr, int expectedYear, int expectedMonth, int expectedDay) {
+            assertEquals(JalaliDate.of(expectedYear, expectedMonth, expectedDay), JalaliDate.parse(dateStr));
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"14030-5-12", "1403-5-123", "1403--5-12", "1403-5", "1403-05-12x", "1/2/12345", "۱۴۰۳-۰۵"})
+        @DisplayName("Should reject malformed dates")
+        void testParseMalformed(String invalidDate) {
+            assertThrows(IllegalArgumentException.class, () -> JalaliDate.parse(invalidDate));
+        }
+
         @Test
         @DisplayName("Should throw exception for null date string")
         void testNullParsing() {
             assertThrows(IllegalArgumentException.class, () -> JalaliDate.parse(null));
         }
+
+        @Test
+        @DisplayName("Should parse a slice without throwing")
+        void testTryParse() {
+            String line = "id=7;date=1403/05/12;ok";
+            assertEquals(14030512, JalaliDate.tryParse(line, 10, 20));
+            assertEquals(14030512, JalaliDate.tryParse(" 12/05/1403 ", 0, 12));
+            assertEquals(14030512, JalaliDate.tryParse("1403-05-12", 0, 10, JalaliDate.DateFormat.ISO));
+            assertEquals(JalaliDates.INVALID, JalaliDate.tryParse(line, 9, 20));
+            assertEquals(JalaliDates.INVALID, JalaliDate.tryParse(line, 10, 21));
+            assertEquals(JalaliDates.INVALID, JalaliDate.tryParse("1403-13-01", 0, 10));
+            assertEquals(JalaliDates.INVALID, JalaliDate.tryParse("1402-12-30", 0, 10));
+            assertEquals(JalaliDates.INVALID, JalaliDate.tryParse("   ", 0, 3));
+            assertThrows(IndexOutOfBoundsException.class, () -> JalaliDate.tryParse("1403-05-12", 0, 11));
+        }
+
+        @Test
+        @DisplayName("Should parse dates embedded in a larger text")
+        void testParseWithPosition() {
+            String text = "from 1403/05/12 to 1403/05/20.";
+            ParsePosition position = new ParsePosition(5);
+            assertEquals(JalaliDate.of(1403, 5, 12), JalaliDate.parse(text, position));
+            assertEquals(15, position.getIndex());
+            assertEquals(-1, position.getErrorIndex());
+
+            position.setIndex(19);
+            assertEquals(JalaliDate.of(1403, 5, 20), JalaliDate.parse(text, position));
+            assertEquals(29, position.getIndex());
+
+            position.setIndex(0);
+            assertNull(JalaliDate.parse(text, position));
+            assertEquals(0, position.getIndex());
+            assertEquals(0, position.getErrorIndex());
+
+            ParsePosition invalid = new ParsePosition(0);
+            assertNull(JalaliDate.parse("1402-12-30", invalid, JalaliDate.DateFormat.ISO));
+            assertEquals(0, invalid.getErrorIndex());
+        }
     }
 
     @Nested
@@ -213,6 +285,80 @@ class JalaliDateTest {
             JalaliDate fromEpoch = JalaliDate.ofEpochDay(epochDay);
             assertEquals(jalali, fromEpoch);
         }
+
+        @Test
+        @DisplayName("Should compute epoch day directly from Jalali fields")
+        void testEpochDayMatchesGregorian() {
+            assertEquals(LocalDate.of(2021, 3, 21).toEpochDay(), JalaliDate.of(1400, 1, 1).toEpochDay());
+            assertEquals(0, JalaliDate.of(1348, 10, 11).toEpochDay()); // 1970-01-01
+            assertEquals(JalaliDate.of(1348, 10, 10), JalaliDate.ofEpochDay(-1));
+            assertEquals(DayOfWeek.THURSDAY, JalaliDate.ofEpochDay(0).dayOfWeek());
+            assertEquals(5, JalaliDate.ofEpochDay(0).getDayOfWeek());
+
+            LocalDate start = LocalDate.of(2019, 1, 1);
+            for (int i = 0; i < 2000; i++) {
+                LocalDate g = start.plusDays(i);
+                JalaliDate j = JalaliDate.fromGregorian(g);
+                assertEquals(g, j.toGregorian());
+                assertEquals(g.getDayOfWeek(), j.dayOfWeek());
+            }
+        }
+
+        @Test
+        @DisplayName("Should convert epoch day columns in bulk")
+        void testBulkEpochDayConversion() {
+            long[] epochDays = new long[1000];
+            long start = JalaliDate.of(1399, 11, 1).toEpochDay();
+            for (int i = 0; i < epochDays.length; i++) {
+                epochDays[i] = start + i;
+            }
+
+            int[] packed = new int[1001];
+            JalaliDate.ofEpochDays(epochDays, 0, packed, 1, epochDays.length);
+            for (int i = 0; i < epochDays.length; i++) {
+                assertEquals(JalaliDates.pack(JalaliDate.ofEpochDay(epochDays[i])), packed[i + 1]);
+            }
+
+            long[] back = new long[1000];
+            JalaliDate.toEpochDays(packed, 1, back, 0, back.length);
+            assertArrayEquals(epochDays, back);
+
+            long[] invalid = {0, Long.MAX_VALUE};
+            assertThrows(IllegalArgumentException.class,
+                    () -> JalaliDate.ofEpochDays(invalid, 0, new int[2], 0, 2));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> JalaliDate.ofEpochDays(epochDays, 1, packed, 0, epochDays.length));
+        }
+
+        @Test
+        @DisplayName("Should reject epoch days outside the supported year range")
+        void testEpochDayOutOfRange() {
+            long first = JalaliDate.of(1, 1, 1).toEpochDay();
+            long last = JalaliDate.of(3178, 12, 1).lastDayOfMonth().toEpochDay();
+            assertEquals(JalaliDate.of(1, 1, 1), JalaliDate.ofEpochDay(first));
+            assertThrows(IllegalArgumentException.class, () -> JalaliDate.ofEpochDay(first - 1));
+            assertThrows(IllegalArgumentException.class, () -> JalaliDate.ofEpochDay(last + 1));
+            assertThrows(IllegalArgumentException.class, () -> JalaliDate.ofEpochDay(Long.MAX_VALUE));
+        }
+
+        @ParameterizedTest
+        @CsvSource({
+                "1, 622, 3, 22",
+                "1354, 1975, 3, 21",
+                "1403, 2024, 3, 20",
+                "1404, 2025, 3, 21",
+                "3177, 3798, 3, 20"
+        })
+        @DisplayName("Should map Nowruz to the correct Gregorian date across the year table")
+        void testNowruzAcrossYearTable(int jy, int gy, int gm, int gd) {
+            assertEquals(LocalDate.of(gy, gm, gd), JalaliDate.of(jy, 1, 1).toGregorian());
+            assertEquals(JalaliDate.of(jy, 1, 1), JalaliDate.fromGregorian(gy, gm, gd));
+            if (jy > 1) {
+                JalaliDate lastOfPrevious = JalaliDate.fromGregorian(gy, gm, gd - 1);
+                assertEquals(jy - 1, lastOfPrevious.getYear());
+                assertEquals(JalaliDate.isLeapJalaliYear(jy - 1) ? 30 : 29, lastOfPrevious.getDay());
+            }
+        }
     }
 
     @Nested
@@ -296,6 +442,41 @@ class JalaliDateTest {
             assertSame(date, date.plusDays(0));
             assertSame(date, date.plusMonths(0));
             assertSame(date, date.plusYears(0));
+            assertSame(date, date.plus(Period.ZERO));
+        }
+
+        @Test
+        @DisplayName("Should resolve missing days with the day-of-month policy")
+        void testDayOfMonthPolicy() {
+            JalaliDate endOfShahrivar = JalaliDate.of(1403, 6, 31);
+            assertEquals(JalaliDate.of(1403, 7, 30), endOfShahrivar.plusMonths(1, JalaliDate.DayOfMonthPolicy.CLAMP));
+            assertEquals(JalaliDate.of(1403, 8, 1), endOfShahrivar.plusMonths(1, JalaliDate.DayOfMonthPolicy.OVERFLOW));
+            assertThrows(IllegalArgumentException.class,
+                    () -> endOfShahrivar.plusMonths(1, JalaliDate.DayOfMonthPolicy.STRICT));
+            assertEquals(JalaliDate.of(1403, 5, 31), endOfShahrivar.plusMonths(-1, JalaliDate.DayOfMonthPolicy.STRICT));
+
+            JalaliDate leapDay = JalaliDate.of(1403, 12, 30);
+            assertEquals(JalaliDate.of(1404, 12, 29), leapDay.plusYears(1, JalaliDate.DayOfMonthPolicy.CLAMP));
+            assertEquals(JalaliDate.of(1405, 1, 1), leapDay.plusYears(1, JalaliDate.DayOfMonthPolicy.OVERFLOW));
+            assertEquals(JalaliDate.of(1404, 12, 29), leapDay.withYear(1404));
+            assertThrows(IllegalArgumentException.class, () -> leapDay.withYear(1404, JalaliDate.DayOfMonthPolicy.STRICT));
+
+            assertEquals(JalaliDate.of(1403, 12, 30), endOfShahrivar.withMonth(12));
+            assertEquals(JalaliDate.of(1404, 1, 1), endOfShahrivar.withMonth(12, JalaliDate.DayOfMonthPolicy.OVERFLOW));
+            assertThrows(IllegalArgumentException.class, () -> endOfShahrivar.withMonth(13));
+        }
+
+        @Test
+        @DisplayName("Should add periods in years, months then days")
+        void testPlusPeriod() {
+            JalaliDate leapDay = JalaliDate.of(1403, 12, 30);
+            // The years step clamps to 1404/12/29 before the months step
+            assertEquals(JalaliDate.of(1405, 1, 29), leapDay.plus(Period.of(1, 1, 0)));
+            assertEquals(JalaliDate.of(1405, 2, 3), leapDay.plus(Period.of(1, 1, 5)));
+            assertEquals(JalaliDate.of(1405, 2, 1), leapDay.plus(Period.of(1, 0, 0), JalaliDate.DayOfMonthPolicy.OVERFLOW)
+                    .plusMonths(1));
+            assertEquals(leapDay, JalaliDate.of(1404, 12, 29).minus(Period.of(1, 0, -1)));
+            assertThrows(IllegalArgumentException.class, () -> leapDay.plus(Period.ofYears(2000)));
         }
     }
 
@@ -438,6 +619,41 @@ class JalaliDateTest {
             assertEquals(4, JalaliDate.of(1400, 10, 1).getQuarter());
         }
 
+        @Test
+        @DisplayName("Should return first and last day of quarter")
+        void testQuarterBounds() {
+            assertEquals(JalaliDate.of(1403, 1, 1), JalaliDate.of(1403, 2, 15).firstDayOfQuarter());
+            assertEquals(JalaliDate.of(1403, 3, 31), JalaliDate.of(1403, 2, 15).lastDayOfQuarter());
+            assertEquals(JalaliDate.of(1403, 9, 30), JalaliDate.of(1403, 7, 1).lastDayOfQuarter());
+            assertEquals(JalaliDate.of(1403, 12, 30), JalaliDate.of(1403, 10, 1).lastDayOfQuarter());
+            assertEquals(JalaliDate.of(1402, 12, 29), JalaliDate.of(1402, 11, 5).lastDayOfQuarter());
+            assertEquals(JalaliDate.of(1402, 10, 1), JalaliDate.of(1402, 12, 29).firstDayOfQuarter());
+        }
+
+        @Test
+        @DisplayName("Should return week of year")
+        void testWeekOfYear() {
+            // 1403-01-01 is a Wednesday, so the first Saturday-based week has three days
+            assertEquals(1, JalaliDate.of(1403, 1, 1).getWeekOfYear());
+            assertEquals(1, JalaliDate.of(1403, 1, 3).getWeekOfYear());
+            assertEquals(2, JalaliDate.of(1403, 1, 4).getWeekOfYear());
+            assertEquals(53, JalaliDate.of(1403, 12, 30).getWeekOfYear());
+
+            assertEquals(0, JalaliDate.of(1403, 1, 3).getWeekOfYear(DayOfWeek.SATURDAY, 4));
+            assertEquals(1, JalaliDate.of(1403, 1, 4).getWeekOfYear(DayOfWeek.SATURDAY, 4));
+            assertEquals(1, JalaliDate.of(1403, 1, 1).getWeekOfYear(DayOfWeek.MONDAY, 4));
+            assertEquals(JalaliDate.of(1403, 1, 1).getWeekOfYear(DayOfWeek.MONDAY, 4),
+                    JalaliDate.of(1403, 1, 1).getWeekOfYear(WeekFields.ISO));
+            assertThrows(IllegalArgumentException.class, () -> JalaliDate.of(1403, 1, 1).getWeekOfYear(DayOfWeek.MONDAY, 8));
+
+            for (JalaliDate date = JalaliDate.of(1402, 1, 1); date.getYear() < 1405; date = date.plusDays(1)) {
+                for (int minimalDays = 1; minimalDays <= 7; minimalDays++) {
+                    WeekFields fields = WeekFields.of(DayOfWeek.SATURDAY, minimalDays);
+                    assertEquals(date.toChronoLocalDate().get(fields.weekOfYear()), date.getWeekOfYear(fields));
+                }
+            }
+        }
+
         @Test
         @DisplayName("Should detect weekends and weekdays")
         void testWeekendWeekday() {
@@ -524,6 +740,17 @@ class JalaliDateTest {
             assertEquals("1400-01-15", date.toString());
             assertEquals("1400-01-15", date.toIso());
 
+            Locale saved = Locale.getDefault(Locale.Category.FORMAT);
+            try {
+                Locale.setDefault(Locale.Category.FORMAT, Locale.forLanguageTag("fa-IR"));
+                // ISO text keeps ASCII digits so it can be parsed back
+                assertEquals("1400-01-15", date.toString());
+                assertEquals("1400-01-15", date.toIso());
+                assertEquals(date, JalaliDate.parse(date.toString()));
+            } finally {
+                Locale.setDefault(Locale.Category.FORMAT, saved);
+            }
+
             String full = date.format(JalaliDate.DateFormat.FULL);
             assertNotNull(full);
             assertTrue(full.contains("1400"));
@@ -560,6 +787,46 @@ class JalaliDateTest {
             assertNotNull(persian);
             assertNotEquals(english, persian);
         }
+
+        @Test
+        @DisplayName("Should write ISO dates into buffers")
+        void testWriteIso() {
+            JalaliDate date = JalaliDate.of(9, 5, 12);
+
+            byte[] bytes = new byte[12];
+            assertEquals(11, date.writeIso(bytes, 1));
+            assertEquals("0009-05-12", new String(bytes, 1, 10, StandardCharsets.US_ASCII));
+
+            byte[] utf8 = new byte[18];
+            assertEquals(18, JalaliDate.of(1403, 5, 12).writeIso(utf8, 0, true));
+            assertEquals("۱۴۰۳-۰۵-۱۲", new String(utf8, StandardCharsets.UTF_8));
+
+            char[] chars = new char[10];
+            assertEquals(10, JalaliDate.of(1403, 5, 12).writeIso(chars, 0, true));
+            assertEquals("۱۴۰۳-۰۵-۱۲", new String(chars));
+
+            assertThrows(IndexOutOfBoundsException.class, () -> date.writeIso(new byte[10], 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> date.writeIso(new byte[17], 0, true));
+        }
+
+        @Test
+        @DisplayName("Should append ISO dates to an appendable")
+        void testFormatToAppendable() {
+            StringBuilder sb = new StringBuilder("[");
+            JalaliDate.of(1403, 5, 12).formatTo(sb);
+            sb.append(',');
+            JalaliDate.of(1403, 5, 12).formatTo(sb, true);
+            assertEquals("[1403-05-12,۱۴۰۳-۰۵-۱۲", sb.toString());
+
+            StringWriter writer = new StringWriter();
+            JalaliDate.of(1, 1, 1).formatTo(writer);
+            JalaliDate.of(3178, 12, 29).formatTo(writer, true);
+            assertEquals("0001-01-01۳۱۷۸-۱۲-۲۹", writer.toString());
+
+            StringBuffer buffer = new StringBuffer();
+            JalaliDate.of(1403, 5, 12).formatTo(buffer);
+            assertEquals("1403-05-12", buffer.toString());
+        }
     }
 
     @Nested
@@ -595,6 +862,42 @@ class JalaliDateTest {
             // Should include Nowruz
             assertTrue(holidays.contains(JalaliDate.of(1400, 1, 1)));
         }
+
+        @Test
+        @DisplayName("Should memoize unmodifiable holiday lists")
+        void testHolidayListsCached() {
+            List<JalaliDate> holidays = JalaliDate.getHolidaysInYear(1403);
+            assertSame(holidays, JalaliDate.getHolidaysInYear(1403));
+            assertThrows(UnsupportedOperationException.class, () -> holidays.add(JalaliDate.of(1403, 2, 1)));
+
+            int[] epochDays = JalaliDate.holidayEpochDays(1403);
+            assertEquals(holidays.size(), epochDays.length);
+            for (int i = 0; i < epochDays.length; i++) {
+                assertEquals(holidays.get(i).toEpochDay(), epochDays[i]);
+            }
+            epochDays[0] = 0;
+            assertEquals(holidays.get(0).toEpochDay(), JalaliDate.holidayEpochDays(1403)[0]);
+        }
+
+        @Test
+        @DisplayName("Should get holidays for a month")
+        void testMonthlyHolidays() {
+            int total = 0;
+            for (int month = 1; month <= 12; month++) {
+                List<JalaliDate> holidays = JalaliDate.getHolidaysInMonth(1403, month);
+                for (JalaliDate holiday : holidays) {
+                    assertEquals(month, holiday.getMonth());
+                    assertTrue(holiday.isHoliday());
+                }
+                total += holidays.size();
+            }
+            assertEquals(JalaliDate.getHolidaysInYear(1403).size(), total);
+
+            List<JalaliDate> farvardin = JalaliDate.getHolidaysInMonth(1403, 1, WeekendPolicy.FRIDAY);
+            assertEquals(JalaliDate.of(1403, 1, 1), farvardin.get(0));
+            assertFalse(farvardin.contains(JalaliDate.of(1403, 1, 9)));
+            assertThrows(IllegalArgumentException.class, () -> JalaliDate.getHolidaysInMonth(1403, 13));
+        }
     }
 
     @Nested
@@ -632,6 +935,101 @@ class JalaliDateTest {
                     () -> JalaliDate.between(start, end));
         }
 
+        @Test
+        @DisplayName("Should stream a range with a sized, splittable spliterator")
+        void testRangeSpliterator() {
+            JalaliDate start = JalaliDate.of(1399, 1, 1);
+            JalaliDate end = JalaliDate.of(1402, 12, 29);
+            JalaliDate.JalaliDateRange range = JalaliDate.between(start, end);
+
+            Spliterator<JalaliDate> spliterator = range.stream().spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+            assertEquals(range.getDays(), spliterator.getExactSizeIfKnown());
+
+            Spliterator<JalaliDate> prefix = spliterator.trySplit();
+            assertNotNull(prefix);
+            assertEquals(range.getDays(), prefix.estimateSize() + spliterator.estimateSize());
+
+            List<JalaliDate> sequential = range.toList();
+            List<JalaliDate> parallel = range.stream().parallel().collect(Collectors.toList());
+            assertEquals(sequential, parallel);
+            assertEquals(range.getDays(), range.epochDays().count());
+            assertEquals(start.toEpochDay(), range.epochDays().min().getAsLong());
+            assertEquals(end.toEpochDay(), range.epochDaysAsInt().max().getAsInt());
+        }
+
+        @Test
+        @DisplayName("Should compute overlaps, intersections and unions")
+        void testRangeSetOperations() {
+            JalaliDate.JalaliDateRange a = JalaliDate.between(JalaliDate.of(1403, 1, 1), JalaliDate.of(1403, 1, 20));
+            JalaliDate.JalaliDateRange b = JalaliDate.between(JalaliDate.of(1403, 1, 15), JalaliDate.of(1403, 2, 5));
+            JalaliDate.JalaliDateRange c = JalaliDate.between(JalaliDate.of(1403, 1, 21), JalaliDate.of(1403, 1, 25));
+            JalaliDate.JalaliDateRange d = JalaliDate.between(JalaliDate.of(1403, 3, 1), JalaliDate.of(1403, 3, 2));
+
+            assertTrue(a.overlaps(b));
+            assertFalse(a.overlaps(c));
+            assertEquals(JalaliDate.between(JalaliDate.of(1403, 1, 15), JalaliDate.of(1403, 1, 20)), a.intersection(b));
+            assertNull(a.intersection(c));
+
+            assertEquals(JalaliDate.between(JalaliDate.of(1403, 1, 1), JalaliDate.of(1403, 2, 5)), a.union(b));
+            assertEquals(JalaliDate.between(JalaliDate.of(1403, 1, 1), JalaliDate.of(1403, 1, 25)), a.union(c));
+            assertThrows(IllegalArgumentException.class, () -> a.union(d));
+
+            assertTrue(a.contains(JalaliDate.of(1403, 1, 20).toEpochDay()));
+            assertFalse(a.contains(JalaliDate.of(1403, 1, 21).toEpochDay()));
+        }
+
+        @Test
+        @DisplayName("Should split ranges by period and materialize them")
+        void testRangeSplitAndToArray() {
+            JalaliDate.JalaliDateRange year = JalaliDate.between(JalaliDate.of(1403, 1, 1), JalaliDate.of(1403, 12, 30));
+
+            List<JalaliDate.JalaliDateRange> months = year.split(Period.ofMonths(1));
+            assertEquals(12, months.size());
+            assertEquals(JalaliDate.of(1403, 7, 1), months.get(6).getStart());
+            assertEquals(JalaliDate.of(1403, 7, 30), months.get(6).getEnd());
+            assertEquals(30, months.get(11).getDays());
+
+            List<JalaliDate.JalaliDateRange> weeks = year.split(Period.ofDays(7));
+            assertEquals(53, weeks.size());
+            assertEquals(366 - 52 * 7, weeks.get(52).getDays());
+            assertThrows(IllegalArgumentException.class, () -> year.split(Period.ZERO));
+
+            JalaliDate esfand = JalaliDate.of(3178, 12, 1);
+            JalaliDate lastSupported = esfand.plusDays(esfand.lengthOfMonth() - 1);
+            JalaliDate.JalaliDateRange lastYear = JalaliDate.between(JalaliDate.of(3178, 1, 1), lastSupported);
+            assertEquals(12, lastYear.split(Period.ofMonths(1)).size());
+            assertEquals(lastSupported, lastYear.split(Period.ofMonths(1)).get(11).getEnd());
+            assertEquals(List.of(lastYear), lastYear.split(Period.ofYears(1)));
+            assertEquals(List.of(lastYear), lastYear.split(Period.of(1, 2, 3)));
+            assertEquals(List.of(lastYear), lastYear.split(Period.of(0, 11, 40)));
+
+            JalaliDate[] dates = year.toArray();
+            assertEquals(366, dates.length);
+            assertEquals(JalaliDate.of(1403, 12, 30), dates[365]);
+            assertEquals(List.of(dates), year.toList());
+        }
+
+        @Test
+        @DisplayName("Should step datesUntil by days and by months")
+        void testDatesUntilSteps() {
+            JalaliDate start = JalaliDate.of(1400, 1, 1);
+
+            List<JalaliDate> weekly = start.datesUntil(JalaliDate.of(1400, 2, 1), Period.ofDays(7))
+                    .collect(Collectors.toList());
+            assertEquals(5, weekly.size());
+            assertEquals(JalaliDate.of(1400, 1, 29), weekly.get(4));
+
+            List<JalaliDate> monthly = start.datesUntil(JalaliDate.of(1401, 1, 1), Period.ofMonths(1))
+                    .collect(Collectors.toList());
+            assertEquals(12, monthly.size());
+            assertEquals(JalaliDate.of(1400, 12, 1), monthly.get(11));
+
+            assertEquals(0, start.datesUntil(start).count());
+            assertEquals(0, start.datesUntil(start.minusDays(3)).count());
+            assertEquals(4, start.datesUntil(start.plusDays(4)).parallel().count());
+        }
+
 //        @Test
 //        @DisplayName("Should create date streams")
 //        void testDateStreams() {
@@ -752,6 +1150,26 @@ class JalaliDateTest {
             assertEquals(date1.hashCode(), date2.hashCode());
             assertNotEquals(date1.hashCode(), date3.hashCode());
         }
+
+        @Test
+        @DisplayName("Should restore the cached epoch day after deserialization")
+        void testSerializationRoundTrip() throws Exception {
+            JalaliDate original = JalaliDate.of(1403, 5, 12);
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(original);
+            }
+            JalaliDate restored;
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                restored = (JalaliDate) in.readObject();
+            }
+
+            assertEquals(original, restored);
+            assertEquals(0, original.compareTo(restored));
+            assertEquals(original.toEpochDay(), restored.toEpochDay());
+            assertEquals(original.getDayOfWeek(), restored.getDayOfWeek());
+        }
     }
 
     @Nested
@@ -0,0 +1,75 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JalaliDateTimeFormatter Tests")
+class JalaliDateTimeFormatterTest {
+
+    private final JalaliDateTime dateTime = JalaliDateTime.of(1403, 5, 7, 9, 5, 7, 123_456_789);
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "yyyy/MM/dd HH:mm:ss | 1403/05/07 09:05:07",
+            "H:m:s | 9:5:7",
+            "HH:mm:ss.SSS | 09:05:07.123",
+            "ss.S | 07.1",
+            "ss.SSSSSSSSS | 07.123456789",
+            "EEEE d MMMM yyyy, HH:mm | Yekshanbe 7 Mordad 1403, 09:05"
+    })
+    @DisplayName("Should format date and time letters")
+    void testPatterns(String pattern, String expected) {
+        assertEquals(expected, JalaliDateTimeFormatter.ofPattern(pattern).format(dateTime));
+        assertEquals(expected, dateTime.format(JalaliDateTimeFormatter.ofPattern(pattern)));
+    }
+
+    @Test
+    @DisplayName("Should format offsets and zones")
+    void testZoneLetters() {
+        JalaliZonedDateTime tehran = JalaliZonedDateTime.ofInstant(Instant.parse("2024-07-28T05:35:07Z"), ZoneId.of("Asia/Tehran"));
+        JalaliZonedDateTime utc = tehran.withZoneSameInstant(ZoneOffset.UTC);
+        JalaliDateTimeFormatter formatter = JalaliDateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX'['VV']'");
+        assertEquals("1403-05-07T09:05:07+03:30[Asia/Tehran]", formatter.format(tehran));
+        assertEquals("1403-05-07T05:35:07Z[Z]", formatter.format(utc));
+        assertEquals("+00:00", JalaliDateTimeFormatter.ofPattern("xxx").format(utc));
+        assertEquals("+03:30", tehran.format(JalaliDateTimeFormatter.ofPattern("xxx")));
+
+        assertThrows(IllegalArgumentException.class, () -> formatter.format(dateTime));
+    }
+
+    @Test
+    @DisplayName("Should format with Persian digits and names")
+    void testPersianOptions() {
+        JalaliDateTimeFormatter formatter = JalaliDateTimeFormatter.ofPattern("EEEE d MMMM yyyy HH:mm")
+                .withPersianNames(true)
+                .withPersianDigits(true);
+        assertTrue(formatter.isPersianNames());
+        assertTrue(formatter.isPersianDigits());
+        assertEquals("یکشنبه ۷ مرداد ۱۴۰۳ ۰۹:۰۵", formatter.format(dateTime));
+        assertEquals("EEEE d MMMM yyyy HH:mm", formatter.getPattern());
+    }
+
+    @Test
+    @DisplayName("Should append to a builder")
+    void testFormatTo() {
+        StringBuilder sb = new StringBuilder("at ");
+        assertSame(sb, JalaliDateTimeFormatter.ofPattern("HH:mm").formatTo(dateTime, sb));
+        assertEquals("at 09:05", sb.toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"HHH", "SSSSSSSSSS", "XX", "V", "yyyy-MM-dd hh", "'open"})
+    @DisplayName("Should reject invalid patterns")
+    void testInvalidPatterns(String pattern) {
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateTimeFormatter.ofPattern(pattern));
+    }
+}
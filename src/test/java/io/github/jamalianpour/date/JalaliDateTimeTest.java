@@ -0,0 +1,132 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JalaliDateTime Tests")
+class JalaliDateTimeTest {
+
+    private static final ZoneId TEHRAN = ZoneId.of("Asia/Tehran");
+
+    @Test
+    @DisplayName("Should combine a Jalali date and a time")
+    void testFactories() {
+        JalaliDateTime dateTime = JalaliDateTime.of(1403, 5, 12, 14, 30, 5, 250_000_000);
+        assertEquals(JalaliDate.of(1403, 5, 12), dateTime.getDate());
+        assertEquals(LocalTime.of(14, 30, 5, 250_000_000), dateTime.getTime());
+        assertEquals(1403, dateTime.getYear());
+        assertEquals(5, dateTime.getMonth());
+        assertEquals(12, dateTime.getDay());
+        assertEquals(14, dateTime.getHour());
+        assertEquals(30, dateTime.getMinute());
+        assertEquals(5, dateTime.getSecond());
+        assertEquals(250_000_000, dateTime.getNano());
+        assertEquals(dateTime.getDate().getDayOfWeek(), dateTime.getDayOfWeek());
+
+        assertEquals(LocalDateTime.of(2024, 8, 2, 14, 30, 5, 250_000_000), dateTime.toLocalDateTime());
+        assertEquals(dateTime, JalaliDateTime.from(dateTime.toLocalDateTime()));
+        assertEquals(JalaliDateTime.of(1403, 5, 12, 14, 30), JalaliDateTime.of(JalaliDate.of(1403, 5, 12), LocalTime.of(14, 30)));
+
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateTime.of(1403, 12, 31, 0, 0));
+        assertThrows(NullPointerException.class, () -> JalaliDateTime.of(null, LocalTime.NOON));
+    }
+
+    @Test
+    @DisplayName("Should convert instants and epoch millis like ZonedDateTime")
+    void testInstantConversion() {
+        // 1403-01-01 is 2024-03-20, and Tehran has kept +03:30 all year since 1402
+        Instant nowruz = Instant.parse("2024-03-20T00:00:00Z");
+        JalaliDateTime dateTime = JalaliDateTime.ofInstant(nowruz, TEHRAN);
+        assertEquals(JalaliDateTime.of(1403, 1, 1, 3, 30), dateTime);
+        assertEquals(dateTime, JalaliDateTime.ofEpochMilli(nowruz.toEpochMilli(), TEHRAN));
+        assertEquals(nowruz.getEpochSecond(), dateTime.toEpochSecond(ZoneOffset.ofHoursMinutes(3, 30)));
+
+        // Tehran observed +04:30 in the summer of 1400
+        Instant summer = Instant.parse("2021-07-01T10:15:30.123Z");
+        assertEquals(JalaliDateTime.from(LocalDateTime.ofInstant(summer, TEHRAN)), JalaliDateTime.ofInstant(summer, TEHRAN));
+        assertEquals(JalaliDateTime.of(1400, 4, 10, 14, 45, 30, 123_000_000),
+                JalaliDateTime.ofEpochMilli(summer.toEpochMilli(), TEHRAN));
+
+        // Before 1970 the millis are floored
+        assertEquals(JalaliDateTime.of(1348, 10, 10, 23, 59, 59, 999_000_000),
+                JalaliDateTime.ofEpochMilli(-1, ZoneOffset.UTC));
+        assertEquals(JalaliDateTime.of(1348, 10, 11, 3, 30),
+                JalaliDateTime.now(Clock.fixed(Instant.EPOCH, ZoneOffset.ofHoursMinutes(3, 30))));
+
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateTime.ofEpochMilli(Long.MIN_VALUE, TEHRAN));
+    }
+
+    @Test
+    @DisplayName("Should add days and times across day boundaries")
+    void testArithmetic() {
+        JalaliDateTime dateTime = JalaliDateTime.of(1402, 12, 29, 22, 0);
+        assertEquals(JalaliDateTime.of(1403, 1, 1, 0, 30), dateTime.plusMinutes(150));
+        assertEquals(JalaliDateTime.of(1402, 12, 28, 22, 0), dateTime.plusHours(-24));
+        assertEquals(JalaliDateTime.of(1403, 1, 1, 22, 0), dateTime.plusDays(1));
+        assertEquals(JalaliDateTime.of(1402, 12, 29, 21, 59, 59), dateTime.plusSeconds(-1));
+        assertSame(dateTime, dateTime.plusSeconds(0));
+
+        assertTrue(dateTime.isBefore(dateTime.plusSeconds(1)));
+        assertTrue(dateTime.isAfter(dateTime.plusDays(-1)));
+        assertEquals(0, dateTime.compareTo(JalaliDateTime.of(1402, 12, 29, 22, 0)));
+    }
+
+    @Test
+    @DisplayName("Should print and parse ISO-8601 text")
+    void testIsoText() {
+        assertEquals("1403-05-12T14:30", JalaliDateTime.of(1403, 5, 12, 14, 30).toString());
+        assertEquals("1403-05-12T14:30:05", JalaliDateTime.of(1403, 5, 12, 14, 30, 5).toString());
+        assertEquals("1403-05-12T14:30:00.250", JalaliDateTime.of(1403, 5, 12, 14, 30, 0, 250_000_000).toString());
+        assertEquals("1403-05-12T14:30:00.000250", JalaliDateTime.of(1403, 5, 12, 14, 30, 0, 250_000).toString());
+        assertEquals("0009-01-01T00:00:00.000000001", JalaliDateTime.of(9, 1, 1, 0, 0, 0, 1).toString());
+
+        JalaliDateTime dateTime = JalaliDateTime.of(1403, 5, 12, 14, 30, 5, 123_456_789);
+        assertEquals(dateTime, JalaliDateTime.parse(dateTime.toString()));
+        assertEquals(JalaliDateTime.of(1403, 5, 12, 14, 30), JalaliDateTime.parse(" 1403-05-12 14:30 "));
+        assertEquals(JalaliDateTime.of(1403, 5, 12, 14, 30, 5, 500_000_000), JalaliDateTime.parse("1403/5/12T14:30:05.5"));
+        assertEquals(JalaliDateTime.of(1403, 5, 12, 14, 30), JalaliDateTime.parse("۱۴۰۳-۰۵-۱۲T۱۴:۳۰"));
+
+        byte[] buf = new byte[32];
+        int end = dateTime.writeIso(buf, 2);
+        assertEquals(dateTime.toString(), new String(buf, 2, end - 2, StandardCharsets.US_ASCII));
+        assertThrows(IndexOutOfBoundsException.class, () -> dateTime.writeIso(new byte[28], 0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1403-05-12", "1403-05-12T", "1403-05-12T24:00", "1403-05-12T14:60",
+            "1403-05-12T14:30:5", "1403-05-12T14:30:05.", "1403-05-12T14:30:05.1234567890", "1403-12-31T00:00",
+            "14:30", "1403-05-12T14:30Z"})
+    @DisplayName("Should reject invalid date-times")
+    void testInvalidText(String text) {
+        assertThrows(IllegalArgumentException.class, () -> JalaliDateTime.parse(text));
+    }
+
+    @Test
+    @DisplayName("Should serialize to a compact form")
+    void testSerialization() throws Exception {
+        JalaliDateTime dateTime = JalaliDateTime.of(1403, 5, 12, 14, 30, 5, 250);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(dateTime);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(dateTime, in.readObject());
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.BufferOverflowException;
+import java.nio.IntBuffer;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JalaliDates Tests")
+class JalaliDatesTest {
+
+    @Test
+    @DisplayName("Should pack and unpack fields as yyyymmdd")
+    void testPackUnpack() {
+        int packed = JalaliDates.pack(1403, 5, 12);
+        assertEquals(14030512, packed);
+        assertEquals(1403, JalaliDates.year(packed));
+        assertEquals(5, JalaliDates.month(packed));
+        assertEquals(12, JalaliDates.day(packed));
+        assertEquals(JalaliDate.of(1403, 5, 12), JalaliDates.unpack(packed));
+        assertEquals(packed, JalaliDates.pack(JalaliDate.of(1403, 5, 12)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1400, 13, 1",
+            "1400, 12, 30",
+            "0, 1, 1"
+    })
+    @DisplayName("Should reject invalid dates when packing")
+    void testPackInvalid(int year, int month, int day) {
+        assertThrows(IllegalArgumentException.class, () -> JalaliDates.pack(year, month, day));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -14030512, 14001330, 14001301, 14000001, 14001232, 31791201})
+    @DisplayName("Should detect invalid packed values")
+    void testIsValidFalse(int packed) {
+        assertFalse(JalaliDates.isValid(packed));
+    }
+
+    @Test
+    @DisplayName("Should answer queries like JalaliDate")
+    void testQueriesMatchJalaliDate() {
+        JalaliDate date = JalaliDate.of(1399, 1, 1);
+        for (int i = 0; i < 800; i++, date = date.plusDays(1)) {
+            int packed = JalaliDates.pack(date);
+            assertTrue(JalaliDates.isValid(packed));
+            assertEquals(date.toEpochDay(), JalaliDates.toEpochDay(packed));
+            assertEquals(date.getDayOfWeek(), JalaliDates.dayOfWeek(packed));
+            assertEquals(date.isLeapYear(), JalaliDates.isLeap(packed));
+            assertEquals(JalaliDates.pack(date.plusDays(45)), JalaliDates.plusDays(packed, 45));
+            assertEquals(packed, JalaliDates.ofEpochDay(date.toEpochDay()));
+            assertEquals(date.getDayOfYear(), JalaliDates.dayOfYear(packed));
+            assertEquals(date.getWeekOfYear(), JalaliDates.weekOfYear(packed));
+            assertEquals(date.getWeekOfYear(DayOfWeek.MONDAY, 4), JalaliDates.weekOfYear(packed, DayOfWeek.MONDAY, 4));
+            assertEquals(date.getQuarter(), JalaliDates.quarter(packed));
+            assertEquals(JalaliDates.pack(date.firstDayOfQuarter()), JalaliDates.firstDayOfQuarter(packed));
+            assertEquals(JalaliDates.pack(date.lastDayOfQuarter()), JalaliDates.lastDayOfQuarter(packed));
+            assertEquals(packed, JalaliDates.ofYearDay(date.getYear(), date.getDayOfYear()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should compute days between packed dates")
+    void testDaysBetween() {
+        assertEquals(366, JalaliDates.daysBetween(13990101, 14000101));
+        assertEquals(-365, JalaliDates.daysBetween(14010101, 14000101));
+    }
+
+    @Test
+    @DisplayName("Should compute months and periods between packed dates like JalaliDate")
+    void testPeriodBetween() {
+        assertEquals(Period.of(2, 2, 5), JalaliDates.periodBetween(14000115, 14020320));
+        assertEquals(Period.of(-2, -2, -5), JalaliDates.periodBetween(14020320, 14000115));
+        assertEquals(Period.of(0, 11, 29), JalaliDates.periodBetween(14031230, 14041229));
+        assertEquals(Period.ZERO, JalaliDates.periodBetween(14030101, 14030101));
+        assertEquals(26, JalaliDates.monthsBetween(14000115, 14020320));
+        assertEquals(-26, JalaliDates.monthsBetween(14020320, 14000115));
+
+        int[] pairs = {14000115, 14020320, 14031230, 14041229, 14030631, 14030701, 14041229, 14031230, 13990101, 14030229};
+        for (int i = 0; i < pairs.length; i += 2) {
+            JalaliDate from = JalaliDates.unpack(pairs[i]);
+            JalaliDate to = JalaliDates.unpack(pairs[i + 1]);
+            assertEquals(from.periodUntil(to), JalaliDates.periodBetween(pairs[i], pairs[i + 1]));
+            assertEquals(from.periodUntil(to), JalaliDates.periodBetweenEpochDays(from.toEpochDay(), to.toEpochDay()));
+            assertEquals(from.monthsUntil(to), JalaliDates.monthsBetween(pairs[i], pairs[i + 1]));
+        }
+        assertThrows(IllegalArgumentException.class, () -> JalaliDates.periodBetweenEpochDays(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should compute periods over parallel columns in bulk")
+    void testBulkPeriods() {
+        int[] from = new int[50];
+        int[] to = new int[50];
+        int[] fromEpochDays = new int[50];
+        int[] toEpochDays = new int[50];
+        long start = LocalDate.of(1980, 1, 1).toEpochDay();
+        for (int i = 0; i < from.length; i++) {
+            fromEpochDays[i] = (int) (start + i * 397);
+            toEpochDays[i] = (int) (start + 20000 - i * 211);
+            from[i] = JalaliDates.ofEpochDay(fromEpochDays[i]);
+            to[i] = JalaliDates.ofEpochDay(toEpochDays[i]);
+        }
+
+        int[] years = new int[51];
+        int[] months = new int[51];
+        int[] days = new int[51];
+        int[] totalMonths = new int[51];
+        JalaliDates.periodsBetween(from, to, 0, years, months, days, 1, from.length);
+        JalaliDates.monthsBetween(from, to, 0, totalMonths, 1, from.length);
+        for (int i = 0; i < from.length; i++) {
+            assertEquals(JalaliDates.periodBetween(from[i], to[i]), Period.of(years[i + 1], months[i + 1], days[i + 1]));
+            assertEquals(JalaliDates.monthsBetween(from[i], to[i]), totalMonths[i + 1]);
+        }
+
+        JalaliDates.periodsBetweenEpochDays(fromEpochDays, toEpochDays, 0, years, months, days, 0, from.length);
+        for (int i = 0; i < from.length; i++) {
+            assertEquals(JalaliDates.periodBetween(from[i], to[i]), Period.of(years[i], months[i], days[i]));
+        }
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> JalaliDates.periodsBetween(from, to, 0, years, months, new int[50], 1, from.length));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> JalaliDates.monthsBetween(from, new int[49], 0, totalMonths, 0, from.length));
+    }
+
+    @Test
+    @DisplayName("Should convert epoch day columns in bulk")
+    void testBulkArrays() {
+        int[] epochDays = new int[100];
+        long start = LocalDate.of(2024, 3, 1).toEpochDay();
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = (int) (start + i * 3);
+        }
+
+        int[] packed = new int[102];
+        JalaliDates.fromEpochDays(epochDays, 0, packed, 2, epochDays.length);
+        for (int i = 0; i < epochDays.length; i++) {
+            assertEquals(JalaliDates.pack(JalaliDate.ofEpochDay(epochDays[i])), packed[i + 2]);
+        }
+
+        int[] back = new int[100];
+        JalaliDates.toEpochDays(packed, 2, back, 0, back.length);
+        assertArrayEquals(epochDays, back);
+
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> JalaliDates.fromEpochDays(epochDays, 0, packed, 3, epochDays.length));
+    }
+
+    @Test
+    @DisplayName("Should convert IntBuffer columns in bulk")
+    void testBulkBuffers() {
+        IntBuffer src = IntBuffer.wrap(new int[]{0, 19000, 20000});
+        IntBuffer dst = IntBuffer.allocate(3);
+        JalaliDates.fromEpochDays(src, dst);
+        assertFalse(src.hasRemaining());
+        assertEquals(13481011, dst.get(0));
+
+        dst.flip();
+        IntBuffer back = IntBuffer.allocate(3);
+        JalaliDates.toEpochDays(dst, back);
+        assertArrayEquals(new int[]{0, 19000, 20000}, back.array());
+
+        assertThrows(BufferOverflowException.class,
+                () -> JalaliDates.fromEpochDays(IntBuffer.wrap(new int[2]), IntBuffer.allocate(1)));
+    }
+
+    @Test
+    @DisplayName("Should convert long columns in parallel on a caller-supplied pool")
+    void testParallelArrays() {
+        int n = 10_000;
+        long[] epochDays = new long[n];
+        for (int i = 0; i < n; i++) {
+            epochDays[i] = -5000 + i * 7L;
+        }
+        int[] expected = new int[n];
+        JalaliDate.ofEpochDays(epochDays, 0, expected, 0, n);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int[] actual = new int[n];
+            JalaliDates.fromEpochDaysParallel(epochDays, 0, actual, 0, n, pool, 100);
+            assertArrayEquals(expected, actual);
+
+            epochDays[n - 1] = Long.MAX_VALUE;
+            assertThrows(IllegalArgumentException.class,
+                    () -> JalaliDates.fromEpochDaysParallel(epochDays, 0, new int[n], 0, n, pool, 100));
+            assertThrows(IllegalArgumentException.class,
+                    () -> JalaliDates.fromEpochDaysParallel(epochDays, 0, new int[n], 0, n, pool, 0));
+            assertThrows(NullPointerException.class,
+                    () -> JalaliDates.fromEpochDaysParallel(epochDays, 0, new int[n], 0, n, null));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should convert IntBuffer columns in parallel and advance positions")
+    void testParallelBuffers() {
+        int n = 5_000;
+        IntBuffer src = IntBuffer.allocate(n + 1);
+        src.put(0);
+        for (int i = 0; i < n; i++) {
+            src.put(i * 3);
+        }
+        src.flip().position(1);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            IntBuffer dst = IntBuffer.allocate(n);
+            JalaliDates.fromEpochDaysParallel(src, dst, pool, 64);
+            assertFalse(src.hasRemaining());
+            assertFalse(dst.hasRemaining());
+            for (int i = 0; i < n; i++) {
+                assertEquals(JalaliDates.ofEpochDay(i * 3L), dst.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JalaliMonthGrid Tests")
+class JalaliMonthGridTest {
+
+    @Test
+    @DisplayName("Should lay out a month starting on Saturday")
+    void testLayout() {
+        // 1403-01-01 is a Wednesday, column 4
+        JalaliMonthGrid grid = JalaliMonthGrid.of(1403, 1);
+        int first = grid.indexOf(JalaliDate.of(1403, 1, 1).toEpochDay());
+        assertEquals(4, first);
+        assertEquals(1, grid.getDayOfMonth(first));
+        assertEquals(4, grid.getDayOfWeek(first));
+        assertEquals(JalaliDate.of(1403, 1, 1), grid.getDate(first));
+
+        // Leading cells hold the end of Esfand 1402, a common year of 29 days
+        assertEquals(26, grid.getDayOfMonth(0));
+        assertFalse(grid.isInMonth(0));
+        assertEquals(JalaliDate.of(1402, 12, 26), grid.getDate(0));
+
+        // 31 days from column 4 end at cell 34; the rest is Ordibehesht
+        assertTrue(grid.isInMonth(34));
+        assertEquals(31, grid.getDayOfMonth(34));
+        assertFalse(grid.isInMonth(35));
+        assertEquals(1, grid.getDayOfMonth(35));
+        assertEquals(JalaliDate.of(1403, 2, 7), grid.getDate(JalaliMonthGrid.CELLS - 1));
+
+        for (int cell = 0; cell < JalaliMonthGrid.CELLS; cell++) {
+            JalaliDate date = grid.getDate(cell);
+            assertEquals(date.getDay(), grid.getDayOfMonth(cell));
+            assertEquals(date.getDayOfWeek(), grid.getDayOfWeek(cell));
+            assertEquals(date.isHoliday(), grid.isHoliday(cell));
+            assertEquals(date.getMonth() == 1, grid.isInMonth(cell));
+        }
+    }
+
+    @Test
+    @DisplayName("Should flag weekends, holidays and today")
+    void testFlags() {
+        JalaliMonthGrid grid = JalaliMonthGrid.of(1403, 1, WeekendPolicy.FRIDAY);
+        int nowruz = grid.indexOf(JalaliDate.of(1403, 1, 1).toEpochDay());
+        assertEquals(JalaliMonthGrid.IN_MONTH | JalaliMonthGrid.HOLIDAY, grid.getFlags(nowruz));
+        assertEquals("Nowruz", grid.getHolidayName(nowruz));
+
+        int thursday = grid.indexOf(JalaliDate.of(1403, 1, 9).toEpochDay());
+        assertEquals(JalaliMonthGrid.IN_MONTH, grid.getFlags(thursday));
+        assertNull(grid.getHolidayName(thursday));
+        assertEquals(JalaliMonthGrid.IN_MONTH | JalaliMonthGrid.WEEKEND, grid.getFlags(thursday + 1));
+
+        long today = JalaliDate.of(1403, 1, 9).toEpochDay();
+        assertEquals(JalaliMonthGrid.IN_MONTH | JalaliMonthGrid.TODAY, grid.getFlags(thursday, today));
+        assertEquals(-1, grid.indexOf(JalaliDate.of(1403, 3, 1).toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Should cache grids per month and policy")
+    void testCache() {
+        JalaliMonthGrid grid = JalaliMonthGrid.of(1403, 5);
+        assertSame(grid, JalaliMonthGrid.of(1403, 5, WeekendPolicy.THURSDAY_FRIDAY));
+        assertSame(grid, JalaliDate.of(1403, 5, 20).monthGrid());
+        assertNotSame(grid, JalaliMonthGrid.of(1403, 5, WeekendPolicy.FRIDAY));
+        assertEquals(WeekendPolicy.FRIDAY, JalaliMonthGrid.of(1403, 5, WeekendPolicy.FRIDAY).getWeekendPolicy());
+    }
+
+    @Test
+    @DisplayName("Should fill caller-supplied arrays")
+    void testFill() {
+        int[] epochDays = new int[JalaliMonthGrid.CELLS];
+        byte[] days = new byte[JalaliMonthGrid.CELLS];
+        byte[] flags = new byte[JalaliMonthGrid.CELLS];
+        long today = JalaliDate.of(1403, 12, 30).toEpochDay();
+        JalaliMonthGrid.fill(1403, 12, WeekendPolicy.THURSDAY_FRIDAY, today, epochDays, days, flags);
+
+        JalaliMonthGrid grid = JalaliMonthGrid.of(1403, 12);
+        for (int cell = 0; cell < JalaliMonthGrid.CELLS; cell++) {
+            assertEquals(grid.getEpochDay(cell), epochDays[cell]);
+            assertEquals(grid.getDayOfMonth(cell), days[cell]);
+            assertEquals(grid.getFlags(cell, today), flags[cell]);
+        }
+        int last = grid.indexOf(today);
+        assertEquals(30, days[last]);
+        assertEquals(1, days[last + 1]);
+        assertTrue((flags[last] & JalaliMonthGrid.TODAY) != 0);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> JalaliMonthGrid.fill(1403, 12,
+                WeekendPolicy.FRIDAY, today, new int[41], days, flags));
+        assertThrows(IllegalArgumentException.class, () -> JalaliMonthGrid.of(1403, 13));
+    }
+
+    @Test
+    @DisplayName("Should leave cells outside the supported range empty")
+    void testRangeEdges() {
+        JalaliMonthGrid first = JalaliMonthGrid.of(1, 1);
+        JalaliMonthGrid last = JalaliMonthGrid.of(3178, 12);
+        assertEquals(0, first.getFlags(0) & JalaliMonthGrid.IN_MONTH);
+        int lastCell = JalaliMonthGrid.CELLS - 1;
+        assertEquals(0, last.getDayOfMonth(lastCell));
+        assertEquals(0, last.getFlags(lastCell));
+    }
+}
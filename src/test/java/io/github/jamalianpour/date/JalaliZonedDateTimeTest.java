@@ -0,0 +1,126 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JalaliZonedDateTime Tests")
+class JalaliZonedDateTimeTest {
+
+    private static final ZoneId TEHRAN = ZoneId.of("Asia/Tehran");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Test
+    @DisplayName("Should convert epoch millis like ZonedDateTime in zones with transitions")
+    void testEpochMilli() {
+        long start = Instant.parse("1970-01-01T00:00:00Z").toEpochMilli();
+        for (ZoneId zone : new ZoneId[]{TEHRAN, NEW_YORK, ZoneOffset.UTC, ZoneId.of("Australia/Lord_Howe")}) {
+            for (long millis = start; millis < start + 60L * 365 * 86_400_000; millis += 86_400_000L * 7 + 3_600_123) {
+                ZonedDateTime expected = Instant.ofEpochMilli(millis).atZone(zone);
+                JalaliZonedDateTime dateTime = JalaliZonedDateTime.ofEpochMilli(millis, zone);
+                assertEquals(expected.getOffset(), dateTime.getOffset());
+                assertEquals(expected.toLocalDateTime(), dateTime.getDateTime().toLocalDateTime());
+                assertEquals(expected, dateTime.toZonedDateTime());
+                assertEquals(millis, dateTime.toEpochMilli());
+            }
+        }
+
+        JalaliZonedDateTime nowruz = JalaliZonedDateTime.ofInstant(Instant.parse("2024-03-20T00:00:00Z"), TEHRAN);
+        assertEquals(JalaliDate.of(1403, 1, 1), nowruz.getDate());
+        assertEquals(3, nowruz.getHour());
+        assertEquals(30, nowruz.getMinute());
+        assertEquals(ZoneOffset.ofHoursMinutes(3, 30), nowruz.getOffset());
+        assertEquals(TEHRAN, nowruz.getZone());
+        assertEquals(Instant.parse("2024-03-20T00:00:00Z"), nowruz.toInstant());
+        assertEquals(nowruz, JalaliZonedDateTime.now(Clock.fixed(nowruz.toInstant(), TEHRAN)));
+    }
+
+    @Test
+    @DisplayName("Should resolve gaps and overlaps like ZonedDateTime")
+    void testOfLocal() {
+        // New York skipped 02:00-03:00 on 2024-03-10 and repeated 01:00-02:00 on 2024-11-03
+        LocalDateTime gap = LocalDateTime.of(2024, 3, 10, 2, 30);
+        LocalDateTime overlap = LocalDateTime.of(2024, 11, 3, 1, 30);
+        assertEquals(ZonedDateTime.of(gap, NEW_YORK), JalaliDateTime.from(gap).atZone(NEW_YORK).toZonedDateTime());
+        assertEquals(ZonedDateTime.of(overlap, NEW_YORK), JalaliDateTime.from(overlap).atZone(NEW_YORK).toZonedDateTime());
+        assertEquals(3, JalaliDateTime.from(gap).atZone(NEW_YORK).getHour());
+
+        JalaliZonedDateTime fixed = JalaliZonedDateTime.of(JalaliDateTime.of(1403, 5, 12, 14, 30), ZoneOffset.UTC);
+        assertSame(ZoneOffset.UTC, fixed.getZone());
+        assertEquals("1403-05-12T14:30Z", fixed.toString());
+    }
+
+    @Test
+    @DisplayName("Should change zone keeping the instant")
+    void testWithZoneSameInstant() {
+        JalaliZonedDateTime tehran = JalaliZonedDateTime.ofInstant(Instant.parse("2024-03-19T22:00:00Z"), TEHRAN);
+        JalaliZonedDateTime utc = tehran.withZoneSameInstant(ZoneOffset.UTC);
+        assertEquals(JalaliDateTime.of(1403, 1, 1, 1, 30), tehran.getDateTime());
+        assertEquals(JalaliDateTime.of(1402, 12, 29, 22, 0), utc.getDateTime());
+        assertEquals(tehran.toInstant(), utc.toInstant());
+        assertSame(tehran, tehran.withZoneSameInstant(TEHRAN));
+
+        assertFalse(tehran.isBefore(utc));
+        assertFalse(tehran.isAfter(utc));
+        assertNotEquals(0, tehran.compareTo(utc));
+        assertNotEquals(tehran, utc);
+        assertTrue(utc.isBefore(tehran.withZoneSameInstant(NEW_YORK).withZoneSameInstant(ZoneOffset.UTC)
+                .getDateTime().plusSeconds(1).atZone(ZoneOffset.UTC)));
+    }
+
+    @Test
+    @DisplayName("Should print and parse ISO-8601 text")
+    void testIsoText() {
+        JalaliZonedDateTime dateTime = JalaliZonedDateTime.ofInstant(Instant.parse("2024-08-02T11:00:05.250Z"), TEHRAN);
+        assertEquals("1403-05-12T14:30:05.250+03:30[Asia/Tehran]", dateTime.toString());
+        assertEquals(dateTime, JalaliZonedDateTime.parse(dateTime.toString()));
+
+        JalaliZonedDateTime offset = JalaliZonedDateTime.parse("1403-05-12T14:30+03:30");
+        assertEquals(ZoneOffset.ofHoursMinutes(3, 30), offset.getZone());
+        assertEquals(dateTime.toEpochSecond() - 5, offset.toEpochSecond());
+        assertEquals(JalaliZonedDateTime.parse("1403-05-12T11:00Z").toInstant(), offset.toInstant());
+
+        // The instant is kept when the offset does not match the zone
+        JalaliZonedDateTime shifted = JalaliZonedDateTime.parse("1403-05-12T11:00Z[Asia/Tehran]");
+        assertEquals(JalaliDateTime.of(1403, 5, 12, 14, 30), shifted.getDateTime());
+        assertEquals(TEHRAN, shifted.getZone());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1403-05-12T14:30", "1403-05-12T14:30+25:00", "1403-05-12T14:30Z[Mars/Olympus]",
+            "1403-05-12T14:30Z[Asia/Tehran", "Z", "1403-05-12+03:30"})
+    @DisplayName("Should reject invalid zoned date-times")
+    void testInvalidText(String text) {
+        assertThrows(IllegalArgumentException.class, () -> JalaliZonedDateTime.parse(text));
+    }
+
+    @Test
+    @DisplayName("Should serialize to a compact form")
+    void testSerialization() throws Exception {
+        JalaliZonedDateTime[] values = {
+                JalaliZonedDateTime.ofEpochMilli(1_722_596_405_250L, TEHRAN),
+                JalaliZonedDateTime.ofEpochMilli(1_722_596_405_250L, ZoneOffset.ofHours(-5))
+        };
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(values);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertArrayEquals(values, (Object[]) in.readObject());
+        }
+    }
+}
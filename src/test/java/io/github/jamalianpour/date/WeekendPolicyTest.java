@@ -0,0 +1,111 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WeekendPolicy Tests")
+class WeekendPolicyTest {
+
+    // 1403-01-09 is a Thursday, 1403-01-10 a Friday and 1403-01-11 a Saturday
+    private final JalaliDate thursday = JalaliDate.of(1403, 1, 9);
+    private final JalaliDate friday = JalaliDate.of(1403, 1, 10);
+    private final JalaliDate saturday = JalaliDate.of(1403, 1, 11);
+
+    @Test
+    @DisplayName("Should map days to the Saturday-based mask")
+    void testMask() {
+        assertEquals(0b1100000, WeekendPolicy.THURSDAY_FRIDAY.getMask());
+        assertEquals(0b1000001, WeekendPolicy.FRIDAY_SATURDAY.getMask());
+        assertEquals(WeekendPolicy.FRIDAY, WeekendPolicy.of(DayOfWeek.FRIDAY));
+        assertEquals(WeekendPolicy.SATURDAY_SUNDAY, WeekendPolicy.ofMask(0b11));
+        assertEquals(EnumSet.of(DayOfWeek.THURSDAY, DayOfWeek.FRIDAY), WeekendPolicy.THURSDAY_FRIDAY.getWeekendDays());
+        assertEquals(0, WeekendPolicy.of().getMask());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 128, 0x100})
+    @DisplayName("Should reject masks wider than seven bits")
+    void testInvalidMask(int mask) {
+        assertThrows(IllegalArgumentException.class, () -> WeekendPolicy.ofMask(mask));
+    }
+
+    @Test
+    @DisplayName("Should check weekend days by epoch day")
+    void testIsWeekend() {
+        assertTrue(thursday.isWeekend());
+        assertTrue(thursday.isWeekend(WeekendPolicy.THURSDAY_FRIDAY));
+        assertFalse(thursday.isWeekend(WeekendPolicy.FRIDAY));
+        assertTrue(friday.isWeekend(WeekendPolicy.FRIDAY));
+        assertTrue(saturday.isWeekend(WeekendPolicy.FRIDAY_SATURDAY));
+        assertFalse(saturday.isWeekend(WeekendPolicy.THURSDAY_FRIDAY));
+        assertTrue(WeekendPolicy.FRIDAY.isWeekend(DayOfWeek.FRIDAY));
+        assertTrue(WeekendPolicy.FRIDAY.isWeekend(friday.toEpochDay()));
+    }
+
+    @Test
+    @DisplayName("Should name every weekend day that counts as a holiday")
+    void testHolidayNamesAgree() {
+        for (WeekendPolicy policy : new WeekendPolicy[]{
+                WeekendPolicy.THURSDAY_FRIDAY, WeekendPolicy.FRIDAY, WeekendPolicy.FRIDAY_SATURDAY}) {
+            for (JalaliDate date = JalaliDate.of(1403, 1, 1); date.getYear() == 1403; date = date.plusDays(1)) {
+                assertEquals(date.isHoliday(policy), date.getHolidayName(policy) != null, date + " " + policy);
+            }
+        }
+        assertEquals("Thursday (Weekend)", thursday.getHolidayName());
+        assertNull(thursday.getHolidayName(WeekendPolicy.FRIDAY));
+        assertEquals("Saturday (Weekend)", saturday.getHolidayName(WeekendPolicy.FRIDAY_SATURDAY));
+    }
+
+    @Test
+    @DisplayName("Should list holidays and weekend days of a year")
+    void testHolidaysInYear() {
+        List<JalaliDate> thursdayFriday = JalaliDate.getHolidaysInYear(1403, WeekendPolicy.THURSDAY_FRIDAY);
+        List<JalaliDate> fridayOnly = JalaliDate.getHolidaysInYear(1403, WeekendPolicy.FRIDAY);
+        assertTrue(thursdayFriday.contains(thursday));
+        assertFalse(fridayOnly.contains(thursday));
+        assertTrue(fridayOnly.contains(friday));
+        assertEquals(JalaliDate.getHolidaysInYear(1403), thursdayFriday);
+        for (int i = 1; i < fridayOnly.size(); i++) {
+            assertTrue(fridayOnly.get(i - 1).isBefore(fridayOnly.get(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should move to working days under the policy")
+    void testWorkingDays() {
+        JalaliDate wednesday = JalaliDate.of(1403, 1, 8);
+        assertEquals(saturday, wednesday.nextWorkingDay());
+        assertEquals(thursday, wednesday.nextWorkingDay(WeekendPolicy.FRIDAY));
+        assertEquals(JalaliDate.of(1403, 1, 14), thursday.nextWorkingDay(WeekendPolicy.FRIDAY_SATURDAY));
+        assertEquals(thursday, saturday.previousWorkingDay(WeekendPolicy.FRIDAY));
+        assertEquals(wednesday, saturday.previousWorkingDay());
+
+        WorkingDayCalendar fridayOnly = WorkingDayCalendar.getDefault(WeekendPolicy.FRIDAY);
+        assertSame(fridayOnly, WorkingDayCalendar.getDefault(WeekendPolicy.ofMask(WeekendPolicy.FRIDAY.getMask())));
+        assertEquals(WeekendPolicy.FRIDAY, fridayOnly.getWeekendPolicy());
+        assertTrue(fridayOnly.workingDaysInYear(1403) > WorkingDayCalendar.getDefault().workingDaysInYear(1403));
+    }
+
+    @Test
+    @DisplayName("Should apply a replaced default policy")
+    void testDefaultPolicy() {
+        try {
+            WeekendPolicy.setDefault(WeekendPolicy.FRIDAY);
+            assertFalse(thursday.isWeekend());
+            assertFalse(thursday.isHoliday());
+            assertTrue(thursday.isWorkingDay());
+            assertEquals(thursday, JalaliDate.of(1403, 1, 8).nextWorkingDay());
+        } finally {
+            WeekendPolicy.setDefault(WeekendPolicy.THURSDAY_FRIDAY);
+        }
+        assertTrue(thursday.isWeekend());
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WorkingDayCalendar Tests")
+class WorkingDayCalendarTest {
+
+    private final WorkingDayCalendar calendar = WorkingDayCalendar.of(HolidayCalendar.iran());
+
+    @Test
+    @DisplayName("Should skip weekends and holidays around Nowruz")
+    void testPlusWorkingDays() {
+        JalaliDate lastWorkingDay = JalaliDate.of(1402, 12, 28);
+        // 1402-12-29 is a holiday, 1403-01-01 to 01-04 are holidays or weekend
+        assertEquals(JalaliDate.of(1403, 1, 5), lastWorkingDay.plusWorkingDays(1));
+        assertEquals(lastWorkingDay, JalaliDate.of(1403, 1, 5).plusWorkingDays(-1));
+        assertEquals(JalaliDate.of(1403, 1, 14), lastWorkingDay.plusWorkingDays(6));
+        assertEquals(JalaliDate.of(1403, 1, 1), JalaliDate.of(1403, 1, 1).plusWorkingDays(0));
+
+        assertEquals(JalaliDate.of(1403, 1, 5), JalaliDate.of(1403, 1, 1).nextWorkingDay());
+        assertEquals(lastWorkingDay, JalaliDate.of(1403, 1, 1).previousWorkingDay());
+    }
+
+    @Test
+    @DisplayName("Should move across many years in both directions")
+    void testLongDistances() {
+        long start = JalaliDate.of(1400, 6, 1).toEpochDay();
+        long end = calendar.plusWorkingDays(start, 10_000);
+        assertEquals(10_000, calendar.workingDaysBetween(start + 1, end + 1));
+        assertEquals(start, calendar.plusWorkingDays(end, -10_000));
+    }
+
+    @Test
+    @DisplayName("Should match year totals across the whole range")
+    void testWholeRange() {
+        long first = JalaliDate.of(1, 1, 1).toEpochDay();
+        JalaliDate esfand = JalaliDate.of(3178, 12, 1);
+        long end = esfand.toEpochDay() + esfand.lengthOfMonth();
+        long total = 0;
+        for (int year = 1; year <= 3178; year++) {
+            total += calendar.workingDaysInYear(year);
+        }
+        assertEquals(total, calendar.workingDaysBetween(first, end));
+        assertEquals(-total, calendar.workingDaysBetween(end, first));
+        assertEquals(0, calendar.workingDaysBetween(end, end));
+        assertThrows(IllegalArgumentException.class, () -> calendar.workingDaysBetween(first, end + 1));
+
+        long firstWorking = calendar.isWorkingDay(first) ? first : calendar.plusWorkingDays(first, 1);
+        long lastWorking = calendar.plusWorkingDays(end - 1, -1);
+        if (calendar.isWorkingDay(end - 1)) lastWorking = end - 1;
+        assertEquals(lastWorking, calendar.plusWorkingDays(firstWorking, total - 1));
+        assertEquals(firstWorking, calendar.plusWorkingDays(lastWorking, 1 - total));
+    }
+
+    @Test
+    @DisplayName("Should only read holidays of the years a query spans")
+    void testSpannedYearsOnly() {
+        Set<Integer> years = ConcurrentHashMap.newKeySet();
+        WorkingDayCalendar counting = WorkingDayCalendar.of(HolidayCalendar.builder()
+                .iranianHolidays()
+                .source((year, sink) -> years.add(year))
+                .build());
+        assertEquals(JalaliDate.of(1402, 12, 28).toEpochDay(),
+                counting.plusWorkingDays(JalaliDate.of(1403, 1, 1).toEpochDay(), -1));
+        counting.workingDaysBetween(JalaliDate.of(1403, 12, 20).toEpochDay(), JalaliDate.of(1404, 1, 20).toEpochDay());
+        counting.workingDaysBetween(JalaliDate.of(1398, 6, 1).toEpochDay(), JalaliDate.of(1401, 6, 1).toEpochDay());
+        assertEquals(Set.of(1398, 1399, 1400, 1401, 1402, 1403, 1404), years);
+    }
+
+    @Test
+    @DisplayName("Should count working days in half-open spans")
+    void testWorkingDaysBetween() {
+        JalaliDate start = JalaliDate.of(1403, 1, 1);
+        JalaliDate end = JalaliDate.of(1403, 2, 1);
+        assertEquals(17, start.workingDaysUntil(end));
+        assertEquals(-17, end.workingDaysUntil(start));
+        assertEquals(0, start.workingDaysUntil(start));
+        assertEquals(17, calendar.workingDaysInMonth(1403, 1));
+
+        int total = 0;
+        for (int month = 1; month <= 12; month++) {
+            total += calendar.workingDaysInMonth(1403, month);
+        }
+        assertEquals(total, calendar.workingDaysInYear(1403));
+        assertEquals(total, start.workingDaysUntil(JalaliDate.of(1404, 1, 1)));
+    }
+
+    @Test
+    @DisplayName("Should find the n-th working day of a month")
+    void testNthWorkingDayOfMonth() {
+        assertEquals(JalaliDate.of(1403, 1, 5), JalaliDate.nthWorkingDayOfMonth(1403, 1, 1));
+        assertEquals(JalaliDate.of(1403, 1, 14), JalaliDate.nthWorkingDayOfMonth(1403, 1, 6));
+        assertEquals(JalaliDate.of(1403, 1, 29), JalaliDate.nthWorkingDayOfMonth(1403, 1, 17));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 18, -1})
+    @DisplayName("Should reject positions outside the month")
+    void testNthWorkingDayOutOfRange(int n) {
+        assertThrows(IllegalArgumentException.class, () -> calendar.nthWorkingDayOfMonth(1403, 1, n));
+    }
+
+    @Test
+    @DisplayName("Should use the holidays of the calendar")
+    void testCustomHolidays() {
+        JalaliDate closed = JalaliDate.of(1403, 1, 5);
+        WorkingDayCalendar custom = WorkingDayCalendar.of(
+                HolidayCalendar.builder().iranianHolidays().date(closed, "Closed").build());
+        assertTrue(calendar.isWorkingDay(closed.toEpochDay()));
+        assertFalse(custom.isWorkingDay(closed.toEpochDay()));
+        assertEquals(16, custom.workingDaysInMonth(1403, 1));
+        assertEquals(JalaliDate.of(1403, 1, 6).toEpochDay(), custom.nthWorkingDayOfMonth(1403, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Should fail beyond the supported range")
+    void testOutOfRange() {
+        long last = JalaliDate.of(3178, 12, 20).toEpochDay();
+        assertThrows(IllegalArgumentException.class, () -> calendar.plusWorkingDays(last, 100));
+        long first = JalaliDate.of(1, 1, 10).toEpochDay();
+        assertThrows(IllegalArgumentException.class, () -> calendar.plusWorkingDays(first, -100));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 100, Long.MIN_VALUE + 100, 2_000_000, -2_000_000})
+    @DisplayName("Should fail instead of overflowing for huge distances")
+    void testHugeDistances(long n) {
+        JalaliDate date = JalaliDate.of(1403, 1, 10);
+        assertThrows(IllegalArgumentException.class, () -> date.plusWorkingDays(n));
+        assertThrows(IllegalArgumentException.class, () -> calendar.plusWorkingDays(date.toEpochDay(), n));
+    }
+}
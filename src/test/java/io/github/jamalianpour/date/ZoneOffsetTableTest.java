@@ -0,0 +1,70 @@
+package io.github.jamalianpour.date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ZoneOffsetTable Tests")
+class ZoneOffsetTableTest {
+
+    @Test
+    @DisplayName("Should match the zone rules on both sides of every transition")
+    void testTransitions() {
+        for (String id : new String[]{"Asia/Tehran", "Europe/London", "America/Sao_Paulo"}) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneRules rules = zone.getRules();
+            ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("1900-01-01T00:00:00Z"));
+            while (transition != null && transition.getInstant().isBefore(Instant.parse("2100-01-01T00:00:00Z"))) {
+                long second = transition.toEpochSecond();
+                assertEquals(transition.getOffsetBefore(), table.getOffset(second - 1));
+                assertEquals(transition.getOffsetAfter(), table.getOffset(second));
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the zone rules outside the table")
+    void testOutsideWindow() {
+        ZoneId zone = ZoneId.of("Europe/London");
+        ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+        for (String instant : new String[]{"1850-06-01T00:00:00Z", "2150-07-01T00:00:00Z", "2150-01-01T00:00:00Z"}) {
+            Instant value = Instant.parse(instant);
+            assertEquals(zone.getRules().getOffset(value), table.getOffset(value.getEpochSecond()));
+        }
+        assertEquals(ZoneOffset.ofHours(5), ZoneOffsetTable.of(ZoneOffset.ofHours(5)).getOffset(Long.MIN_VALUE));
+    }
+
+    @Test
+    @DisplayName("Should cache tables per zone")
+    void testCache() {
+        ZoneId zone = ZoneId.of("Asia/Tehran");
+        assertSame(ZoneOffsetTable.of(zone), ZoneOffsetTable.of(ZoneId.of("Asia/Tehran")));
+    }
+
+    @Test
+    @DisplayName("Should keep the tables of zones with colliding hash codes")
+    void testCollidingZones() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        ZoneId berlin = ZoneId.of("Europe/Berlin");
+        // Both hash to the same slot of a 32-entry direct-mapped cache
+        assertEquals(Math.floorMod(newYork.hashCode(), 32), Math.floorMod(berlin.hashCode(), 32));
+        ZoneOffsetTable newYorkTable = ZoneOffsetTable.of(newYork);
+        ZoneOffsetTable berlinTable = ZoneOffsetTable.of(berlin);
+        long second = Instant.parse("2024-07-01T12:00:00Z").getEpochSecond();
+        for (int i = 0; i < 4; i++) {
+            assertSame(newYorkTable, ZoneOffsetTable.of(newYork));
+            assertEquals(ZoneOffset.ofHours(-4), ZoneOffsetTable.of(newYork).getOffset(second));
+            assertSame(berlinTable, ZoneOffsetTable.of(berlin));
+            assertEquals(ZoneOffset.ofHours(2), ZoneOffsetTable.of(berlin).getOffset(second));
+        }
+    }
+}